@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 18/10/2026, 10:04, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.InvocableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The base class for benchmarks of the basic {@link NamedCache} operations
+ * against a cluster of {@link com.oracle.coherence.graal.Server} members.
+ * <p>
+ * Each trial starts a new cluster in the mode set by the {@link #mode} parameter,
+ * so the same benchmark can be compared between JVM and native image members.
+ *
+ * @param <V>  the type of the cache values
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public abstract class AbstractCacheBenchmark<V> {
+
+    /**
+     * The mode to run the cluster members in.
+     */
+    @Param({BenchmarkCluster.MODE_JAVA, BenchmarkCluster.MODE_NATIVE})
+    public String mode;
+
+    /**
+     * The number of storage enabled cluster members.
+     */
+    @Param({"2"})
+    public int members;
+
+    /**
+     * The number of entries loaded into the cache.
+     */
+    @Param({"10000"})
+    public int keyCount;
+
+    /**
+     * The number of entries used by the bulk operations.
+     */
+    @Param({"100"})
+    public int batchSize;
+
+    /**
+     * The cluster used for the trial.
+     */
+    protected BenchmarkCluster cluster;
+
+    /**
+     * The cache under test.
+     */
+    protected NamedCache<Integer, V> cache;
+
+    /**
+     * The entries used by {@link #putAll()}.
+     */
+    protected Map<Integer, V> batch;
+
+    /**
+     * The keys used by {@link #invokeAll()}.
+     */
+    protected Set<Integer> batchKeys;
+
+    /**
+     * Returns the name of the cache to use.
+     *
+     * @return the name of the cache to use
+     */
+    protected abstract String cacheName();
+
+    /**
+     * Create a cache value.
+     *
+     * @param id  the key of the value
+     *
+     * @return a new cache value
+     */
+    protected abstract V createValue(int id);
+
+    /**
+     * Returns the entry processor used by {@link #invokeAll()}.
+     *
+     * @return the entry processor used by {@link #invokeAll()}
+     */
+    protected abstract InvocableMap.EntryProcessor<Integer, V, ?> processor();
+
+    /**
+     * Returns the aggregator used by {@link #aggregate()}.
+     *
+     * @return the aggregator used by {@link #aggregate()}
+     */
+    protected abstract InvocableMap.EntryAggregator<Integer, V, ?> aggregator();
+
+    @Setup(Level.Trial)
+    public void startCluster() throws Exception {
+        cluster = BenchmarkCluster.start(mode, members);
+        cache = cluster.getCache(cacheName());
+
+        Map<Integer, V> buffer = new HashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            buffer.put(i, createValue(i));
+            if (buffer.size() == 1000) {
+                cache.putAll(buffer);
+                buffer.clear();
+            }
+        }
+        cache.putAll(buffer);
+
+        batch = new HashMap<>();
+        for (int i = 0; i < batchSize; i++) {
+            batch.put(i, createValue(i));
+        }
+        batchKeys = new HashSet<>(batch.keySet());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopCluster() {
+        if (cluster != null) {
+            cluster.close();
+        }
+    }
+
+    @Benchmark
+    public V get() {
+        return cache.get(randomKey());
+    }
+
+    @Benchmark
+    public V put() {
+        int key = randomKey();
+        return cache.put(key, createValue(key));
+    }
+
+    @Benchmark
+    public void putAll() {
+        cache.putAll(batch);
+    }
+
+    @Benchmark
+    public Object invokeAll() {
+        return cache.invokeAll(batchKeys, processor());
+    }
+
+    @Benchmark
+    public Object aggregate() {
+        return cache.aggregate(aggregator());
+    }
+
+    /**
+     * Returns a random key from the loaded key range.
+     *
+     * @return a random key from the loaded key range
+     */
+    protected int randomKey() {
+        return ThreadLocalRandom.current().nextInt(keyCount);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 18/10/2026, 11:09, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.serialization.CompactExtractor;
+import com.oracle.coherence.graal.serialization.CompactSerializer;
+
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.io.Serializer;
+import com.tangosol.io.pof.ConfigurablePofContext;
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.ValueExtractor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The base class for benchmarks of the serialization throughput and serialized size
+ * of a model type in one serialization format.
+ * <p>
+ * The {@code extract} benchmark reads a numeric property from the serialized binary,
+ * as a query or aggregator does on a storage member. The compact format reads it in
+ * place using a generated {@link CompactExtractor}, the other formats deserialize the
+ * value and call the getter.
+ * <p>
+ * The serialized size is reported as the {@code bytesPerObject} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public abstract class AbstractSerializationBenchmark {
+
+    /**
+     * The Java serialization format.
+     */
+    public static final String FORMAT_JAVA = "java";
+
+    /**
+     * The compact serialization format.
+     */
+    public static final String FORMAT_COMPACT = "compact";
+
+    /**
+     * The POF serialization format.
+     */
+    public static final String FORMAT_POF = "pof";
+
+    private Serializer serializer;
+
+    private Object value;
+
+    private Binary binary;
+
+    private ValueExtractor<Object, Object> extractor;
+
+    private CompactExtractor<Object, Object> compactExtractor;
+
+    /**
+     * Returns the serialization format.
+     *
+     * @return the serialization format
+     */
+    protected abstract String format();
+
+    /**
+     * Create the value to serialize.
+     *
+     * @return the value to serialize
+     */
+    protected abstract Object createValue();
+
+    /**
+     * Returns the extractor of the property read by the {@code extract} benchmark.
+     *
+     * @return the extractor of the property
+     */
+    protected abstract ValueExtractor<?, ?> extractor();
+
+    /**
+     * Returns the extractor that reads the property in place from a compact binary,
+     * which is only used in the compact format. By default there is none, so the
+     * {@code extract} benchmark deserializes the value.
+     *
+     * @return the extractor that reads the property from a compact binary, or {@code null}
+     */
+    protected CompactExtractor<?, ?> compactExtractor() {
+        return null;
+    }
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        value = createValue();
+        serializer = switch (format()) {
+            case FORMAT_JAVA -> new DefaultSerializer();
+            case FORMAT_COMPACT -> new CompactSerializer();
+            case FORMAT_POF -> new ConfigurablePofContext();
+            default -> throw new IllegalArgumentException("Unknown format " + format());
+        };
+        binary = ExternalizableHelper.toBinary(value, serializer);
+        extractor = (ValueExtractor<Object, Object>) extractor();
+        if (format().equals(FORMAT_COMPACT)) {
+            compactExtractor = (CompactExtractor<Object, Object>) compactExtractor();
+        }
+    }
+
+    @Benchmark
+    public Binary serialize(Size size) {
+        Binary result = ExternalizableHelper.toBinary(value, serializer);
+        size.bytesPerObject = result.length();
+        return result;
+    }
+
+    @Benchmark
+    public Object deserialize(Size size) {
+        size.bytesPerObject = binary.length();
+        return ExternalizableHelper.fromBinary(binary, serializer);
+    }
+
+    @Benchmark
+    public Object extract() {
+        if (compactExtractor != null) {
+            return compactExtractor.extractFromBinary(binary);
+        }
+        return extractor.extract(ExternalizableHelper.fromBinary(binary, serializer));
+    }
+
+    /**
+     * Reports the serialized size of the value as a secondary result.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+
+        /**
+         * The serialized size of the value in bytes.
+         */
+        public long bytesPerObject;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 18/10/2026, 10:29, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.model.pof.Customer;
+import com.oracle.coherence.graal.model.pof.CustomerLambdas;
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.Filter;
+import com.tangosol.util.Filters;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.aggregator.DoubleSum;
+import com.tangosol.util.aggregator.GroupAggregator;
+import com.tangosol.util.stream.RemoteCollectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how aggregation scales with the number of cluster members on a
+ * single host and the number of worker threads of each member.
+ * <p>
+ * Each trial loads {@link #entries} {@link Customer} entries and then runs a
+ * {@link DoubleSum}, a {@link GroupAggregator} and a filtered stream reduction
+ * over them. The benchmark reports both the throughput and the latency
+ * distribution of each workload, so the results show where adding members or
+ * worker threads stops making aggregation faster.
+ * <p>
+ * {@link Customer} is a portable type, so the entries are stored in the
+ * {@code pof-customers} cache of the {@code DistributedCachePOF} service, whose
+ * worker threads are set using the {@code coherence.distributed.pof.threads.*}
+ * properties.
+ * <p>
+ * The default parameters are a moderate matrix. Larger member, thread and entry
+ * counts can be set using JMH parameters, for example {@code -p entries=10000000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class AggregationScalingBenchmark {
+
+    /**
+     * The mode to run the cluster members in.
+     */
+    @Param({BenchmarkCluster.MODE_JAVA, BenchmarkCluster.MODE_NATIVE})
+    public String mode;
+
+    /**
+     * The number of storage enabled cluster members.
+     */
+    @Param({"1", "2", "4"})
+    public int members;
+
+    /**
+     * The number of worker threads of each distributed service on each member.
+     */
+    @Param({"1", "4"})
+    public int threads;
+
+    /**
+     * The number of entries loaded into the cache.
+     */
+    @Param({"100000", "1000000"})
+    public int entries;
+
+    /**
+     * The cache to aggregate, {@link Customer} is only portable so it uses POF.
+     */
+    static final String CACHE_NAME = "pof-customers";
+
+    /**
+     * The cluster used for the trial.
+     */
+    private BenchmarkCluster cluster;
+
+    /**
+     * The cache under test.
+     */
+    private NamedCache<Integer, Customer> cache;
+
+    /**
+     * The filter used by the streaming workload.
+     */
+    private Filter<Customer> filter;
+
+    @Setup(Level.Trial)
+    public void startCluster() throws Exception {
+        cluster = BenchmarkCluster.start(mode, members,
+                "-Dcoherence.distributed.pof.threads.min=" + threads,
+                "-Dcoherence.distributed.pof.threads.max=" + threads);
+        cache = cluster.getCache(CACHE_NAME);
+        cache.addIndex(CustomerLambdas.customerType());
+
+        Map<Integer, Customer> buffer = new HashMap<>();
+        for (int i = 0; i < entries; i++) {
+            buffer.put(i, ModelData.customer(i));
+            if (buffer.size() == 1000) {
+                cache.putAll(buffer);
+                buffer.clear();
+            }
+        }
+        cache.putAll(buffer);
+
+        filter = Filters.equal(CustomerLambdas.customerType(), "GOLD");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopCluster() {
+        if (cluster != null) {
+            cluster.close();
+        }
+    }
+
+    @Benchmark
+    public Double doubleSum() {
+        return cache.aggregate(new DoubleSum<>(CustomerLambdas.balance()));
+    }
+
+    @Benchmark
+    public Map<String, Double> groupSum() {
+        return cache.aggregate(GroupAggregator.createInstance(CustomerLambdas.customerType(),
+                new DoubleSum<>(CustomerLambdas.balance())));
+    }
+
+    @Benchmark
+    public Double stream() {
+        return cache.stream(filter, CustomerLambdas.balance())
+                .collect(RemoteCollectors.summingDouble(ValueExtractor.identity()));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 18/10/2026, 10:12, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.model.pof.Customer;
+import com.tangosol.net.NamedCache;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the on-heap and off-heap backing map schemes by filling a cache
+ * with a large number of {@link Customer} entries.
+ * <p>
+ * As well as the time taken to load the cache, each iteration reports the
+ * garbage collection time and count of the storage enabled members during
+ * the load and the total resident set size of the members afterward.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class BackingMapBenchmark {
+
+    /**
+     * The mode to run the cluster members in.
+     */
+    @Param({BenchmarkCluster.MODE_JAVA, BenchmarkCluster.MODE_NATIVE})
+    public String mode;
+
+    /**
+     * The number of storage enabled cluster members.
+     */
+    @Param({"2"})
+    public int members;
+
+    /**
+     * The number of entries loaded into the cache.
+     */
+    @Param({"1000000"})
+    public int entries;
+
+    /**
+     * The backing map scheme, which is the prefix of the cache name mapped to it:
+     * {@code pof} is the on-heap {@code local-scheme}, {@code offheap} the
+     * {@code ramjournal-scheme} and {@code flash} the {@code flashjournal-scheme}.
+     */
+    @Param({"pof", "offheap", "flash"})
+    public String scheme;
+
+    /**
+     * The cluster used for the trial.
+     */
+    private BenchmarkCluster cluster;
+
+    /**
+     * The cache under test.
+     */
+    private NamedCache<Integer, Customer> cache;
+
+    /**
+     * The total garbage collection time of the members before the iteration.
+     */
+    private long gcMillisBefore;
+
+    /**
+     * The total garbage collection count of the members before the iteration.
+     */
+    private long gcCountBefore;
+
+    @Setup(Level.Trial)
+    public void startCluster() throws Exception {
+        cluster = BenchmarkCluster.start(mode, members);
+        cache = cluster.getCache(scheme + "-customers");
+    }
+
+    @Setup(Level.Iteration)
+    public void clearCache() {
+        cache.truncate();
+        gcMillisBefore = ProcessStats.gcMillis(cluster.getCoherence().getCluster());
+        gcCountBefore = ProcessStats.gcCount(cluster.getCoherence().getCluster());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopCluster() {
+        if (cluster != null) {
+            cluster.close();
+        }
+    }
+
+    @Benchmark
+    public void fill(Footprint footprint) {
+        Map<Integer, Customer> buffer = new HashMap<>();
+        for (int i = 0; i < entries; i++) {
+            buffer.put(i, ModelData.customer(i));
+            if (buffer.size() == 1000) {
+                cache.putAll(buffer);
+                buffer.clear();
+            }
+        }
+        cache.putAll(buffer);
+
+        footprint.gcPauseMillis = ProcessStats.gcMillis(cluster.getCoherence().getCluster()) - gcMillisBefore;
+        footprint.gcCount = ProcessStats.gcCount(cluster.getCoherence().getCluster()) - gcCountBefore;
+        footprint.rssMegabytes = ProcessStats.rssBytes(cluster.getMembers()) / (1024 * 1024);
+    }
+
+    /**
+     * The garbage collection and memory statistics reported as secondary results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        /**
+         * The garbage collection time of the members during the load.
+         */
+        public long gcPauseMillis;
+
+        /**
+         * The number of garbage collections of the members during the load.
+         */
+        public long gcCount;
+
+        /**
+         * The total resident set size of the members after the load.
+         */
+        public long rssMegabytes;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 18/10/2026, 10:04, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.bedrock.options.Timeout;
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.ClassPath;
+import com.oracle.bedrock.runtime.java.options.ClassName;
+import com.oracle.bedrock.runtime.options.Arguments;
+import com.oracle.bedrock.runtime.options.Console;
+import com.oracle.bedrock.runtime.options.DisplayName;
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import com.oracle.coherence.graal.Server;
+import com.oracle.coherence.graal.testing.ImageVariant;
+import com.oracle.coherence.graal.testing.NativeApplication;
+
+import com.tangosol.net.Cluster;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+import com.tangosol.net.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * A cluster of {@link Server} members launched by Bedrock for a benchmark trial,
+ * joined by a storage disabled member running in the benchmark JVM.
+ * <p>
+ * The members are launched as a {@link NativeApplication} so the mode decides
+ * whether they run as a normal JVM or as the native image:
+ * <ul>
+ *     <li>{@code java} - run the {@link Server} class using the {@code java} command</li>
+ *     <li>{@code native} - run the native image set in the {@code coherence.native.image} property</li>
+ *     <li>{@code native-<variant>} - run the {@link ImageVariant} of the image, for example
+ *     {@code native-pgo} runs {@code coherence-native-server-pgo}</li>
+ * </ul>
+ */
+public class BenchmarkCluster implements AutoCloseable {
+
+    /**
+     * The mode that runs cluster members as a JVM.
+     */
+    public static final String MODE_JAVA = "java";
+
+    /**
+     * The mode that runs cluster members as the native image.
+     */
+    public static final String MODE_NATIVE = "native";
+
+    /**
+     * The Coherence instance started in the benchmark JVM.
+     */
+    private final Coherence coherence;
+
+    /**
+     * The cluster members started by Bedrock.
+     */
+    private final List<NativeApplication> members;
+
+    private BenchmarkCluster(Coherence coherence, List<NativeApplication> members) {
+        this.coherence = coherence;
+        this.members = members;
+    }
+
+    /**
+     * Start a cluster.
+     *
+     * @param mode         the mode to run the members in
+     * @param memberCount  the number of storage enabled members to start
+     * @param serverArgs   any additional arguments to pass to each member
+     *
+     * @return the started {@link BenchmarkCluster}
+     */
+    public static BenchmarkCluster start(String mode, int memberCount, String... serverArgs) throws Exception {
+        String clusterName = "benchmark-" + UUID.randomUUID();
+
+        ImageVariant variant = configureMode(mode);
+
+        System.setProperty("coherence.cluster", clusterName);
+        System.setProperty("coherence.wka", "127.0.0.1");
+        System.setProperty("coherence.localhost", "127.0.0.1");
+        System.setProperty("coherence.distributed.localstorage", "false");
+        System.setProperty("coherence.lambdas", "static");
+
+        Coherence coherence = Coherence.clusterMember().start().get(5, TimeUnit.MINUTES);
+
+        List<String> args = new ArrayList<>(List.of("-Djava.net.preferIPv4Stack=true",
+                "-Dcoherence.lambdas=static",
+                "-Dcoherence.cluster=" + clusterName,
+                "-Dcoherence.localhost=127.0.0.1",
+                "-Dcoherence.wka=127.0.0.1"));
+        args.addAll(Arrays.asList(serverArgs));
+
+        LocalPlatform platform = LocalPlatform.get();
+        List<NativeApplication> members = new ArrayList<>();
+        BenchmarkCluster cluster = new BenchmarkCluster(coherence, members);
+        try {
+            for (int i = 1; i <= memberCount; i++) {
+                members.add(platform.launch(NativeApplication.class,
+                        Arguments.of(args.toArray()),
+                        ClassName.of(Server.class),
+                        ClassPath.automatic(),
+                        DisplayName.of("server-" + i),
+                        variant,
+                        Boolean.getBoolean("coherence.benchmark.console") ? Console.system() : Console.none()));
+            }
+            cluster.awaitMembers(memberCount);
+        } catch (Throwable t) {
+            cluster.close();
+            throw t;
+        }
+        return cluster;
+    }
+
+    /**
+     * Returns the Coherence instance running in the benchmark JVM.
+     *
+     * @return the Coherence instance running in the benchmark JVM
+     */
+    public Coherence getCoherence() {
+        return coherence;
+    }
+
+    /**
+     * Returns the cluster members started by Bedrock.
+     *
+     * @return the cluster members started by Bedrock
+     */
+    public List<NativeApplication> getMembers() {
+        return members;
+    }
+
+    /**
+     * Obtain a cache from the default session.
+     *
+     * @param name  the name of the cache
+     * @param <K>   the type of the cache keys
+     * @param <V>   the type of the cache values
+     *
+     * @return the cache
+     */
+    public <K, V> NamedCache<K, V> getCache(String name) {
+        return coherence.getSession().getCache(name);
+    }
+
+    @Override
+    public void close() {
+        for (NativeApplication member : members) {
+            member.close();
+        }
+        Coherence.closeAll();
+    }
+
+    /**
+     * Wait for the members to join the cluster and own partitions.
+     *
+     * @param memberCount  the number of storage enabled members
+     */
+    private void awaitMembers(int memberCount) {
+        Cluster cluster = coherence.getCluster();
+        Eventually.assertDeferred(() -> cluster.getMemberSet().size(), is(memberCount + 1), Timeout.of(5, TimeUnit.MINUTES));
+
+        Enumeration<String> serviceNames = cluster.getServiceNames();
+        while (serviceNames.hasMoreElements()) {
+            Service service = cluster.getService(serviceNames.nextElement());
+            if (service instanceof PartitionedService partitionedService) {
+                Eventually.assertDeferred(() -> partitionedService.getOwnershipEnabledMembers().size(),
+                        is(memberCount),
+                        Timeout.of(5, TimeUnit.MINUTES));
+            }
+        }
+    }
+
+    /**
+     * Configure the {@link NativeApplication} launcher for the specified mode.
+     *
+     * @param mode  the mode to run the members in
+     *
+     * @return the variant of the native image to run
+     */
+    private static ImageVariant configureMode(String mode) {
+        if (MODE_JAVA.equals(mode)) {
+            System.setProperty("coherence.native.tests", "false");
+            return ImageVariant.base();
+        }
+
+        if (!mode.equals(MODE_NATIVE) && !mode.startsWith(MODE_NATIVE + "-")) {
+            throw new IllegalArgumentException("Unknown benchmark mode " + mode);
+        }
+
+        String image = System.getProperty("coherence.native.image");
+        if (image == null || image.isBlank()) {
+            throw new IllegalStateException("The coherence.native.image property must be set to run in " + mode + " mode");
+        }
+
+        System.setProperty("coherence.native.tests", "true");
+        return mode.equals(MODE_NATIVE)
+                ? ImageVariant.base()
+                : ImageVariant.of(mode.substring(MODE_NATIVE.length() + 1));
+    }
+}
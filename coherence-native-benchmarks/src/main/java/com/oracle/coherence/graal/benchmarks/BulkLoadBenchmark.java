@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 18/10/2026, 10:43, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.bulk.BulkLoader;
+import com.oracle.coherence.graal.model.pof.Customer;
+
+import com.tangosol.net.NamedCache;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a large number of {@link Customer} entries into the
+ * {@code pof-customers} cache using a {@link BulkLoader} with the naive
+ * approach of calling {@code putAll} with fixed size chunks of entries.
+ * <ul>
+ *     <li>{@code putAll} - synchronous {@code putAll} calls of {@link #chunk} entries</li>
+ *     <li>{@code bulk} - a {@link BulkLoader} with batches of {@link #batchKilobytes}
+ *     grouped by owner member and up to {@link #maxInFlight} batches in flight</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class BulkLoadBenchmark {
+
+    /**
+     * The mode to run the cluster members in.
+     */
+    @Param({BenchmarkCluster.MODE_JAVA, BenchmarkCluster.MODE_NATIVE})
+    public String mode;
+
+    /**
+     * The number of storage enabled cluster members.
+     */
+    @Param({"2"})
+    public int members;
+
+    /**
+     * The number of entries loaded.
+     */
+    @Param({"1000000", "5000000"})
+    public int entries;
+
+    /**
+     * The loader to use.
+     */
+    @Param({"putAll", "bulk"})
+    public String loader;
+
+    /**
+     * The number of entries in each {@code putAll} call of the naive loader.
+     */
+    @Param({"100"})
+    public int chunk;
+
+    /**
+     * The target serialized size of a batch of the bulk loader.
+     */
+    @Param({"1024"})
+    public int batchKilobytes;
+
+    /**
+     * The maximum number of batches in flight of the bulk loader.
+     */
+    @Param({"8"})
+    public int maxInFlight;
+
+    /**
+     * The cluster used for the trial.
+     */
+    private BenchmarkCluster cluster;
+
+    /**
+     * The cache under test.
+     */
+    private NamedCache<Integer, Customer> cache;
+
+    @Setup(Level.Trial)
+    public void startCluster() throws Exception {
+        cluster = BenchmarkCluster.start(mode, members);
+        cache = cluster.getCache("pof-customers");
+    }
+
+    @Setup(Level.Iteration)
+    public void clearCache() {
+        cache.truncate();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopCluster() {
+        if (cluster != null) {
+            cluster.close();
+        }
+    }
+
+    @Benchmark
+    public void load(Batches batches) {
+        if ("bulk".equals(loader)) {
+            try (BulkLoader<Integer, Customer> bulkLoader = BulkLoader.builder(cache)
+                    .batchBytes(batchKilobytes * 1024)
+                    .maxInFlight(maxInFlight)
+                    .build()) {
+                for (int i = 0; i < entries; i++) {
+                    bulkLoader.put(i, ModelData.customer(i));
+                }
+                bulkLoader.flush();
+                batches.batches = bulkLoader.getBatchCount();
+            }
+        } else {
+            Map<Integer, Customer> buffer = new HashMap<>();
+            long count = 0;
+            for (int i = 0; i < entries; i++) {
+                buffer.put(i, ModelData.customer(i));
+                if (buffer.size() == chunk) {
+                    cache.putAll(buffer);
+                    buffer.clear();
+                    count++;
+                }
+            }
+            if (!buffer.isEmpty()) {
+                cache.putAll(buffer);
+                count++;
+            }
+            batches.batches = count;
+        }
+    }
+
+    /**
+     * The number of requests sent, reported as a secondary result.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Batches {
+
+        /**
+         * The number of {@code putAll} requests sent during the load.
+         */
+        public long batches;
+    }
+}
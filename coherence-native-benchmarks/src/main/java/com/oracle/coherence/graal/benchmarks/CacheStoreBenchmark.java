@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 18/10/2026, 10:30, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.tangosol.net.NamedCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares platform and virtual worker threads on an I/O bound workload, using
+ * a {@code store-*} cache whose cache store sleeps on every operation.
+ * <p>
+ * Every key is read or written once, so each {@code get} and {@code getAll}
+ * loads through the cache store and each {@code putAll} writes through it.
+ * Many benchmark threads keep the worker pools of the members saturated.
+ * <p>
+ * The cache store is the same for both worker modes. Running the entries of the
+ * bulk operations concurrently, using a {@code VirtualThreadCacheStore}, is a
+ * separate parameter so that its effect is not mistaken for that of the workers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(1)
+public class CacheStoreBenchmark {
+
+    /**
+     * The mode to run the cluster members in.
+     */
+    @Param({BenchmarkCluster.MODE_JAVA, BenchmarkCluster.MODE_NATIVE})
+    public String mode;
+
+    /**
+     * The worker mode of the members, {@code platform} or {@code virtual}.
+     */
+    @Param({"platform", "virtual"})
+    public String workers;
+
+    /**
+     * {@code true} to run the entries of the cache store bulk operations concurrently.
+     */
+    @Param({"false", "true"})
+    public boolean parallelStore;
+
+    /**
+     * The number of storage enabled cluster members.
+     */
+    @Param({"2"})
+    public int members;
+
+    /**
+     * The latency of each cache store operation.
+     */
+    @Param({"5"})
+    public int latencyMillis;
+
+    /**
+     * The number of entries used by the bulk operations.
+     */
+    @Param({"20"})
+    public int batchSize;
+
+    /**
+     * The cluster used for the trial.
+     */
+    private BenchmarkCluster cluster;
+
+    /**
+     * The cache under test.
+     */
+    private NamedCache<Long, String> cache;
+
+    /**
+     * The next unused key.
+     */
+    private final AtomicLong nextKey = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void startCluster() throws Exception {
+        cluster = BenchmarkCluster.start(mode, members,
+                "-Dcoherence.native.workers=" + workers,
+                "-Dcoherence.native.store.parallel=" + parallelStore,
+                "-Dcoherence.native.store.latency.millis=" + latencyMillis);
+        cache = cluster.getCache("store-benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopCluster() {
+        if (cluster != null) {
+            cluster.close();
+        }
+    }
+
+    @Benchmark
+    public String get() {
+        return cache.get(nextKey.incrementAndGet());
+    }
+
+    @Benchmark
+    public Map<Long, String> getAll() {
+        Set<Long> keys = new HashSet<>();
+        for (int i = 0; i < batchSize; i++) {
+            keys.add(nextKey.incrementAndGet());
+        }
+        return cache.getAll(keys);
+    }
+
+    @Benchmark
+    public void putAll() {
+        Map<Long, String> entries = new HashMap<>();
+        for (int i = 0; i < batchSize; i++) {
+            long key = nextKey.incrementAndGet();
+            entries.put(key, "value-" + key);
+        }
+        cache.putAll(entries);
+    }
+}
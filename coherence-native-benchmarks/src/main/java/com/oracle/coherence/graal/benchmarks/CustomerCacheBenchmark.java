@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 18/10/2026, 10:04, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.model.pof.Customer;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.Processors;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.aggregator.DoubleSum;
+
+/**
+ * Benchmarks {@link Customer} values, including two embedded
+ * {@link com.oracle.coherence.graal.model.pof.Address} values,
+ * in a cache using the POF {@code distributed-scheme-pof}.
+ */
+public class CustomerCacheBenchmark extends AbstractCacheBenchmark<Customer> {
+
+    @Override
+    protected String cacheName() {
+        return "pof-customers";
+    }
+
+    @Override
+    protected Customer createValue(int id) {
+        return ModelData.customer(id);
+    }
+
+    @Override
+    protected InvocableMap.EntryProcessor<Integer, Customer, ?> processor() {
+        return Processors.extract(ValueExtractor.of(Customer::getBalance));
+    }
+
+    @Override
+    protected InvocableMap.EntryAggregator<Integer, Customer, ?> aggregator() {
+        return new DoubleSum<>(ValueExtractor.of(Customer::getBalance));
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 18/10/2026, 10:38, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.model.java.Country;
+import com.oracle.coherence.graal.model.java.Order;
+import com.oracle.coherence.graal.model.java.OrderLine;
+import com.oracle.coherence.graal.model.pof.Address;
+import com.oracle.coherence.graal.model.pof.Customer;
+
+import com.tangosol.io.Serializer;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.management.MBeanServerProxy;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.ValueExtractor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Measures the memory used by each cached entry type in the POF and the Java
+ * serialization schemes.
+ * <p>
+ * Each iteration loads {@link #entries} entries into an empty cache, adds an
+ * index and reports the cost of an entry in bytes, broken down into:
+ * <ul>
+ *     <li>{@code keyBytes} and {@code valueBytes} - the serialized key and value</li>
+ *     <li>{@code binaryBytes} - the entry as seen by the {@code BINARY} unit calculator
+ *     of the backing map</li>
+ *     <li>{@code binaryOverheadBytes} - the backing map overhead added by the unit
+ *     calculator to the serialized key and value</li>
+ *     <li>{@code indexBytes} - the index, as reported by the storage manager</li>
+ *     <li>{@code rssBytes} - the growth of the resident set size of the members</li>
+ *     <li>{@code rssOverheadBytes} - the part of the resident set size growth that
+ *     is not accounted for by the backing map and the index</li>
+ * </ul>
+ * The members are asked to run a garbage collection before the resident set
+ * size is read, so that the growth is not dominated by garbage.
+ * <p>
+ * {@link Customer} and {@link Address} are POF portable types, which cannot use
+ * Java serialization, so they are only measured in the POF scheme.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class FootprintBenchmark {
+
+    /**
+     * The mode to run the cluster members in.
+     */
+    @Param({BenchmarkCluster.MODE_JAVA, BenchmarkCluster.MODE_NATIVE})
+    public String mode;
+
+    /**
+     * The number of storage enabled cluster members.
+     */
+    @Param({"1"})
+    public int members;
+
+    /**
+     * The number of entries loaded into the cache.
+     */
+    @Param({"100000"})
+    public int entries;
+
+    /**
+     * The name of the cache, which decides the entry type and the scheme.
+     * Caches with the {@code pof-} prefix use POF, the others use Java serialization.
+     */
+    @Param({"pof-customers", "pof-addresses", "pof-orders", "pof-order-lines", "pof-countries",
+            "orders", "order-lines", "countries"})
+    public String cacheName;
+
+    /**
+     * The cluster used for the trial.
+     */
+    private BenchmarkCluster cluster;
+
+    /**
+     * The cache under test.
+     */
+    private NamedCache<Integer, Object> cache;
+
+    /**
+     * The entry type stored in the cache.
+     */
+    private Payload payload;
+
+    /**
+     * The total resident set size of the members before the iteration.
+     */
+    private long rssBefore;
+
+    @Setup(Level.Trial)
+    public void startCluster() throws Exception {
+        payload = Payload.forCache(cacheName);
+        cluster = BenchmarkCluster.start(mode, members);
+        cache = cluster.getCache(cacheName);
+    }
+
+    @Setup(Level.Iteration)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void clearCache() {
+        cache.removeIndex((ValueExtractor) payload.index);
+        cache.truncate();
+        ProcessStats.collectGarbage(cluster.getCoherence().getCluster());
+        rssBefore = ProcessStats.rssBytes(cluster.getMembers());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopCluster() {
+        if (cluster != null) {
+            cluster.close();
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void load(Footprint footprint) {
+        Serializer serializer = cache.getCacheService().getSerializer();
+        long keyBytes = 0;
+        long valueBytes = 0;
+        Map<Integer, Object> buffer = new HashMap<>();
+        for (int i = 0; i < entries; i++) {
+            Object value = payload.factory.apply(i);
+            keyBytes += ExternalizableHelper.toBinary(i, serializer).length();
+            valueBytes += ExternalizableHelper.toBinary(value, serializer).length();
+            buffer.put(i, value);
+            if (buffer.size() == 1000) {
+                cache.putAll(buffer);
+                buffer.clear();
+            }
+        }
+        cache.putAll(buffer);
+        cache.addIndex((ValueExtractor) payload.index);
+
+        ProcessStats.collectGarbage(cluster.getCoherence().getCluster());
+        long rssAfter = ProcessStats.rssBytes(cluster.getMembers());
+        long rss = rssAfter - rssBefore;
+        long binary = sumAttribute("Coherence:type=Cache,tier=back,name=" + cacheName + ",*", "Units");
+        long index = sumAttribute("Coherence:type=StorageManager,cache=" + cacheName + ",*", "IndexTotalUnits");
+
+        footprint.keyBytes = keyBytes / entries;
+        footprint.valueBytes = valueBytes / entries;
+        footprint.binaryBytes = binary / entries;
+        footprint.binaryOverheadBytes = (binary - keyBytes - valueBytes) / entries;
+        footprint.indexBytes = index / entries;
+        footprint.rssBytes = rssBefore < 0 || rssAfter < 0 ? -1 : rss / entries;
+        footprint.rssOverheadBytes = footprint.rssBytes < 0 ? -1 : (rss - binary - index) / entries;
+    }
+
+    /**
+     * Returns the sum of an MBean attribute over all the members.
+     *
+     * @param query      the MBean query
+     * @param attribute  the name of the attribute
+     *
+     * @return the sum of the attribute
+     */
+    private long sumAttribute(String query, String attribute) {
+        MBeanServerProxy proxy = cluster.getCoherence().getCluster().getManagement().getMBeanServerProxy();
+        long total = 0;
+        for (String name : proxy.queryNames(query, null)) {
+            if (proxy.getAttribute(name, attribute) instanceof Number number && number.longValue() > 0) {
+                total += number.longValue();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * The entry types, with the factory of their values and the extractor indexed.
+     */
+    private enum Payload {
+        CUSTOMERS("customers", ModelData::customer, ValueExtractor.of(Customer::getCustomerType)),
+        ADDRESSES("addresses", id -> ModelData.address(), ValueExtractor.of(Address::getCity)),
+        ORDERS("orders", ModelData::order, ValueExtractor.of(Order::getCustomerId)),
+        ORDER_LINES("order-lines", ModelData::orderLine, ValueExtractor.of(OrderLine::getProduct)),
+        COUNTRIES("countries", ModelData::country, ValueExtractor.of(Country::name));
+
+        /**
+         * The name of the caches of the type, without the scheme prefix.
+         */
+        private final String cacheName;
+
+        /**
+         * The factory of the values.
+         */
+        private final IntFunction<?> factory;
+
+        /**
+         * The extractor indexed.
+         */
+        private final ValueExtractor<?, ?> index;
+
+        Payload(String cacheName, IntFunction<?> factory, ValueExtractor<?, ?> index) {
+            this.cacheName = cacheName;
+            this.factory = factory;
+            this.index = index;
+        }
+
+        /**
+         * Returns the type stored in a cache.
+         *
+         * @param cacheName  the name of the cache
+         *
+         * @return the type stored in the cache
+         */
+        static Payload forCache(String cacheName) {
+            String name = cacheName.startsWith("pof-") ? cacheName.substring(4) : cacheName;
+            for (Payload payload : values()) {
+                if (payload.cacheName.equals(name)) {
+                    return payload;
+                }
+            }
+            throw new IllegalArgumentException("Unknown footprint cache " + cacheName);
+        }
+    }
+
+    /**
+     * The cost of an entry in bytes, reported as secondary results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        /**
+         * The serialized key.
+         */
+        public long keyBytes;
+
+        /**
+         * The serialized value.
+         */
+        public long valueBytes;
+
+        /**
+         * The entry as seen by the {@code BINARY} unit calculator.
+         */
+        public long binaryBytes;
+
+        /**
+         * The backing map overhead added to the serialized key and value.
+         */
+        public long binaryOverheadBytes;
+
+        /**
+         * The index.
+         */
+        public long indexBytes;
+
+        /**
+         * The growth of the resident set size of the members, or {@code -1} if it is unknown.
+         */
+        public long rssBytes;
+
+        /**
+         * The resident set size growth not accounted for by the backing map and the index.
+         */
+        public long rssOverheadBytes;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 18/10/2026, 10:04, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.model.java.Country;
+import com.oracle.coherence.graal.model.java.Order;
+import com.oracle.coherence.graal.model.java.OrderLine;
+import com.oracle.coherence.graal.model.pof.Address;
+import com.oracle.coherence.graal.model.pof.Customer;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Factory methods to create the model classes used as benchmark payloads.
+ */
+public final class ModelData {
+
+    /**
+     * The customer types used by the model.
+     */
+    public static final String[] CUSTOMER_TYPES = new String[]{"GOLD", "SILVER", "BRONZE"};
+
+    private ModelData() {
+    }
+
+    /**
+     * Create a {@link Customer} with random addresses, balance and type.
+     *
+     * @param id  the customer id
+     *
+     * @return a new {@link Customer}
+     */
+    public static Customer customer(int id) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new Customer(id, "name-" + id, random.nextDouble(), address(), address(),
+                CUSTOMER_TYPES[random.nextInt(CUSTOMER_TYPES.length)]);
+    }
+
+    /**
+     * Create an {@link Address} with random values.
+     *
+     * @return a new {@link Address}
+     */
+    public static Address address() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new Address("Address line 1", "address line 2", "city-" + random.nextInt(),
+                "state-" + random.nextInt(), "zip" + random.nextInt(), "country-" + random.nextInt());
+    }
+
+    /**
+     * Create an {@link Order} with a random total.
+     *
+     * @param id  the order id
+     *
+     * @return a new {@link Order}
+     */
+    public static Order order(int id) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new Order(id, "customer-" + random.nextInt(1_000_000), random.nextDouble(1_000.0d));
+    }
+
+    /**
+     * Create an {@link OrderLine} with a random quantity and price.
+     *
+     * @param id  the order line id
+     *
+     * @return a new {@link OrderLine}
+     */
+    public static OrderLine orderLine(int id) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new OrderLine(id / 10, id, "product-" + random.nextInt(1_000), random.nextInt(1, 100), random.nextDouble(100.0d));
+    }
+
+    /**
+     * Create a {@link Country} with a random population.
+     *
+     * @param id  the country id
+     *
+     * @return a new {@link Country}
+     */
+    public static Country country(int id) {
+        return new Country("C" + id, "Country-" + id, ThreadLocalRandom.current().nextInt(10_000, 1_000_000));
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 18/10/2026, 10:04, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.model.java.Order;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.Processors;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.aggregator.DoubleSum;
+
+/**
+ * Benchmarks {@link Order} values in a cache using the Java
+ * serialization {@code distributed-scheme}.
+ */
+public class OrderCacheBenchmark extends AbstractCacheBenchmark<Order> {
+
+    @Override
+    protected String cacheName() {
+        return "orders";
+    }
+
+    @Override
+    protected Order createValue(int id) {
+        return ModelData.order(id);
+    }
+
+    @Override
+    protected InvocableMap.EntryProcessor<Integer, Order, ?> processor() {
+        return Processors.extract(ValueExtractor.of(Order::getTotalAmount));
+    }
+
+    @Override
+    protected InvocableMap.EntryAggregator<Integer, Order, ?> aggregator() {
+        return new DoubleSum<>(ValueExtractor.of(Order::getTotalAmount));
+    }
+}
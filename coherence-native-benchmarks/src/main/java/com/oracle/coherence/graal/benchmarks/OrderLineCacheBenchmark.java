@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 18/10/2026, 10:04, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.model.java.OrderLine;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.Processors;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.aggregator.DoubleSum;
+
+/**
+ * Benchmarks {@link OrderLine} values in a cache using the Java
+ * serialization {@code distributed-scheme}.
+ */
+public class OrderLineCacheBenchmark extends AbstractCacheBenchmark<OrderLine> {
+
+    @Override
+    protected String cacheName() {
+        return "order-lines";
+    }
+
+    @Override
+    protected OrderLine createValue(int id) {
+        return ModelData.orderLine(id);
+    }
+
+    @Override
+    protected InvocableMap.EntryProcessor<Integer, OrderLine, ?> processor() {
+        return Processors.extract(ValueExtractor.of(OrderLine::getPrice));
+    }
+
+    @Override
+    protected InvocableMap.EntryAggregator<Integer, OrderLine, ?> aggregator() {
+        return new DoubleSum<>(ValueExtractor.of(OrderLine::getPrice));
+    }
+}
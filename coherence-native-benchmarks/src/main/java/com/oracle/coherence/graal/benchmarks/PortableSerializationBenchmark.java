@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 18/10/2026, 11:09, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.model.pof.Customer;
+
+import com.tangosol.util.ValueExtractor;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the POF serialization throughput and serialized size of {@link Customer},
+ * which is a portable type instrumented by the {@code pof-maven-plugin}. It is not
+ * {@code Serializable}, so unlike the {@link SerializationBenchmark} types it can
+ * only be compared in the POF format.
+ */
+@State(Scope.Benchmark)
+public class PortableSerializationBenchmark extends AbstractSerializationBenchmark {
+
+    @Override
+    protected String format() {
+        return FORMAT_POF;
+    }
+
+    @Override
+    protected Object createValue() {
+        return ModelData.customer(1);
+    }
+
+    @Override
+    protected ValueExtractor<?, ?> extractor() {
+        return ValueExtractor.of(Customer::getBalance);
+    }
+}
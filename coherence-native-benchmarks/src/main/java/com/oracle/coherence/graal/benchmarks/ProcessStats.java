@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 18/10/2026, 10:12, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.testing.NativeApplication;
+import com.oracle.coherence.graal.testing.ResourceSample;
+
+import com.tangosol.net.Cluster;
+import com.tangosol.net.management.MBeanServerProxy;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import java.util.List;
+
+/**
+ * Helper methods to obtain the memory and garbage collection statistics
+ * of the cluster members started for a benchmark.
+ */
+public final class ProcessStats {
+
+    /**
+     * The query for the platform garbage collector MBeans of all cluster members.
+     */
+    public static final String GC_MBEAN_QUERY = "Coherence:type=Platform,Domain=java.lang,subType=GarbageCollector,*";
+
+    /**
+     * The query for the platform memory MBeans of all cluster members.
+     */
+    public static final String MEMORY_MBEAN_QUERY = "Coherence:type=Platform,Domain=java.lang,subType=Memory,*";
+
+    private ProcessStats() {
+    }
+
+    /**
+     * Returns the resident set size of a process, read from {@code /proc/<pid>/status}.
+     *
+     * @param pid  the process id
+     *
+     * @return the resident set size of the process in bytes, or {@code -1}
+     *         if it cannot be determined, for example when not running on Linux
+     */
+    public static long rssBytes(long pid) {
+        return ResourceSample.read(pid).rssBytes();
+    }
+
+    /**
+     * Returns the total resident set size of a set of applications.
+     *
+     * @param applications  the applications
+     *
+     * @return the total resident set size of the applications in bytes,
+     *         or {@code -1} if it cannot be determined
+     */
+    public static long rssBytes(List<NativeApplication> applications) {
+        long total = 0;
+        for (NativeApplication application : applications) {
+            long rss = rssBytes(application.getId());
+            if (rss < 0) {
+                return -1;
+            }
+            total += rss;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total garbage collection time of all storage enabled cluster members.
+     * <p>
+     * The statistics are obtained from the Coherence platform MBeans, which works
+     * for both JVM and native image members, as both provide the platform
+     * {@link java.lang.management.GarbageCollectorMXBean}s.
+     *
+     * @param cluster  the cluster to query
+     *
+     * @return the total garbage collection time in milliseconds
+     */
+    public static long gcMillis(Cluster cluster) {
+        return sumGcAttribute(cluster, "CollectionTime");
+    }
+
+    /**
+     * Returns the total number of garbage collections of all storage enabled cluster members.
+     *
+     * @param cluster  the cluster to query
+     *
+     * @return the total number of garbage collections
+     */
+    public static long gcCount(Cluster cluster) {
+        return sumGcAttribute(cluster, "CollectionCount");
+    }
+
+    /**
+     * Run a garbage collection on all storage enabled cluster members, so that
+     * their resident set size is not dominated by garbage.
+     *
+     * @param cluster  the cluster
+     */
+    public static void collectGarbage(Cluster cluster) {
+        MBeanServerProxy proxy = cluster.getManagement().getMBeanServerProxy();
+        String localNodeId = String.valueOf(cluster.getLocalMember().getId());
+        for (String name : proxy.queryNames(MEMORY_MBEAN_QUERY, null)) {
+            if (!localNodeId.equals(nodeId(name))) {
+                proxy.invoke(name, "gc", new Object[0], new String[0]);
+            }
+        }
+    }
+
+    private static long sumGcAttribute(Cluster cluster, String attribute) {
+        MBeanServerProxy proxy = cluster.getManagement().getMBeanServerProxy();
+        String localNodeId = String.valueOf(cluster.getLocalMember().getId());
+        long total = 0;
+        for (String name : proxy.queryNames(GC_MBEAN_QUERY, null)) {
+            if (localNodeId.equals(nodeId(name))) {
+                // skip the storage disabled member in the benchmark JVM
+                continue;
+            }
+            Object value = proxy.getAttribute(name, attribute);
+            if (value instanceof Number number && number.longValue() > 0) {
+                total += number.longValue();
+            }
+        }
+        return total;
+    }
+
+    private static String nodeId(String name) {
+        try {
+            return new ObjectName(name).getKeyProperty("nodeId");
+        } catch (MalformedObjectNameException e) {
+            return null;
+        }
+    }
+}
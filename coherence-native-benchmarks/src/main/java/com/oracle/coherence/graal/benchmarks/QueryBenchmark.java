@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 18/10/2026, 10:40, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.model.pof.Address;
+import com.oracle.coherence.graal.model.pof.Customer;
+import com.oracle.coherence.graal.model.pof.CustomerPofExtractors;
+import com.oracle.coherence.graal.query.QueryExplainer;
+
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.Filter;
+import com.tangosol.util.Filters;
+import com.tangosol.util.extractor.ConditionalExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares queries over {@link Customer} entries with different kinds of index:
+ * <ul>
+ *     <li>{@code none} - no indexes, so every query scans all the entries</li>
+ *     <li>{@code unordered} - an unordered index on each queried property</li>
+ *     <li>{@code sorted} - a sorted index on each queried property</li>
+ *     <li>{@code conditional} - as {@code unordered}, but the balance index
+ *     only holds the {@code GOLD} customers</li>
+ * </ul>
+ * The queries are an equality on the customer type, a range of balances, a
+ * composite filter over the city and state of the home {@link Address} and a
+ * filter on the balance of {@code GOLD} customers. The properties are read with
+ * the generated POF extractors, so even a scan does not deserialize the entries.
+ * <p>
+ * The plan of each query is printed when the trial starts, so a query that
+ * is expected to use an index but scans can be seen in the benchmark output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class QueryBenchmark {
+
+    /**
+     * The number of distinct cities.
+     */
+    private static final int CITIES = 100;
+
+    /**
+     * The number of distinct states.
+     */
+    private static final int STATES = 10;
+
+    /**
+     * The mode to run the cluster members in.
+     */
+    @Param({BenchmarkCluster.MODE_JAVA, BenchmarkCluster.MODE_NATIVE})
+    public String mode;
+
+    /**
+     * The number of storage enabled cluster members.
+     */
+    @Param({"2"})
+    public int members;
+
+    /**
+     * The number of entries loaded into the cache.
+     */
+    @Param({"100000"})
+    public int entries;
+
+    /**
+     * The kind of index on the queried properties.
+     */
+    @Param({"none", "unordered", "sorted", "conditional"})
+    public String index;
+
+    /**
+     * The cluster used for the trial.
+     */
+    private BenchmarkCluster cluster;
+
+    /**
+     * The cache under test.
+     */
+    private NamedCache<Integer, Customer> cache;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        cluster = BenchmarkCluster.start(mode, members);
+        cache = cluster.getCache("pof-customers");
+        cache.truncate();
+
+        Map<Integer, Customer> buffer = new HashMap<>();
+        for (int i = 0; i < entries; i++) {
+            buffer.put(i, customer(i));
+            if (buffer.size() == 1000) {
+                cache.putAll(buffer);
+                buffer.clear();
+            }
+        }
+        cache.putAll(buffer);
+
+        addIndexes();
+
+        for (Filter<Customer> filter : List.of(typeFilter(), rangeFilter(), addressFilter(), goldFilter())) {
+            System.out.println(QueryExplainer.toLogLine(cache.getCacheName(), filter, QueryExplainer.explain(cache, filter)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopCluster() {
+        if (cluster != null) {
+            cluster.close();
+        }
+    }
+
+    @Benchmark
+    public int equalsQuery() {
+        return cache.aggregate(typeFilter(), Aggregators.count());
+    }
+
+    @Benchmark
+    public int rangeQuery() {
+        return cache.values(rangeFilter()).size();
+    }
+
+    @Benchmark
+    public long compositeAddressQuery() {
+        return cache.stream(addressFilter()).count();
+    }
+
+    @Benchmark
+    public int conditionalQuery() {
+        return cache.aggregate(goldFilter(), Aggregators.count());
+    }
+
+    /**
+     * Add the indexes for the {@link #index} parameter.
+     */
+    private void addIndexes() {
+        if ("none".equals(index)) {
+            return;
+        }
+        boolean sorted = "sorted".equals(index);
+        cache.addIndex(CustomerPofExtractors.customerType(), sorted, null);
+        cache.addIndex(CustomerPofExtractors.homeAddressCity(), sorted, null);
+        cache.addIndex(CustomerPofExtractors.homeAddressState(), sorted, null);
+        if ("conditional".equals(index)) {
+            cache.addIndex(new ConditionalExtractor<>(Filters.equal(CustomerPofExtractors.customerType(), "GOLD"),
+                    CustomerPofExtractors.balance(), true));
+        } else {
+            cache.addIndex(CustomerPofExtractors.balance(), sorted, null);
+        }
+    }
+
+    private static Filter<Customer> typeFilter() {
+        return Filters.equal(CustomerPofExtractors.customerType(), "GOLD");
+    }
+
+    private static Filter<Customer> rangeFilter() {
+        double from = ThreadLocalRandom.current().nextDouble(0.99d);
+        return Filters.between(CustomerPofExtractors.balance(), from, from + 0.01d);
+    }
+
+    private static Filter<Customer> addressFilter() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return Filters.equal(CustomerPofExtractors.homeAddressCity(), "city-" + random.nextInt(CITIES))
+                .and(Filters.equal(CustomerPofExtractors.homeAddressState(), "state-" + random.nextInt(STATES)));
+    }
+
+    private static Filter<Customer> goldFilter() {
+        return Filters.equal(CustomerPofExtractors.customerType(), "GOLD")
+                .and(Filters.greater(CustomerPofExtractors.balance(), 0.99d));
+    }
+
+    /**
+     * Create a {@link Customer} whose home address is one of a fixed set of
+     * cities and states, so that the address queries match some entries.
+     *
+     * @param id  the customer id
+     *
+     * @return a new {@link Customer}
+     */
+    private static Customer customer(int id) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Address home = new Address("Address line 1", "address line 2", "city-" + random.nextInt(CITIES),
+                "state-" + random.nextInt(STATES), "zip" + random.nextInt(), "country");
+        return new Customer(id, "name-" + id, random.nextDouble(), home, ModelData.address(),
+                ModelData.CUSTOMER_TYPES[random.nextInt(ModelData.CUSTOMER_TYPES.length)]);
+    }
+}
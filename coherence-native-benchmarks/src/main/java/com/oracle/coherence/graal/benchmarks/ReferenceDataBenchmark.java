@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 18/10/2026, 10:32, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.model.java.Country;
+import com.tangosol.net.Cluster;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.management.MBeanServerProxy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures repeated lookups of small reference entities, with and without a
+ * near cache, and with each near cache invalidation strategy.
+ * <p>
+ * Seven threads read random {@link Country} entries while one thread updates
+ * them, so the invalidation strategies have to keep the front maps coherent.
+ * The hits, misses and hit rate of the front map in the benchmark JVM during
+ * each iteration are reported as the {@code frontHits}, {@code frontMisses} and
+ * {@code hitRate} secondary results of the {@code read} benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ReferenceDataBenchmark {
+
+    /**
+     * The strategy that runs without a near cache.
+     */
+    public static final String STRATEGY_REMOTE = "remote";
+
+    /**
+     * The system property that sets the invalidation strategy of the near caches.
+     */
+    public static final String PROP_INVALIDATION = "coherence.near.invalidation";
+
+    /**
+     * The mode to run the cluster members in.
+     */
+    @Param({BenchmarkCluster.MODE_JAVA, BenchmarkCluster.MODE_NATIVE})
+    public String mode;
+
+    /**
+     * The near cache invalidation strategy, or {@code remote} to read the
+     * distributed cache directly.
+     */
+    @Param({STRATEGY_REMOTE, "present", "all", "logical"})
+    public String strategy;
+
+    /**
+     * The number of storage enabled cluster members.
+     */
+    @Param({"2"})
+    public int members;
+
+    /**
+     * The number of reference entities.
+     */
+    @Param({"200"})
+    public int countries;
+
+    /**
+     * The cluster used for the trial.
+     */
+    private BenchmarkCluster cluster;
+
+    /**
+     * The cache under test.
+     */
+    private NamedCache<Integer, Country> cache;
+
+    /**
+     * The value of the invalidation strategy property before the trial, or {@code null}.
+     */
+    private String previousInvalidation;
+
+    @Setup(Level.Trial)
+    public void startCluster() throws Exception {
+        boolean near = !STRATEGY_REMOTE.equals(strategy);
+        previousInvalidation = System.getProperty(PROP_INVALIDATION);
+        if (near) {
+            // the near cache is created in this JVM, so the strategy is set here
+            System.setProperty(PROP_INVALIDATION, strategy);
+        }
+        cluster = BenchmarkCluster.start(mode, members);
+        cache = cluster.getCache(near ? "near-countries" : "pof-countries");
+        for (int i = 0; i < countries; i++) {
+            cache.put(i, ModelData.country(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopCluster() {
+        if (cluster != null) {
+            cluster.close();
+        }
+        if (previousInvalidation == null) {
+            System.clearProperty(PROP_INVALIDATION);
+        } else {
+            System.setProperty(PROP_INVALIDATION, previousInvalidation);
+        }
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public Country read(FrontMap frontMap) {
+        return cache.get(ThreadLocalRandom.current().nextInt(countries));
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public void update() {
+        int id = ThreadLocalRandom.current().nextInt(countries);
+        cache.put(id, ModelData.country(id));
+    }
+
+    /**
+     * Returns a statistic of the front map of the cache in this JVM.
+     *
+     * @param attribute  the name of the cache MBean attribute
+     *
+     * @return the value of the statistic, or zero if there is no front map
+     */
+    private long frontStatistic(String attribute) {
+        Cluster coherenceCluster = cluster.getCoherence().getCluster();
+        MBeanServerProxy proxy = coherenceCluster.getManagement().getMBeanServerProxy();
+        String query = "Coherence:type=Cache,tier=front,name=" + cache.getCacheName()
+                + ",nodeId=" + coherenceCluster.getLocalMember().getId() + ",*";
+        long total = 0;
+        for (String name : proxy.queryNames(query, null)) {
+            if (proxy.getAttribute(name, attribute) instanceof Number number) {
+                total += number.longValue();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Reports the front map statistics of each iteration as secondary results.
+     * <p>
+     * The statistics are for the whole front map, so only the first reading
+     * thread reports them and the counters of the other threads stay at zero.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FrontMap {
+
+        /**
+         * The front map hits during the iteration.
+         */
+        public long frontHits;
+
+        /**
+         * The front map misses during the iteration.
+         */
+        public long frontMisses;
+
+        /**
+         * The ratio of front map hits to reads during the iteration.
+         */
+        public double hitRate;
+
+        /**
+         * {@code true} if this thread reports the statistics.
+         */
+        private boolean reporter;
+
+        /**
+         * The front map hits before the iteration.
+         */
+        private long hitsBefore;
+
+        /**
+         * The front map misses before the iteration.
+         */
+        private long missesBefore;
+
+        @Setup(Level.Iteration)
+        public void recordStatistics(ReferenceDataBenchmark benchmark, ThreadParams threadParams) {
+            frontHits = 0;
+            frontMisses = 0;
+            hitRate = 0.0d;
+            reporter = threadParams.getSubgroupThreadIndex() == 0;
+            if (reporter) {
+                hitsBefore = benchmark.frontStatistic("CacheHits");
+                missesBefore = benchmark.frontStatistic("CacheMisses");
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void reportStatistics(ReferenceDataBenchmark benchmark) {
+            if (reporter) {
+                frontHits = benchmark.frontStatistic("CacheHits") - hitsBefore;
+                frontMisses = benchmark.frontStatistic("CacheMisses") - missesBefore;
+                hitRate = frontHits + frontMisses == 0 ? 0.0d : (double) frontHits / (frontHits + frontMisses);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 18/10/2026, 10:10, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.benchmarks;
+
+import com.oracle.coherence.graal.model.java.Country;
+import com.oracle.coherence.graal.model.java.CountryCompactExtractors;
+import com.oracle.coherence.graal.model.java.Order;
+import com.oracle.coherence.graal.model.java.OrderCompactExtractors;
+import com.oracle.coherence.graal.model.java.OrderLine;
+import com.oracle.coherence.graal.model.java.OrderLineCompactExtractors;
+import com.oracle.coherence.graal.serialization.CompactExtractor;
+import com.oracle.coherence.graal.serialization.CompactSerializer;
+
+import com.tangosol.util.ValueExtractor;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the serialization throughput and serialized size of the {@code Serializable}
+ * model classes using Java serialization, the default for the {@code distributed-scheme},
+ * the {@link CompactSerializer} using the generated compact codecs, and POF using the
+ * serializers generated by the {@code coherence-native-codegen} annotation processor.
+ * <p>
+ * The portable-only {@code Customer} is measured by the {@link PortableSerializationBenchmark},
+ * so that every combination of the parameters is valid.
+ */
+@State(Scope.Benchmark)
+public class SerializationBenchmark extends AbstractSerializationBenchmark {
+
+    /**
+     * The model type to serialize.
+     */
+    @Param({"Order", "OrderLine", "Country"})
+    public String type;
+
+    /**
+     * The serialization format.
+     */
+    @Param({FORMAT_JAVA, FORMAT_COMPACT, FORMAT_POF})
+    public String format;
+
+    @Override
+    protected String format() {
+        return format;
+    }
+
+    @Override
+    protected Object createValue() {
+        return switch (type) {
+            case "Order" -> ModelData.order(1);
+            case "OrderLine" -> ModelData.orderLine(1);
+            case "Country" -> ModelData.country(1);
+            default -> throw new IllegalArgumentException("Unknown type " + type);
+        };
+    }
+
+    @Override
+    protected ValueExtractor<?, ?> extractor() {
+        return switch (type) {
+            case "Order" -> ValueExtractor.of(Order::getTotalAmount);
+            case "OrderLine" -> ValueExtractor.of(OrderLine::getPrice);
+            case "Country" -> ValueExtractor.of(Country::population);
+            default -> throw new IllegalArgumentException("Unknown type " + type);
+        };
+    }
+
+    @Override
+    protected CompactExtractor<?, ?> compactExtractor() {
+        return switch (type) {
+            case "Order" -> OrderCompactExtractors.totalAmount();
+            case "OrderLine" -> OrderLineCompactExtractors.price();
+            case "Country" -> CountryCompactExtractors.population();
+            default -> throw new IllegalArgumentException("Unknown type " + type);
+        };
+    }
+}
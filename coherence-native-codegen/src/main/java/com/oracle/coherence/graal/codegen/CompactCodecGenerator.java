@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 18/10/2026, 10:54, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.codegen;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Generates a {@code <Type>CompactCodec} that encodes a type in the compact binary
+ * form of the {@code CompactSerializer}, and a {@code <Type>CompactExtractors} class
+ * with a {@code CompactExtractor} for each primitive property.
+ * <p>
+ * The primitive properties are written first, in the order of the {@link TypeModel},
+ * at fixed offsets that are generated as constants, followed by the other properties.
+ * Strings are written as length-prefixed UTF-8 and any other property is written
+ * using the serializer.
+ * <p>
+ * The codecs implement an interface of the {@code coherence-native-common} module,
+ * so they are only generated when that interface is on the class path.
+ */
+class CompactCodecGenerator {
+
+    /**
+     * The package of the compact serialization classes.
+     */
+    static final String SERIALIZATION_PACKAGE = "com.oracle.coherence.graal.serialization";
+
+    /**
+     * The name of the codec interface.
+     */
+    static final String CODEC_INTERFACE = SERIALIZATION_PACKAGE + ".CompactCodec";
+
+    private final ProcessingEnvironment env;
+
+    CompactCodecGenerator(ProcessingEnvironment env) {
+        this.env = env;
+    }
+
+    /**
+     * Returns {@code true} if the compact serialization classes are on the class path.
+     *
+     * @return {@code true} if codecs can be generated
+     */
+    boolean isAvailable() {
+        return env.getElementUtils().getTypeElement(CODEC_INTERFACE) != null;
+    }
+
+    /**
+     * Returns the simple name of the codec generated for a type.
+     *
+     * @param model  the type model
+     *
+     * @return the simple name of the codec generated for a type
+     */
+    static String codecName(TypeModel model) {
+        return model.simpleName() + "CompactCodec";
+    }
+
+    /**
+     * Returns the simple name of the extractors class generated for a type.
+     *
+     * @param model  the type model
+     *
+     * @return the simple name of the extractors class generated for a type
+     */
+    static String extractorsName(TypeModel model) {
+        return model.simpleName() + "CompactExtractors";
+    }
+
+    /**
+     * Generate the codec source.
+     *
+     * @param model   the type model
+     * @param typeId  the type identifier of the codec
+     *
+     * @return the codec source
+     */
+    String generateCodec(TypeModel model, int typeId) {
+        String type = model.simpleName();
+        SourceWriter out = new SourceWriter()
+                .line("package " + model.packageName(env) + ";")
+                .line()
+                .line("import " + CODEC_INTERFACE + ";")
+                .line("import " + SERIALIZATION_PACKAGE + ".CompactSerializer;")
+                .line("import com.tangosol.io.ReadBuffer;")
+                .line("import com.tangosol.io.WriteBuffer;")
+                .line()
+                .line("import java.io.IOException;")
+                .line()
+                .line("/**")
+                .line(" * A {@link CompactCodec} for {@link " + type + "}.")
+                .line(" * <p>")
+                .line(" * Generated by " + SerializerProcessor.class.getName() + ", do not edit.")
+                .line(" */")
+                .line("@javax.annotation.processing.Generated(\"" + SerializerProcessor.class.getName() + "\")")
+                .open("public class " + codecName(model) + " implements CompactCodec<" + type + ">")
+                .line()
+                .line("/**")
+                .line(" * The type identifier of the codec.")
+                .line(" */")
+                .line("public static final int TYPE_ID = " + typeId + ";");
+
+        int offset = 0;
+        for (TypeModel.Property property : model.properties) {
+            if (!property.type.getKind().isPrimitive()) {
+                continue;
+            }
+            out.line()
+                    .line("/**")
+                    .line(" * The offset of the {@code " + property.name + "} property.")
+                    .line(" */")
+                    .line("public static final int " + offsetName(property) + " = " + offset + ";");
+            offset += width(property.type);
+        }
+        out.line()
+                .line("/**")
+                .line(" * The size of the primitive properties.")
+                .line(" */")
+                .line("public static final int FIXED_SIZE = " + offset + ";")
+                .line()
+                .line("@Override")
+                .open("public int typeId()")
+                .line("return TYPE_ID;")
+                .close()
+                .line()
+                .line("@Override")
+                .open("public Class<" + type + "> type()")
+                .line("return " + type + ".class;")
+                .close()
+                .line()
+                .line("@Override")
+                .open("public void encode(CompactSerializer serializer, WriteBuffer.BufferOutput out, " + type
+                        + " value) throws IOException");
+        for (TypeModel.Property property : model.properties) {
+            if (property.type.getKind().isPrimitive()) {
+                out.line("out." + writeMethod(property.type) + "(value." + property.accessor + ");");
+            }
+        }
+        for (TypeModel.Property property : model.properties) {
+            if (property.type.getKind().isPrimitive()) {
+                continue;
+            }
+            out.line(PofSerializerGenerator.isString(property.type)
+                    ? "out.writeSafeUTF(value." + property.accessor + ");"
+                    : "serializer.serialize(out, value." + property.accessor + ");");
+        }
+        out.close()
+                .line()
+                .line("@Override")
+                .open("public " + type + " decode(CompactSerializer serializer, ReadBuffer.BufferInput in) throws IOException");
+        for (TypeModel.Property property : model.properties) {
+            if (property.type.getKind().isPrimitive()) {
+                out.line(property.type + " " + property.local() + " = in." + readMethod(property.type) + "();");
+            }
+        }
+        for (TypeModel.Property property : model.properties) {
+            if (property.type.getKind().isPrimitive()) {
+                continue;
+            }
+            out.line(PofSerializerGenerator.isString(property.type)
+                    ? "String " + property.local() + " = in.readSafeUTF();"
+                    : typeName(property.type) + " " + property.local() + " = (" + typeName(property.type)
+                            + ") serializer.deserialize(in);");
+        }
+
+        if (model.usesConstructor()) {
+            StringBuilder arguments = new StringBuilder();
+            for (TypeModel.Property property : model.constructorArguments) {
+                if (!arguments.isEmpty()) {
+                    arguments.append(", ");
+                }
+                arguments.append(property.local());
+            }
+            out.line("return new " + type + "(" + arguments + ");");
+        } else {
+            out.line(type + " result = new " + type + "();");
+            for (TypeModel.Property property : model.properties) {
+                out.line("result." + property.setter + "(" + property.local() + ");");
+            }
+            out.line("return result;");
+        }
+        out.close()
+                .line()
+                .line("@Override")
+                .open("public Object property(" + type + " value, String name)")
+                .open("return switch (name)");
+        for (TypeModel.Property property : model.properties) {
+            out.line("case \"" + property.name + "\" -> value." + property.accessor + ";");
+        }
+        out.line("default -> throw new IllegalArgumentException(\"Unknown property \" + name + \" of " + type + "\");");
+        return out.closeWith("};")
+                .close()
+                .close()
+                .toString();
+    }
+
+    /**
+     * Generate the extractors class source.
+     *
+     * @param model  the type model
+     *
+     * @return the extractors class source
+     */
+    String generateExtractors(TypeModel model) {
+        String type = model.simpleName();
+        String codec = codecName(model);
+        SourceWriter out = new SourceWriter()
+                .line("package " + model.packageName(env) + ";")
+                .line()
+                .line("import " + SERIALIZATION_PACKAGE + ".CompactExtractor;")
+                .line()
+                .line("/**")
+                .line(" * Extractors that read the primitive properties of {@link " + type + "} directly from")
+                .line(" * a binary serialized by the {@code CompactSerializer}.")
+                .line(" * <p>")
+                .line(" * Generated by " + SerializerProcessor.class.getName() + ", do not edit.")
+                .line(" */")
+                .line("@javax.annotation.processing.Generated(\"" + SerializerProcessor.class.getName() + "\")")
+                .open("public final class " + extractorsName(model))
+                .line()
+                .open("private " + extractorsName(model) + "()")
+                .close();
+
+        for (TypeModel.Property property : model.properties) {
+            if (!property.type.getKind().isPrimitive()) {
+                continue;
+            }
+            String valueType = env.getTypeUtils().boxedClass((PrimitiveType) property.type).getSimpleName().toString();
+            out.line()
+                    .line("/**")
+                    .line(" * Returns a {@link CompactExtractor} for the {@code " + property.name + "} property.")
+                    .line(" *")
+                    .line(" * @return a {@link CompactExtractor} for the {@code " + property.name + "} property")
+                    .line(" */")
+                    .open("public static CompactExtractor<" + type + ", " + valueType + "> " + property.name + "()")
+                    .line("return new CompactExtractor<>(" + codec + ".TYPE_ID, \"" + property.name + "\", CompactExtractor."
+                            + property.type.getKind().name() + ", " + codec + "." + offsetName(property) + ");")
+                    .close();
+        }
+        return out.close()
+                .toString();
+    }
+
+    private String typeName(TypeMirror type) {
+        return env.getTypeUtils().erasure(type).toString();
+    }
+
+    private static String offsetName(TypeModel.Property property) {
+        return property.name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_OFFSET";
+    }
+
+    private static int width(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN, BYTE -> 1;
+            case CHAR, SHORT -> 2;
+            case INT, FLOAT -> 4;
+            case LONG, DOUBLE -> 8;
+            default -> throw new IllegalArgumentException("Not a primitive type " + type);
+        };
+    }
+
+    private static String writeMethod(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "writeBoolean";
+            case BYTE -> "writeByte";
+            case CHAR -> "writeChar";
+            case SHORT -> "writeShort";
+            case INT -> "writeInt";
+            case LONG -> "writeLong";
+            case FLOAT -> "writeFloat";
+            case DOUBLE -> "writeDouble";
+            default -> throw new IllegalArgumentException("Not a primitive type " + type);
+        };
+    }
+
+    private static String readMethod(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "readBoolean";
+            case BYTE -> "readByte";
+            case CHAR -> "readChar";
+            case SHORT -> "readShort";
+            case INT -> "readInt";
+            case LONG -> "readLong";
+            case FLOAT -> "readFloat";
+            case DOUBLE -> "readDouble";
+            default -> throw new IllegalArgumentException("Not a primitive type " + type);
+        };
+    }
+}
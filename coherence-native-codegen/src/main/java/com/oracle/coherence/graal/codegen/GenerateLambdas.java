@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 18/10/2026, 10:27, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.codegen;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class or record that the {@link SerializerProcessor} should generate
+ * a {@code <Type>Lambdas} class for, with a named {@code ValueExtractor} for each
+ * property and a named {@code ValueUpdater} for each property with a setter.
+ * <p>
+ * The generated extractors and updaters are ordinary classes that are compiled
+ * into the same module as the type, so unlike method references they can be sent
+ * to a cluster member, including a native image, that runs with static lambdas.
+ * A generated extractor is not equal to the equivalent method reference, so an
+ * index must be added with the same extractor that the queries use.
+ * <p>
+ * The properties are found using the same rules as {@link GenerateSerializers}.
+ * The generated classes are registered as POF user types with consecutive
+ * identifiers starting at {@link #typeId()}, the extractors first, in property
+ * order, followed by the updaters.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateLambdas {
+
+    /**
+     * The first POF user type identifier to register the generated classes with.
+     *
+     * @return the first POF user type identifier
+     */
+    int typeId();
+}
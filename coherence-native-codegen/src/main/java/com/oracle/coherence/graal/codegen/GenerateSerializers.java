@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 18/10/2026, 10:10, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.codegen;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class or record that the {@link SerializerProcessor} should
+ * generate reflection-free serializers for.
+ * <p>
+ * The properties of a record are its components. The properties of a class are its
+ * non-static, non-transient fields, in declaration order, which must have getters.
+ * A class is created either using a constructor whose parameter names match all the
+ * properties, or using a no-args constructor and setters.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateSerializers {
+
+    /**
+     * The POF user type identifier to register the generated serializer with, which
+     * is also the type identifier of the generated compact codec.
+     *
+     * @return the POF user type identifier
+     */
+    int typeId();
+}
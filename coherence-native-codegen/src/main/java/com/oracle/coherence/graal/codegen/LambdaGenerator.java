@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 18/10/2026, 10:27, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.codegen;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a {@code <Type>Lambdas} class with a named {@code ValueExtractor}
+ * for each property of a type and a named {@code ValueUpdater} for each
+ * property that has a setter.
+ * <p>
+ * Each extractor and updater is a stateless nested class that is both
+ * {@code Serializable} and a {@code PortableObject}, so it can be used
+ * with caches using either Java serialization or POF.
+ */
+class LambdaGenerator {
+
+    private final ProcessingEnvironment env;
+
+    LambdaGenerator(ProcessingEnvironment env) {
+        this.env = env;
+    }
+
+    /**
+     * Returns the simple name of the class generated for a type.
+     *
+     * @param model  the type model
+     *
+     * @return the simple name of the class generated for a type
+     */
+    static String lambdasName(TypeModel model) {
+        return model.simpleName() + "Lambdas";
+    }
+
+    /**
+     * Returns the binary names of the nested classes generated for a type, in
+     * the order they are registered as POF user types.
+     *
+     * @param model        the type model
+     * @param packageName  the package of the type
+     *
+     * @return the binary names of the nested classes generated for a type
+     */
+    static List<String> nestedClassNames(TypeModel model, String packageName) {
+        String outer = packageName + "." + lambdasName(model) + "$";
+        List<String> names = new ArrayList<>();
+        for (TypeModel.Property property : model.properties) {
+            names.add(outer + extractorName(property));
+        }
+        for (TypeModel.Property property : model.properties) {
+            if (property.setter != null) {
+                names.add(outer + updaterName(property));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Generate the lambdas class source.
+     *
+     * @param model  the type model
+     *
+     * @return the lambdas class source
+     */
+    String generate(TypeModel model) {
+        String type = model.simpleName();
+        SourceWriter out = new SourceWriter()
+                .line("package " + model.packageName(env) + ";")
+                .line()
+                .line("import com.tangosol.io.pof.PofReader;")
+                .line("import com.tangosol.io.pof.PofWriter;")
+                .line("import com.tangosol.io.pof.PortableObject;")
+                .line("import com.tangosol.util.ValueExtractor;")
+                .line("import com.tangosol.util.ValueUpdater;")
+                .line("import com.tangosol.util.extractor.AbstractExtractor;")
+                .line()
+                .line("import java.io.Serializable;")
+                .line()
+                .line("/**")
+                .line(" * Named extractors and updaters for the properties of {@link " + type + "}, that can be")
+                .line(" * used in place of method references when the cluster runs with static lambdas.")
+                .line(" * <p>")
+                .line(" * Generated by " + SerializerProcessor.class.getName() + ", do not edit.")
+                .line(" */")
+                .line("@javax.annotation.processing.Generated(\"" + SerializerProcessor.class.getName() + "\")")
+                .open("public final class " + lambdasName(model))
+                .line()
+                .open("private " + lambdasName(model) + "()")
+                .close();
+
+        for (TypeModel.Property property : model.properties) {
+            String valueType = boxedName(property.type);
+            out.line()
+                    .line("/**")
+                    .line(" * Returns a {@link ValueExtractor} for the {@code " + property.name + "} property.")
+                    .line(" *")
+                    .line(" * @return a {@link ValueExtractor} for the {@code " + property.name + "} property")
+                    .line(" */")
+                    .open("public static ValueExtractor<" + type + ", " + valueType + "> " + property.name + "()")
+                    .line("return " + extractorName(property) + ".INSTANCE;")
+                    .close();
+        }
+
+        for (TypeModel.Property property : model.properties) {
+            if (property.setter == null) {
+                continue;
+            }
+            String valueType = boxedName(property.type);
+            out.line()
+                    .line("/**")
+                    .line(" * Returns a {@link ValueUpdater} for the {@code " + property.name + "} property.")
+                    .line(" *")
+                    .line(" * @return a {@link ValueUpdater} for the {@code " + property.name + "} property")
+                    .line(" */")
+                    .open("public static ValueUpdater<" + type + ", " + valueType + "> " + property.name + "Updater()")
+                    .line("return " + updaterName(property) + ".INSTANCE;")
+                    .close();
+        }
+
+        for (TypeModel.Property property : model.properties) {
+            generateExtractor(out, type, property);
+        }
+        for (TypeModel.Property property : model.properties) {
+            if (property.setter != null) {
+                generateUpdater(out, type, property);
+            }
+        }
+
+        return out.close()
+                .toString();
+    }
+
+    private void generateExtractor(SourceWriter out, String type, TypeModel.Property property) {
+        String name = extractorName(property);
+        String valueType = boxedName(property.type);
+        out.line()
+                .line("/**")
+                .line(" * The extractor for the {@code " + property.name + "} property.")
+                .line(" */")
+                .open("public static final class " + name + " extends AbstractExtractor<" + type + ", " + valueType
+                        + "> implements PortableObject")
+                .line()
+                .line("static final " + name + " INSTANCE = new " + name + "();")
+                .line()
+                .open("public " + name + "()")
+                .close()
+                .line()
+                .line("@Override")
+                .open("public " + valueType + " extract(" + type + " target)")
+                .line("return target == null ? null : target." + property.accessor + ";")
+                .close()
+                .line()
+                .line("@Override")
+                .open("public String getCanonicalName()")
+                .line("return \"" + property.name + "\";")
+                .close()
+                .line()
+                .line("@Override")
+                .open("public void readExternal(PofReader in)")
+                .close()
+                .line()
+                .line("@Override")
+                .open("public void writeExternal(PofWriter out)")
+                .close()
+                .close();
+    }
+
+    private void generateUpdater(SourceWriter out, String type, TypeModel.Property property) {
+        String name = updaterName(property);
+        String valueType = boxedName(property.type);
+        out.line()
+                .line("/**")
+                .line(" * The updater for the {@code " + property.name + "} property.")
+                .line(" */")
+                .open("public static final class " + name + " implements ValueUpdater<" + type + ", " + valueType
+                        + ">, PortableObject, Serializable")
+                .line()
+                .line("static final " + name + " INSTANCE = new " + name + "();")
+                .line()
+                .open("public " + name + "()")
+                .close()
+                .line()
+                .line("@Override")
+                .open("public void update(" + type + " target, " + valueType + " value)")
+                .line("target." + property.setter + "(value);")
+                .close()
+                .line()
+                .line("@Override")
+                .open("public void readExternal(PofReader in)")
+                .close()
+                .line()
+                .line("@Override")
+                .open("public void writeExternal(PofWriter out)")
+                .close()
+                .line()
+                .line("@Override")
+                .open("public boolean equals(Object o)")
+                .line("return o instanceof " + name + ";")
+                .close()
+                .line()
+                .line("@Override")
+                .open("public int hashCode()")
+                .line("return " + name + ".class.hashCode();")
+                .close()
+                .close();
+    }
+
+    private String boxedName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return env.getTypeUtils().boxedClass((PrimitiveType) type).getSimpleName().toString();
+        }
+        return PofSerializerGenerator.isString(type) ? "String" : type.toString();
+    }
+
+    private static String extractorName(TypeModel.Property property) {
+        return TypeModel.capitalize(property.name) + "Extractor";
+    }
+
+    private static String updaterName(TypeModel.Property property) {
+        return TypeModel.capitalize(property.name) + "Updater";
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 18/10/2026, 10:28, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.codegen;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Generates a {@code <Type>PofExtractors} class for a {@code @PortableType} with
+ * a POF extractor for each property, and for each property of any nested
+ * {@code @PortableType} property, that reads the value straight from the
+ * serialized binary without deserializing the whole object.
+ * <p>
+ * The property paths are resolved against the POF schema of the type, so the
+ * extractors stay correct when the {@code pof-maven-plugin} assigns the indexes.
+ * Only the names and types of the fields are needed, so a portable type does not
+ * need accessors or a constructor matching its fields.
+ */
+class PofExtractorGenerator {
+
+    /**
+     * The name of the Coherence portable type annotation.
+     */
+    static final String PORTABLE_TYPE = "com.tangosol.io.pof.schema.annotation.PortableType";
+
+    private final ProcessingEnvironment env;
+
+    PofExtractorGenerator(ProcessingEnvironment env) {
+        this.env = env;
+    }
+
+    /**
+     * Returns the simple name of the class generated for a type.
+     *
+     * @param model  the type model
+     *
+     * @return the simple name of the class generated for a type
+     */
+    static String extractorsName(TypeModel model) {
+        return model.simpleName() + "PofExtractors";
+    }
+
+    /**
+     * Generate the extractors class source.
+     *
+     * @param model  the type model
+     *
+     * @return the extractors class source
+     */
+    String generate(TypeModel model) {
+        String type = model.simpleName();
+        SourceWriter out = new SourceWriter()
+                .line("package " + model.packageName(env) + ";")
+                .line()
+                .line("import com.tangosol.util.Extractors;")
+                .line("import com.tangosol.util.ValueExtractor;")
+                .line()
+                .line("/**")
+                .line(" * POF extractors for the properties of {@link " + type + "}, that read a single property")
+                .line(" * from the serialized binary instead of deserializing the whole object.")
+                .line(" * <p>")
+                .line(" * Generated by " + SerializerProcessor.class.getName() + ", do not edit.")
+                .line(" */")
+                .line("@javax.annotation.processing.Generated(\"" + SerializerProcessor.class.getName() + "\")")
+                .open("public final class " + extractorsName(model))
+                .line();
+
+        for (TypeModel.Property property : model.properties) {
+            field(out, type, property.name, property.type, property.name);
+            TypeModel nested = nestedModel(property.type);
+            if (nested != null) {
+                for (TypeModel.Property nestedProperty : nested.properties) {
+                    field(out, type, property.name + TypeModel.capitalize(nestedProperty.name),
+                            nestedProperty.type, property.name + "." + nestedProperty.name);
+                }
+            }
+        }
+
+        out.line()
+                .open("private " + extractorsName(model) + "()")
+                .close();
+
+        for (TypeModel.Property property : model.properties) {
+            method(out, type, property.name, property.type, property.name);
+            TypeModel nested = nestedModel(property.type);
+            if (nested != null) {
+                for (TypeModel.Property nestedProperty : nested.properties) {
+                    method(out, type, property.name + TypeModel.capitalize(nestedProperty.name),
+                            nestedProperty.type, property.name + "." + nestedProperty.name);
+                }
+            }
+        }
+
+        return out.close()
+                .toString();
+    }
+
+    private void field(SourceWriter out, String type, String name, TypeMirror propertyType, String path) {
+        String valueType = boxedName(propertyType);
+        out.line("private static final ValueExtractor<" + type + ", " + valueType + "> " + constantName(name)
+                + " = Extractors.fromPof(" + valueType + ".class, \"" + path + "\");");
+    }
+
+    private void method(SourceWriter out, String type, String name, TypeMirror propertyType, String path) {
+        String valueType = boxedName(propertyType);
+        out.line()
+                .line("/**")
+                .line(" * Returns a POF extractor for the {@code " + path + "} property.")
+                .line(" *")
+                .line(" * @return a POF extractor for the {@code " + path + "} property")
+                .line(" */")
+                .open("public static ValueExtractor<" + type + ", " + valueType + "> " + name + "()")
+                .line("return " + constantName(name) + ";")
+                .close();
+    }
+
+    /**
+     * Returns the model of a property type if it is also a portable type.
+     *
+     * @param type  the property type
+     *
+     * @return the model of the property type, or {@code null} if it is not a portable type
+     */
+    private TypeModel nestedModel(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        Element element = env.getTypeUtils().asElement(type);
+        if (!(element instanceof TypeElement typeElement) || !isPortableType(typeElement)) {
+            return null;
+        }
+        return TypeModel.ofFields(typeElement);
+    }
+
+    /**
+     * Returns {@code true} if a type is annotated with {@code @PortableType}.
+     *
+     * @param type  the type
+     *
+     * @return {@code true} if a type is annotated with {@code @PortableType}
+     */
+    static boolean isPortableType(TypeElement type) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (annotation.getAnnotationType().toString().equals(PORTABLE_TYPE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String boxedName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return env.getTypeUtils().boxedClass((PrimitiveType) type).getSimpleName().toString();
+        }
+        return PofSerializerGenerator.isString(type) ? "String" : env.getTypeUtils().erasure(type).toString();
+    }
+
+    private static String constantName(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+}
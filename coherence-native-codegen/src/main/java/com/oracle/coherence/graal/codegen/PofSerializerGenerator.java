@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 18/10/2026, 10:10, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.codegen;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Generates a {@code PofSerializer} for a type that reads and writes each
+ * property directly, without reflection.
+ * <p>
+ * The properties are written in the order of the {@link TypeModel} starting
+ * at POF index zero, followed by an empty remainder.
+ */
+class PofSerializerGenerator {
+
+    private final ProcessingEnvironment env;
+
+    PofSerializerGenerator(ProcessingEnvironment env) {
+        this.env = env;
+    }
+
+    /**
+     * Returns the simple name of the serializer generated for a type.
+     *
+     * @param model  the type model
+     *
+     * @return the simple name of the serializer generated for a type
+     */
+    static String serializerName(TypeModel model) {
+        return model.simpleName() + "PofSerializer";
+    }
+
+    /**
+     * Generate the serializer source.
+     *
+     * @param model  the type model
+     *
+     * @return the serializer source
+     */
+    String generate(TypeModel model) {
+        String type = model.simpleName();
+        SourceWriter out = new SourceWriter()
+                .line("package " + model.packageName(env) + ";")
+                .line()
+                .line("import com.tangosol.io.pof.PofReader;")
+                .line("import com.tangosol.io.pof.PofSerializer;")
+                .line("import com.tangosol.io.pof.PofWriter;")
+                .line()
+                .line("import java.io.IOException;")
+                .line()
+                .line("/**")
+                .line(" * A reflection-free {@link PofSerializer} for {@link " + type + "}.")
+                .line(" * <p>")
+                .line(" * Generated by " + SerializerProcessor.class.getName() + ", do not edit.")
+                .line(" */")
+                .line("@javax.annotation.processing.Generated(\"" + SerializerProcessor.class.getName() + "\")")
+                .open("public class " + serializerName(model) + " implements PofSerializer<" + type + ">")
+                .line()
+                .line("@Override")
+                .open("public void serialize(PofWriter out, " + type + " value) throws IOException");
+
+        int index = 0;
+        for (TypeModel.Property property : model.properties) {
+            out.line("out." + writeMethod(property.type) + "(" + index++ + ", value." + property.accessor + ");");
+        }
+        out.line("out.writeRemainder(null);")
+                .close()
+                .line()
+                .line("@Override")
+                .line("@SuppressWarnings(\"unchecked\")")
+                .open("public " + type + " deserialize(PofReader in) throws IOException");
+
+        index = 0;
+        for (TypeModel.Property property : model.properties) {
+            out.line(typeName(property.type) + " " + property.local() + " = " + readExpression(property.type, index++) + ";");
+        }
+        out.line("in.readRemainder();");
+
+        if (model.usesConstructor()) {
+            StringBuilder arguments = new StringBuilder();
+            for (TypeModel.Property property : model.constructorArguments) {
+                if (!arguments.isEmpty()) {
+                    arguments.append(", ");
+                }
+                arguments.append(property.local());
+            }
+            out.line("return new " + type + "(" + arguments + ");");
+        } else {
+            out.line(type + " result = new " + type + "();");
+            for (TypeModel.Property property : model.properties) {
+                out.line("result." + property.setter + "(" + property.local() + ");");
+            }
+            out.line("return result;");
+        }
+
+        return out.close()
+                .close()
+                .toString();
+    }
+
+    private String typeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.toString();
+        }
+        return isString(type) ? "String" : env.getTypeUtils().erasure(type).toString();
+    }
+
+    private String writeMethod(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "writeBoolean";
+            case BYTE -> "writeByte";
+            case CHAR -> "writeChar";
+            case SHORT -> "writeShort";
+            case INT -> "writeInt";
+            case LONG -> "writeLong";
+            case FLOAT -> "writeFloat";
+            case DOUBLE -> "writeDouble";
+            default -> isString(type) ? "writeString" : "writeObject";
+        };
+    }
+
+    private String readExpression(TypeMirror type, int index) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "in.readBoolean(" + index + ")";
+            case BYTE -> "in.readByte(" + index + ")";
+            case CHAR -> "in.readChar(" + index + ")";
+            case SHORT -> "in.readShort(" + index + ")";
+            case INT -> "in.readInt(" + index + ")";
+            case LONG -> "in.readLong(" + index + ")";
+            case FLOAT -> "in.readFloat(" + index + ")";
+            case DOUBLE -> "in.readDouble(" + index + ")";
+            default -> isString(type)
+                    ? "in.readString(" + index + ")"
+                    : "(" + typeName(type) + ") in.readObject(" + index + ")";
+        };
+    }
+
+    static boolean isString(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && type.toString().equals(String.class.getName());
+    }
+}
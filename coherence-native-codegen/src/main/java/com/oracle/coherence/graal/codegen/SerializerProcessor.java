@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 18/10/2026, 10:10, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An annotation processor that generates reflection-free serializers for
+ * types annotated with {@link GenerateSerializers}, and named extractors and
+ * updaters for types annotated with {@link GenerateLambdas}, and POF extractors
+ * for types annotated with Coherence's {@code @PortableType}.
+ * <p>
+ * For each type annotated with {@link GenerateSerializers} the processor generates a
+ * {@code PofSerializer}, and for each type annotated with {@link GenerateLambdas} a
+ * {@code <Type>Lambdas} class. It also generates a POF configuration file registering
+ * the serializers and the generated extractors and updaters, a {@code PofConfigProvider}
+ * so that Coherence discovers the configuration, and GraalVM native image metadata so the
+ * serializers and configuration are included in a native image.
+ * <p>
+ * When the {@code CompactSerializer} of the server module is on the class path the
+ * processor also generates a {@code <Type>CompactCodec} and {@code <Type>CompactExtractors}
+ * for each type annotated with {@link GenerateSerializers}, and registers the codecs
+ * as {@code CompactCodec} services.
+ * <p>
+ * The package of the generated {@code PofConfigProvider} can be set using the
+ * {@value #OPTION_PACKAGE} processor option.
+ */
+@SupportedAnnotationTypes({"com.oracle.coherence.graal.codegen.GenerateSerializers",
+        "com.oracle.coherence.graal.codegen.GenerateLambdas",
+        PofExtractorGenerator.PORTABLE_TYPE})
+@SupportedOptions(SerializerProcessor.OPTION_PACKAGE)
+public class SerializerProcessor extends AbstractProcessor {
+
+    /**
+     * The processor option to set the package of the generated {@code PofConfigProvider}.
+     */
+    public static final String OPTION_PACKAGE = "coherence.codegen.package";
+
+    /**
+     * The default package of the generated {@code PofConfigProvider}.
+     */
+    public static final String DEFAULT_PACKAGE = "com.oracle.coherence.graal.generated";
+
+    /**
+     * The name of the generated POF configuration resource.
+     */
+    public static final String POF_CONFIG = "META-INF/coherence-native-pof-config.xml";
+
+    /**
+     * The directory the native image metadata is generated in.
+     */
+    public static final String NATIVE_IMAGE_DIR = "META-INF/native-image/com.oracle.coherence/coherence-native-codegen/";
+
+    /**
+     * The POF user types generated in all rounds.
+     */
+    private final List<UserType> userTypes = new ArrayList<>();
+
+    /**
+     * The names of the compact codecs generated in all rounds.
+     */
+    private final List<String> codecs = new ArrayList<>();
+
+    /**
+     * {@code true} once the {@code PofConfigProvider} has been generated.
+     */
+    private boolean providerGenerated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        PofSerializerGenerator pofGenerator = new PofSerializerGenerator(processingEnv);
+        LambdaGenerator lambdaGenerator = new LambdaGenerator(processingEnv);
+        PofExtractorGenerator pofExtractorGenerator = new PofExtractorGenerator(processingEnv);
+        CompactCodecGenerator codecGenerator = new CompactCodecGenerator(processingEnv);
+
+        for (Element element : round.getElementsAnnotatedWith(GenerateSerializers.class)) {
+            TypeElement type = (TypeElement) element;
+            try {
+                TypeModel model = TypeModel.of(processingEnv, type);
+                String packageName = model.packageName(processingEnv);
+                String serializer = packageName + "." + PofSerializerGenerator.serializerName(model);
+
+                writeSource(serializer, pofGenerator.generate(model), type);
+                int typeId = type.getAnnotation(GenerateSerializers.class).typeId();
+                userTypes.add(new UserType(typeId, model.qualifiedName(), serializer));
+
+                if (codecGenerator.isAvailable()) {
+                    String codec = packageName + "." + CompactCodecGenerator.codecName(model);
+                    writeSource(codec, codecGenerator.generateCodec(model, typeId), type);
+                    writeSource(packageName + "." + CompactCodecGenerator.extractorsName(model),
+                            codecGenerator.generateExtractors(model), type);
+                    codecs.add(codec);
+                }
+            } catch (IllegalArgumentException | IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), type);
+            }
+        }
+
+        for (Element element : round.getElementsAnnotatedWith(GenerateLambdas.class)) {
+            TypeElement type = (TypeElement) element;
+            try {
+                TypeModel model = TypeModel.of(processingEnv, type);
+                String packageName = model.packageName(processingEnv);
+
+                writeSource(packageName + "." + LambdaGenerator.lambdasName(model), lambdaGenerator.generate(model), type);
+                int typeId = type.getAnnotation(GenerateLambdas.class).typeId();
+                for (String className : LambdaGenerator.nestedClassNames(model, packageName)) {
+                    // the generated classes are portable objects, so use the default serializer
+                    userTypes.add(new UserType(typeId++, className, null));
+                }
+            } catch (IllegalArgumentException | IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), type);
+            }
+        }
+
+        for (TypeElement annotation : annotations) {
+            if (!annotation.getQualifiedName().contentEquals(PofExtractorGenerator.PORTABLE_TYPE)) {
+                continue;
+            }
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                TypeElement type = (TypeElement) element;
+                try {
+                    TypeModel model = TypeModel.ofFields(type);
+                    String name = model.packageName(processingEnv) + "." + PofExtractorGenerator.extractorsName(model);
+                    writeSource(name, pofExtractorGenerator.generate(model), type);
+                } catch (IllegalArgumentException | IOException e) {
+                    // the extractors are optional, so do not fail the build of a valid portable type
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            "POF extractors not generated: " + e.getMessage(), type);
+                }
+            }
+        }
+
+        if (!userTypes.isEmpty() && !round.processingOver() && !providerGenerated) {
+            try {
+                writeSource(providerName(), generateProvider());
+                providerGenerated = true;
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+            }
+        }
+
+        if (round.processingOver() && !userTypes.isEmpty()) {
+            try {
+                writeResource(POF_CONFIG, generatePofConfig());
+                writeResource("META-INF/services/com.tangosol.io.pof.PofConfigProvider", providerName() + "\n");
+                if (!codecs.isEmpty()) {
+                    writeResource("META-INF/services/" + CompactCodecGenerator.CODEC_INTERFACE,
+                            String.join("\n", codecs) + "\n");
+                }
+                writeResource(NATIVE_IMAGE_DIR + "reflect-config.json", generateReflectConfig());
+                writeResource(NATIVE_IMAGE_DIR + "resource-config.json", generateResourceConfig());
+                writeResource(NATIVE_IMAGE_DIR + "serialization-config.json", generateSerializationConfig());
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+            }
+        }
+        // do not claim the annotations, as other processors may also handle @PortableType
+        return false;
+    }
+
+    private String providerName() {
+        String packageName = processingEnv.getOptions().getOrDefault(OPTION_PACKAGE, DEFAULT_PACKAGE);
+        return packageName + ".GeneratedPofConfigProvider";
+    }
+
+    private String generateProvider() {
+        String name = providerName();
+        int dot = name.lastIndexOf('.');
+        return new SourceWriter()
+                .line("package " + name.substring(0, dot) + ";")
+                .line()
+                .line("import com.tangosol.io.pof.PofConfigProvider;")
+                .line()
+                .line("/**")
+                .line(" * A {@link PofConfigProvider} for the generated POF serializers.")
+                .line(" * <p>")
+                .line(" * Generated by " + SerializerProcessor.class.getName() + ", do not edit.")
+                .line(" */")
+                .line("@javax.annotation.processing.Generated(\"" + SerializerProcessor.class.getName() + "\")")
+                .open("public class " + name.substring(dot + 1) + " implements PofConfigProvider")
+                .line()
+                .line("@Override")
+                .open("public String getConfigURI()")
+                .line("return \"" + POF_CONFIG + "\";")
+                .close()
+                .close()
+                .toString();
+    }
+
+    private String generatePofConfig() {
+        StringBuilder xml = new StringBuilder()
+                .append("<?xml version=\"1.0\"?>\n")
+                .append("<!-- Generated by ").append(SerializerProcessor.class.getName()).append(", do not edit. -->\n")
+                .append("<pof-config xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n")
+                .append("            xmlns=\"http://xmlns.oracle.com/coherence/coherence-pof-config\"\n")
+                .append("            xsi:schemaLocation=\"http://xmlns.oracle.com/coherence/coherence-pof-config coherence-pof-config.xsd\">\n")
+                .append("    <user-type-list>\n");
+        for (UserType userType : userTypes) {
+            xml.append("        <user-type>\n")
+                    .append("            <type-id>").append(userType.typeId).append("</type-id>\n")
+                    .append("            <class-name>").append(userType.className).append("</class-name>\n");
+            if (userType.serializer != null) {
+                xml.append("            <serializer>\n")
+                        .append("                <class-name>").append(userType.serializer).append("</class-name>\n")
+                        .append("            </serializer>\n");
+            }
+            xml.append("        </user-type>\n");
+        }
+        return xml.append("    </user-type-list>\n")
+                .append("</pof-config>\n")
+                .toString();
+    }
+
+    private String generateReflectConfig() {
+        StringBuilder json = new StringBuilder("[\n");
+        List<String> classes = new ArrayList<>();
+        classes.add(providerName());
+        for (UserType userType : userTypes) {
+            classes.add(userType.serializer == null ? userType.className : userType.serializer);
+        }
+        // the compact codecs are loaded by the ServiceLoader
+        classes.addAll(codecs);
+        for (int i = 0; i < classes.size(); i++) {
+            json.append("  {\n")
+                    .append("    \"name\": \"").append(classes.get(i)).append("\",\n")
+                    .append("    \"methods\": [\n")
+                    .append("      {\"name\": \"<init>\", \"parameterTypes\": []}\n")
+                    .append("    ]\n")
+                    .append(i < classes.size() - 1 ? "  },\n" : "  }\n");
+        }
+        return json.append("]\n").toString();
+    }
+
+    private String generateSerializationConfig() {
+        // the generated extractors and updaters may also be sent using Java serialization
+        List<String> classes = new ArrayList<>();
+        for (UserType userType : userTypes) {
+            if (userType.serializer == null) {
+                classes.add(userType.className);
+            }
+        }
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < classes.size(); i++) {
+            json.append("  {\"name\": \"").append(classes.get(i)).append("\"}")
+                    .append(i < classes.size() - 1 ? ",\n" : "\n");
+        }
+        return json.append("]\n").toString();
+    }
+
+    private String generateResourceConfig() {
+        return "{\n"
+                + "  \"resources\": {\n"
+                + "    \"includes\": [\n"
+                + "      {\"pattern\": \"\\\\Q" + POF_CONFIG + "\\\\E\"}\n"
+                + "    ]\n"
+                + "  }\n"
+                + "}\n";
+    }
+
+    private void writeSource(String name, String source, Element... originatingElements) throws IOException {
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(name, originatingElements);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    private void writeResource(String name, String content) throws IOException {
+        Filer filer = processingEnv.getFiler();
+        FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", name);
+        try (Writer writer = file.openWriter()) {
+            writer.write(content);
+        }
+    }
+
+    /**
+     * A generated POF user type.
+     *
+     * @param typeId      the POF user type identifier
+     * @param className   the name of the user type class
+     * @param serializer  the name of the generated serializer class, or {@code null}
+     *                    if the user type is a {@code PortableObject}
+     */
+    private record UserType(int typeId, String className, String serializer) {
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 18/10/2026, 10:10, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.codegen;
+
+/**
+ * A simple builder of indented Java source code.
+ */
+class SourceWriter {
+
+    private final StringBuilder source = new StringBuilder();
+
+    private int indent;
+
+    /**
+     * Append a line at the current indentation.
+     *
+     * @param line  the line to append
+     *
+     * @return this {@link SourceWriter}
+     */
+    SourceWriter line(String line) {
+        if (!line.isEmpty()) {
+            source.append("    ".repeat(indent));
+        }
+        source.append(line).append('\n');
+        return this;
+    }
+
+    /**
+     * Append an empty line.
+     *
+     * @return this {@link SourceWriter}
+     */
+    SourceWriter line() {
+        return line("");
+    }
+
+    /**
+     * Append a line that opens a block and increase the indentation.
+     *
+     * @param line  the line that opens the block
+     *
+     * @return this {@link SourceWriter}
+     */
+    SourceWriter open(String line) {
+        line(line + " {");
+        indent++;
+        return this;
+    }
+
+    /**
+     * Decrease the indentation and append a line that closes a block.
+     *
+     * @return this {@link SourceWriter}
+     */
+    SourceWriter close() {
+        return closeWith("}");
+    }
+
+    /**
+     * Decrease the indentation and append a line that closes a block, such as the
+     * {@code "};"} that closes a {@code switch} expression.
+     *
+     * @param line  the line that closes the block
+     *
+     * @return this {@link SourceWriter}
+     */
+    SourceWriter closeWith(String line) {
+        indent--;
+        return line(line);
+    }
+
+    @Override
+    public String toString() {
+        return source.toString();
+    }
+}
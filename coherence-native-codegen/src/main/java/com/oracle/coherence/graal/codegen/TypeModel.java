@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 18/10/2026, 10:10, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.codegen;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The properties of a type that serializers are generated for, and how
+ * to read them from an instance and create a new instance from them.
+ */
+class TypeModel {
+
+    /**
+     * The type.
+     */
+    final TypeElement type;
+
+    /**
+     * The properties of the type, in serialization order.
+     */
+    final List<Property> properties;
+
+    /**
+     * The properties in the order they are passed to the constructor,
+     * or an empty list if the type is created with a no-args constructor
+     * and setters.
+     */
+    final List<Property> constructorArguments;
+
+    private TypeModel(TypeElement type, List<Property> properties, List<Property> constructorArguments) {
+        this.type = type;
+        this.properties = properties;
+        this.constructorArguments = constructorArguments;
+    }
+
+    /**
+     * Returns the package name of the type.
+     *
+     * @param env  the processing environment
+     *
+     * @return the package name of the type
+     */
+    String packageName(ProcessingEnvironment env) {
+        return env.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    }
+
+    /**
+     * Returns the simple name of the type.
+     *
+     * @return the simple name of the type
+     */
+    String simpleName() {
+        return type.getSimpleName().toString();
+    }
+
+    /**
+     * Returns the fully qualified name of the type.
+     *
+     * @return the fully qualified name of the type
+     */
+    String qualifiedName() {
+        return type.getQualifiedName().toString();
+    }
+
+    /**
+     * Returns {@code true} if the type is created using a constructor.
+     *
+     * @return {@code true} if the type is created using a constructor
+     */
+    boolean usesConstructor() {
+        return !constructorArguments.isEmpty();
+    }
+
+    /**
+     * Create a {@link TypeModel} for a type.
+     *
+     * @param env   the processing environment
+     * @param type  the type
+     *
+     * @return the {@link TypeModel} for the type
+     *
+     * @throws IllegalArgumentException if the type cannot be modelled
+     */
+    static TypeModel of(ProcessingEnvironment env, TypeElement type) {
+        if (type.getKind() == ElementKind.RECORD) {
+            List<Property> properties = new ArrayList<>();
+            for (RecordComponentElement component : type.getRecordComponents()) {
+                String accessor = component.getAccessor().getSimpleName() + "()";
+                properties.add(new Property(component.getSimpleName().toString(), component.asType(), accessor, null));
+            }
+            return new TypeModel(type, properties, properties);
+        }
+
+        List<ExecutableElement> methods = ElementFilter.methodsIn(env.getElementUtils().getAllMembers(type));
+        List<Property> properties = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            String getter = findMethod(methods, accessorNames(name, field.asType()), 0);
+            if (getter == null) {
+                throw new IllegalArgumentException("No public getter for property " + name + " of " + type);
+            }
+            String setter = findMethod(methods, List.of("set" + capitalize(name)), 1);
+            properties.add(new Property(name, field.asType(), getter + "()", setter));
+        }
+
+        Map<String, Property> byName = new HashMap<>();
+        for (Property property : properties) {
+            byName.put(property.name, property);
+        }
+
+        boolean hasDefaultConstructor = false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            if (constructor.getParameters().isEmpty()) {
+                hasDefaultConstructor = true;
+                continue;
+            }
+            if (constructor.getParameters().size() == properties.size()) {
+                List<Property> arguments = new ArrayList<>();
+                for (VariableElement parameter : constructor.getParameters()) {
+                    Property property = byName.get(parameter.getSimpleName().toString());
+                    if (property == null || !env.getTypeUtils().isSameType(property.type, parameter.asType())) {
+                        break;
+                    }
+                    arguments.add(property);
+                }
+                if (arguments.size() == properties.size()) {
+                    return new TypeModel(type, properties, arguments);
+                }
+            }
+        }
+
+        if (!hasDefaultConstructor) {
+            throw new IllegalArgumentException("No public constructor matching the properties, or public no-args constructor, for " + type);
+        }
+        for (Property property : properties) {
+            if (property.setter == null) {
+                throw new IllegalArgumentException("No public setter for property " + property.name + " of " + type);
+            }
+        }
+        return new TypeModel(type, properties, Collections.emptyList());
+    }
+
+    /**
+     * Create a {@link TypeModel} for a type that only has the names and types of its
+     * properties, such as a portable type whose fields are serialized directly by the
+     * {@code pof-maven-plugin} and so do not need accessors or a matching constructor.
+     * <p>
+     * The properties of the model have no accessor or setter, so it can only be used
+     * to generate code that refers to the properties by name.
+     *
+     * @param type  the type
+     *
+     * @return the {@link TypeModel} for the type
+     */
+    static TypeModel ofFields(TypeElement type) {
+        List<Property> properties = new ArrayList<>();
+        if (type.getKind() == ElementKind.RECORD) {
+            for (RecordComponentElement component : type.getRecordComponents()) {
+                properties.add(new Property(component.getSimpleName().toString(), component.asType(), null, null));
+            }
+        } else {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                properties.add(new Property(field.getSimpleName().toString(), field.asType(), null, null));
+            }
+        }
+        return new TypeModel(type, properties, Collections.emptyList());
+    }
+
+    private static List<String> accessorNames(String name, TypeMirror type) {
+        if (type.getKind() == TypeKind.BOOLEAN) {
+            return List.of("is" + capitalize(name), "get" + capitalize(name));
+        }
+        return List.of("get" + capitalize(name));
+    }
+
+    private static String findMethod(List<ExecutableElement> methods, List<String> names, int parameterCount) {
+        for (ExecutableElement method : methods) {
+            if (method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && method.getParameters().size() == parameterCount
+                    && names.contains(method.getSimpleName().toString())) {
+                return method.getSimpleName().toString();
+            }
+        }
+        return null;
+    }
+
+    static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * A property of a type.
+     */
+    static class Property {
+
+        /**
+         * The name of the property.
+         */
+        final String name;
+
+        /**
+         * The type of the property.
+         */
+        final TypeMirror type;
+
+        /**
+         * The expression, relative to an instance, that reads the property.
+         */
+        final String accessor;
+
+        /**
+         * The name of the setter, or {@code null} if there is no setter.
+         */
+        final String setter;
+
+        Property(String name, TypeMirror type, String accessor, String setter) {
+            this.name = name;
+            this.type = type;
+            this.accessor = accessor;
+            this.setter = setter;
+        }
+
+        /**
+         * Returns the name of the local variable that generated code reads the property into.
+         * It is prefixed with {@code $}, which the parameters and other locals of the generated
+         * methods, such as {@code in} or {@code result}, are not, so that they cannot clash.
+         *
+         * @return the name of the local variable for the property
+         */
+        String local() {
+            return "$" + name;
+        }
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 18/10/2026, 10:43, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.bulk;
+
+import com.tangosol.io.Serializer;
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.CacheService;
+import com.tangosol.net.Member;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+import com.tangosol.util.ExternalizableHelper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Loads a large number of entries into a cache using batched asynchronous
+ * {@code putAll} requests.
+ * <p>
+ * Entries are grouped by the member that owns their partition, so each request
+ * goes to a single member instead of being split up by the cache service. A
+ * member's batch is sent when its estimated serialized size reaches the target
+ * batch size. The size of an entry is estimated from the serialized size of
+ * a sample of the entries, so the number of entries in a batch adapts to the
+ * size of the values being loaded.
+ * <p>
+ * Several batches are kept in flight at once. Once the maximum number of batches
+ * is in flight, adding an entry that fills a batch blocks until an earlier batch
+ * completes, so that a fast producer cannot exhaust the memory of the client or
+ * the cluster. Blocked producers are unblocked in the order they arrived.
+ * <p>
+ * For a cache that is not a partitioned cache, for example an Extend client
+ * cache, the entries are batched without grouping, as the proxy sends them on.
+ * <pre>
+ * try (BulkLoader&lt;Integer, Customer&gt; loader = BulkLoader.builder(customers).build()) {
+ *     for (Customer customer : source) {
+ *         loader.put(customer.getId(), customer);
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <K>  the type of the cache keys
+ * @param <V>  the type of the cache values
+ */
+public class BulkLoader<K, V> implements AutoCloseable {
+
+    /**
+     * The default target serialized size of a batch.
+     */
+    public static final int DEFAULT_BATCH_BYTES = 1024 * 1024;
+
+    /**
+     * The default maximum number of batches in flight.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 8;
+
+    /**
+     * The default number of entries between two entries whose size is measured.
+     */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 64;
+
+    /**
+     * The group of the entries of a cache that is not partitioned, or whose partition has no owner.
+     */
+    private static final int NO_OWNER = -1;
+
+    /**
+     * The asynchronous view of the cache.
+     */
+    private final AsyncNamedCache<K, V> cache;
+
+    /**
+     * The partitioned service of the cache, or {@code null}.
+     */
+    private final PartitionedService partitionedService;
+
+    /**
+     * The serializer used to measure the size of the entries.
+     */
+    private final Serializer serializer;
+
+    /**
+     * The target serialized size of a batch.
+     */
+    private final int batchBytes;
+
+    /**
+     * The number of entries between two entries whose size is measured.
+     */
+    private final int sampleInterval;
+
+    /**
+     * The permits for the batches in flight.
+     */
+    private final Semaphore inFlight;
+
+    /**
+     * The maximum number of batches in flight.
+     */
+    private final int maxInFlight;
+
+    /**
+     * The batches in flight, which {@link #flush()} waits for.
+     */
+    private final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The batch being filled for each owner member id.
+     */
+    private final Map<Integer, Map<K, V>> batches = new HashMap<>();
+
+    /**
+     * The first error of a batch.
+     */
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    /**
+     * The number of batches sent.
+     */
+    private final AtomicLong batchCount = new AtomicLong();
+
+    /**
+     * The number of entries added.
+     */
+    private long entryCount;
+
+    /**
+     * The estimated serialized size of an entry.
+     */
+    private double entryBytes;
+
+    /**
+     * The number of entries measured.
+     */
+    private long sampleCount;
+
+    private BulkLoader(Builder<K, V> builder) {
+        NamedCache<K, V> namedCache = builder.cache;
+        CacheService service = namedCache.getCacheService();
+        this.cache = namedCache.async();
+        this.partitionedService = service instanceof PartitionedService partitioned ? partitioned : null;
+        this.serializer = service.getSerializer();
+        this.batchBytes = builder.batchBytes;
+        this.sampleInterval = builder.sampleInterval;
+        this.maxInFlight = builder.maxInFlight;
+        this.inFlight = new Semaphore(builder.maxInFlight, true);
+    }
+
+    /**
+     * Create a {@link Builder} of a {@link BulkLoader}.
+     *
+     * @param cache  the cache to load
+     * @param <K>    the type of the cache keys
+     * @param <V>    the type of the cache values
+     *
+     * @return a {@link Builder} of a {@link BulkLoader}
+     */
+    public static <K, V> Builder<K, V> builder(NamedCache<K, V> cache) {
+        return new Builder<>(cache);
+    }
+
+    /**
+     * Add an entry to load, sending its batch if the batch is full.
+     *
+     * @param key    the key of the entry
+     * @param value  the value of the entry
+     *
+     * @throws CompletionException if an earlier batch failed
+     */
+    public synchronized void put(K key, V value) {
+        checkError();
+        if (entryCount++ % sampleInterval == 0) {
+            long size = ExternalizableHelper.toBinary(key, serializer).length()
+                    + ExternalizableHelper.toBinary(value, serializer).length();
+            sampleCount++;
+            entryBytes += (size - entryBytes) / Math.min(sampleCount, 100);
+        }
+
+        int owner = owner(key);
+        Map<K, V> batch = batches.computeIfAbsent(owner, id -> new HashMap<>());
+        batch.put(key, value);
+        if (batch.size() * entryBytes >= batchBytes) {
+            batches.remove(owner);
+            send(batch);
+        }
+    }
+
+    /**
+     * Add all the entries of a map to load.
+     *
+     * @param map  the entries to load
+     *
+     * @throws CompletionException if an earlier batch failed
+     */
+    public synchronized void putAll(Map<? extends K, ? extends V> map) {
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Send the batches that are not full and wait for all the batches to complete.
+     * <p>
+     * Only the batches in flight when the batches are sent are waited for, so a
+     * flush is not held up by the batches of producers on other threads.
+     *
+     * @throws CompletionException if a batch failed
+     */
+    public void flush() {
+        CompletableFuture<?>[] sent;
+        synchronized (this) {
+            for (Map<K, V> batch : batches.values()) {
+                send(batch);
+            }
+            batches.clear();
+            sent = pending.toArray(CompletableFuture[]::new);
+        }
+        // the errors are recorded by the batches and thrown below
+        CompletableFuture.allOf(sent).handle((result, t) -> null).join();
+        checkError();
+    }
+
+    /**
+     * Returns the number of entries added.
+     *
+     * @return the number of entries added
+     */
+    public synchronized long getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Returns the number of batches sent.
+     *
+     * @return the number of batches sent
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Returns the estimated serialized size of an entry.
+     *
+     * @return the estimated serialized size of an entry in bytes
+     */
+    public synchronized double getEntryBytes() {
+        return entryBytes;
+    }
+
+    /**
+     * Returns the number of batches in flight.
+     *
+     * @return the number of batches in flight
+     */
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /**
+     * Send the remaining entries and wait for all the batches to complete.
+     *
+     * @throws CompletionException if a batch failed
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+    /**
+     * Returns the id of the member that owns the partition of a key.
+     *
+     * @param key  the key
+     *
+     * @return the id of the owner, or {@link #NO_OWNER}
+     */
+    private int owner(K key) {
+        if (partitionedService == null) {
+            return NO_OWNER;
+        }
+        int partition = partitionedService.getKeyPartitioningStrategy().getKeyPartition(key);
+        Member member = partitionedService.getPartitionOwner(partition);
+        return member == null ? NO_OWNER : member.getId();
+    }
+
+    /**
+     * Send a batch once there is a free permit, releasing the permit when the batch completes.
+     *
+     * @param batch  the batch to send
+     */
+    private void send(Map<K, V> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        inFlight.acquireUninterruptibly();
+        batchCount.incrementAndGet();
+        try {
+            CompletableFuture<Void> future = cache.putAll(batch);
+            pending.add(future);
+            future.whenComplete((result, t) -> {
+                if (t != null) {
+                    error.compareAndSet(null, t);
+                }
+                pending.remove(future);
+                inFlight.release();
+            });
+        } catch (Throwable t) {
+            error.compareAndSet(null, t);
+            inFlight.release();
+        }
+    }
+
+    private void checkError() {
+        Throwable t = error.get();
+        if (t != null) {
+            throw t instanceof CompletionException completion ? completion : new CompletionException(t);
+        }
+    }
+
+    /**
+     * A builder of a {@link BulkLoader}.
+     *
+     * @param <K>  the type of the cache keys
+     * @param <V>  the type of the cache values
+     */
+    public static class Builder<K, V> {
+
+        /**
+         * The cache to load.
+         */
+        private final NamedCache<K, V> cache;
+
+        /**
+         * The target serialized size of a batch.
+         */
+        private int batchBytes = DEFAULT_BATCH_BYTES;
+
+        /**
+         * The maximum number of batches in flight.
+         */
+        private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+        /**
+         * The number of entries between two entries whose size is measured.
+         */
+        private int sampleInterval = DEFAULT_SAMPLE_INTERVAL;
+
+        private Builder(NamedCache<K, V> cache) {
+            this.cache = cache;
+        }
+
+        /**
+         * Set the target serialized size of a batch.
+         *
+         * @param batchBytes  the target serialized size of a batch in bytes
+         *
+         * @return this {@link Builder}
+         */
+        public Builder<K, V> batchBytes(int batchBytes) {
+            if (batchBytes <= 0) {
+                throw new IllegalArgumentException("The batch size must be positive");
+            }
+            this.batchBytes = batchBytes;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of batches in flight.
+         *
+         * @param maxInFlight  the maximum number of batches in flight
+         *
+         * @return this {@link Builder}
+         */
+        public Builder<K, V> maxInFlight(int maxInFlight) {
+            if (maxInFlight <= 0) {
+                throw new IllegalArgumentException("The maximum number of batches in flight must be positive");
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Set the number of entries between two entries whose serialized size is measured.
+         * Measuring every entry gives the most accurate batch sizes, at the cost of
+         * serializing every entry twice.
+         *
+         * @param sampleInterval  the number of entries between two measured entries
+         *
+         * @return this {@link Builder}
+         */
+        public Builder<K, V> sampleInterval(int sampleInterval) {
+            if (sampleInterval <= 0) {
+                throw new IllegalArgumentException("The sample interval must be positive");
+            }
+            this.sampleInterval = sampleInterval;
+            return this;
+        }
+
+        /**
+         * Build the {@link BulkLoader}.
+         *
+         * @return the {@link BulkLoader}
+         */
+        public BulkLoader<K, V> build() {
+            return new BulkLoader<>(this);
+        }
+    }
+}
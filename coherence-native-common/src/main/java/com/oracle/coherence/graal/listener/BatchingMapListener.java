@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 18/10/2026, 10:42, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.listener;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.MapListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A {@link MapListener} that delivers the events it receives in batches,
+ * instead of calling a handler for every event.
+ * <p>
+ * Events are added to the current batch as they arrive. The batch is delivered
+ * when it holds {@link Builder#maxBatchSize(int) the maximum number of events}, or
+ * when {@link Builder#maxLatency(Duration) the maximum latency} has passed since
+ * its first event, whichever comes first. Batches are delivered in order on a
+ * virtual thread owned by the listener, so a slow handler does not block the
+ * event dispatcher of the cache service.
+ * <p>
+ * At most {@link Builder#maxQueuedBatches(int) a maximum number of batches} wait
+ * for, or are being processed by, the handler. When a batch is full and that many batches are already
+ * waiting, the thread delivering the event blocks until the handler catches up,
+ * so a handler that cannot keep up slows the events down instead of growing
+ * the memory of the client without limit. A latency flush never blocks: while
+ * the queue is full the current batch keeps growing, or keeps conflating, until
+ * it can be queued.
+ * <p>
+ * When {@link Builder#conflate(boolean) conflation} is enabled the batch keeps
+ * a single event for each key, which merges all the changes to the key since
+ * the batch started. An entry inserted and then deleted in the same batch is
+ * not delivered at all.
+ * <p>
+ * The listener is registered like any other listener, so it works with both
+ * cluster member and Extend client caches:
+ * <pre>
+ * BatchingMapListener&lt;Integer, Customer&gt; listener = BatchingMapListener.&lt;Integer, Customer&gt;builder(batch -&gt; ...)
+ *         .maxBatchSize(1000)
+ *         .maxLatency(Duration.ofMillis(10))
+ *         .build();
+ * customers.addMapListener(listener);
+ * </pre>
+ *
+ * @param <K>  the type of the cache keys
+ * @param <V>  the type of the cache values
+ */
+public class BatchingMapListener<K, V> implements MapListener<K, V>, AutoCloseable {
+
+    /**
+     * The default maximum number of events in a batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    /**
+     * The default maximum time the first event of a batch waits to be delivered.
+     */
+    public static final Duration DEFAULT_MAX_LATENCY = Duration.ofMillis(10);
+
+    /**
+     * The default maximum number of batches waiting for the handler.
+     */
+    public static final int DEFAULT_MAX_QUEUED_BATCHES = 16;
+
+    /**
+     * The scheduler of the latency flushes of all listeners.
+     */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "BatchingMapListener");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The handler of the batches.
+     */
+    private final Consumer<List<MapEvent<K, V>>> handler;
+
+    /**
+     * The maximum number of events in a batch.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The maximum time the first event of a batch waits to be delivered, in nanoseconds.
+     */
+    private final long maxLatencyNanos;
+
+    /**
+     * {@code true} to keep a single event for each key in a batch.
+     */
+    private final boolean conflate;
+
+    /**
+     * The executor that delivers the batches in order.
+     */
+    private final ExecutorService delivery = Executors.newSingleThreadExecutor(Thread.ofVirtual()
+            .name("BatchingMapListener-delivery-", 0)
+            .factory());
+
+    /**
+     * The permits of the batches queued to, or being handled on, the delivery thread.
+     */
+    private final Semaphore queuedBatches;
+
+    /**
+     * The events of the current batch, when not conflating.
+     */
+    private List<MapEvent<K, V>> events;
+
+    /**
+     * The events of the current batch by key, when conflating.
+     */
+    private Map<K, MapEvent<K, V>> eventsByKey;
+
+    /**
+     * The scheduled flush of the current batch, or {@code null}.
+     */
+    private ScheduledFuture<?> pendingFlush;
+
+    /**
+     * {@code true} once the listener has been closed.
+     */
+    private boolean closed;
+
+    private BatchingMapListener(Builder<K, V> builder) {
+        this.handler = builder.handler;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxLatencyNanos = builder.maxLatency.toNanos();
+        this.conflate = builder.conflate;
+        this.queuedBatches = new Semaphore(builder.maxQueuedBatches);
+        newBatch();
+    }
+
+    /**
+     * Create a {@link Builder} of a {@link BatchingMapListener}.
+     *
+     * @param handler  the handler of the batches
+     * @param <K>      the type of the cache keys
+     * @param <V>      the type of the cache values
+     *
+     * @return a {@link Builder} of a {@link BatchingMapListener}
+     */
+    public static <K, V> Builder<K, V> builder(Consumer<List<MapEvent<K, V>>> handler) {
+        return new Builder<>(handler);
+    }
+
+    @Override
+    public void entryInserted(MapEvent<K, V> evt) {
+        add(evt);
+    }
+
+    @Override
+    public void entryUpdated(MapEvent<K, V> evt) {
+        add(evt);
+    }
+
+    @Override
+    public void entryDeleted(MapEvent<K, V> evt) {
+        add(evt);
+    }
+
+    /**
+     * Deliver the current batch now, if it has any events. This blocks while the
+     * maximum number of batches are already waiting for the handler.
+     */
+    public void flush() {
+        synchronized (this) {
+            deliver(drain());
+        }
+    }
+
+    /**
+     * Deliver the current batch and stop delivering batches. Events received
+     * after the listener is closed are ignored, so the listener should be removed
+     * from the cache first.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            deliver(drain());
+        }
+        delivery.shutdown();
+    }
+
+    /**
+     * Add an event to the current batch.
+     *
+     * @param evt  the event
+     */
+    private void add(MapEvent<K, V> evt) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (conflate) {
+                K key = evt.getKey();
+                MapEvent<K, V> previous = eventsByKey.remove(key);
+                MapEvent<K, V> merged = previous == null ? evt : merge(previous, evt);
+                if (merged != null) {
+                    eventsByKey.put(key, merged);
+                }
+            } else {
+                events.add(evt);
+            }
+
+            if (size() >= maxBatchSize) {
+                deliver(drain());
+            } else if (pendingFlush == null && size() > 0) {
+                scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * Schedule a latency flush of the current batch.
+     */
+    private void scheduleFlush() {
+        pendingFlush = SCHEDULER.schedule(this::flushAfterLatency, maxLatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Deliver the current batch once its maximum latency has passed.
+     * <p>
+     * This runs on the scheduler thread shared by all listeners, so it must not
+     * block. If the maximum number of batches are already queued, the batch stays
+     * current and the flush is tried again after another latency period.
+     */
+    private void flushAfterLatency() {
+        synchronized (this) {
+            pendingFlush = null;
+            if (closed || size() == 0) {
+                return;
+            }
+            if (queuedBatches.tryAcquire()) {
+                submit(drain());
+            } else {
+                scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of events in the current batch.
+     *
+     * @return the number of events in the current batch
+     */
+    private int size() {
+        return conflate ? eventsByKey.size() : events.size();
+    }
+
+    /**
+     * Take the current batch and start a new one.
+     *
+     * @return the current batch, or {@code null} if it is empty
+     */
+    private List<MapEvent<K, V>> drain() {
+        if (pendingFlush != null) {
+            pendingFlush.cancel(false);
+            pendingFlush = null;
+        }
+        if (size() == 0) {
+            return null;
+        }
+        List<MapEvent<K, V>> batch = conflate ? new ArrayList<>(eventsByKey.values()) : events;
+        newBatch();
+        return batch;
+    }
+
+    private void newBatch() {
+        if (conflate) {
+            eventsByKey = new LinkedHashMap<>();
+        } else {
+            events = new ArrayList<>(Math.min(maxBatchSize, 1024));
+        }
+    }
+
+    /**
+     * Hand a batch to the handler on the delivery thread, waiting while the
+     * maximum number of batches are already queued.
+     * <p>
+     * This is called while holding the lock that the batch was drained under, so
+     * batches drained by the event thread and by a latency flush on the scheduler
+     * thread are queued to the delivery thread in the order they were drained.
+     * Waiting under the lock also holds back the events that arrive meanwhile.
+     *
+     * @param batch  the batch, or {@code null} if there is nothing to deliver
+     */
+    private void deliver(List<MapEvent<K, V>> batch) {
+        if (batch == null) {
+            return;
+        }
+        queuedBatches.acquireUninterruptibly();
+        submit(batch);
+    }
+
+    /**
+     * Queue a batch to the delivery thread, once a permit for it has been acquired.
+     *
+     * @param batch  the batch
+     */
+    private void submit(List<MapEvent<K, V>> batch) {
+        List<MapEvent<K, V>> events = List.copyOf(batch);
+        delivery.execute(() -> {
+            try {
+                handler.accept(events);
+            } catch (Throwable t) {
+                Logger.err("BatchingMapListener handler failed for a batch of " + events.size() + " events", t);
+            } finally {
+                queuedBatches.release();
+            }
+        });
+    }
+
+    /**
+     * Merge two events for the same key into one event with the same overall effect.
+     *
+     * @param first  the earlier event
+     * @param last   the later event
+     * @param <K>    the type of the keys
+     * @param <V>    the type of the values
+     *
+     * @return the merged event, or {@code null} if the events cancel each other out
+     */
+    static <K, V> MapEvent<K, V> merge(MapEvent<K, V> first, MapEvent<K, V> last) {
+        int firstId = first.getId();
+        int lastId = last.getId();
+        if (firstId == MapEvent.ENTRY_INSERTED) {
+            return lastId == MapEvent.ENTRY_DELETED
+                    ? null
+                    : new MapEvent<>(last.getMap(), MapEvent.ENTRY_INSERTED, last.getKey(), null, last.getNewValue());
+        }
+        if (lastId == MapEvent.ENTRY_DELETED) {
+            return new MapEvent<>(last.getMap(), MapEvent.ENTRY_DELETED, last.getKey(), first.getOldValue(), null);
+        }
+        // an update, or a delete followed by an insert, is an update from the first old value to the last new value
+        return new MapEvent<>(last.getMap(), MapEvent.ENTRY_UPDATED, last.getKey(), first.getOldValue(), last.getNewValue());
+    }
+
+    /**
+     * A builder of a {@link BatchingMapListener}.
+     *
+     * @param <K>  the type of the cache keys
+     * @param <V>  the type of the cache values
+     */
+    public static class Builder<K, V> {
+
+        /**
+         * The handler of the batches.
+         */
+        private final Consumer<List<MapEvent<K, V>>> handler;
+
+        /**
+         * The maximum number of events in a batch.
+         */
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+        /**
+         * The maximum time the first event of a batch waits to be delivered.
+         */
+        private Duration maxLatency = DEFAULT_MAX_LATENCY;
+
+        /**
+         * {@code true} to keep a single event for each key in a batch.
+         */
+        private boolean conflate;
+
+        /**
+         * The maximum number of batches waiting for the handler.
+         */
+        private int maxQueuedBatches = DEFAULT_MAX_QUEUED_BATCHES;
+
+        private Builder(Consumer<List<MapEvent<K, V>>> handler) {
+            this.handler = Objects.requireNonNull(handler, "The batch handler cannot be null");
+        }
+
+        /**
+         * Set the maximum number of events in a batch.
+         *
+         * @param maxBatchSize  the maximum number of events in a batch
+         *
+         * @return this {@link Builder}
+         */
+        public Builder<K, V> maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("The maximum batch size must be positive");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum time the first event of a batch waits to be delivered.
+         *
+         * @param maxLatency  the maximum time the first event of a batch waits to be delivered
+         *
+         * @return this {@link Builder}
+         */
+        public Builder<K, V> maxLatency(Duration maxLatency) {
+            if (maxLatency.isNegative() || maxLatency.isZero()) {
+                throw new IllegalArgumentException("The maximum latency must be positive");
+            }
+            this.maxLatency = maxLatency;
+            return this;
+        }
+
+        /**
+         * Set whether to keep a single event for each key in a batch.
+         *
+         * @param conflate  {@code true} to keep a single event for each key in a batch
+         *
+         * @return this {@link Builder}
+         */
+        public Builder<K, V> conflate(boolean conflate) {
+            this.conflate = conflate;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of batches waiting for, or being processed by, the
+         * handler. Once reached, delivering a full batch blocks the thread that
+         * delivers the event until the handler has finished a batch.
+         *
+         * @param maxQueuedBatches  the maximum number of batches waiting for the handler
+         *
+         * @return this {@link Builder}
+         */
+        public Builder<K, V> maxQueuedBatches(int maxQueuedBatches) {
+            if (maxQueuedBatches <= 0) {
+                throw new IllegalArgumentException("The maximum number of queued batches must be positive");
+            }
+            this.maxQueuedBatches = maxQueuedBatches;
+            return this;
+        }
+
+        /**
+         * Build the {@link BatchingMapListener}.
+         *
+         * @return the {@link BatchingMapListener}
+         */
+        public BatchingMapListener<K, V> build() {
+            return new BatchingMapListener<>(this);
+        }
+    }
+}
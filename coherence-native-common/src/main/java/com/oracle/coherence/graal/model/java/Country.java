@@ -6,7 +6,10 @@
 
 package com.oracle.coherence.graal.model.java;
 
+import com.oracle.coherence.graal.codegen.GenerateSerializers;
+
 import java.io.Serializable;
 
+@GenerateSerializers(typeId = 1012)
 public record Country(String countryCode, String name, long population) implements Serializable {
 }
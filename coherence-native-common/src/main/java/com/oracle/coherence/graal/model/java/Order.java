@@ -6,9 +6,12 @@
 
 package com.oracle.coherence.graal.model.java;
 
+import com.oracle.coherence.graal.codegen.GenerateSerializers;
+
 import java.io.Serializable;
 import java.util.Objects;
 
+@GenerateSerializers(typeId = 1010)
 public class Order implements Serializable {
     private int orderId;
     private String customerId;
@@ -7,9 +7,12 @@
 
 package com.oracle.coherence.graal.model.java;
 
+import com.oracle.coherence.graal.codegen.GenerateSerializers;
+
 import java.io.Serializable;
 import java.util.Objects;
 
+@GenerateSerializers(typeId = 1011)
 public class OrderLine implements Serializable {
     private int orderId;
     private int orderLineId;
@@ -6,6 +6,7 @@
 
 package com.oracle.coherence.graal.model.pof;
 
+import com.oracle.coherence.graal.codegen.GenerateLambdas;
 import com.tangosol.internal.util.invoke.Lambdas;
 import com.tangosol.io.pof.schema.annotation.PortableType;
 import com.tangosol.util.ValueExtractor;
@@ -14,6 +15,7 @@ import com.tangosol.util.ValueUpdater;
 import java.util.Objects;
 
 @PortableType(id = 1000)
+@GenerateLambdas(typeId = 1100)
 public class Customer {
     private int id;
     private String name;
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 18/10/2026, 10:49, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.query;
+
+import com.tangosol.net.CacheService;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+import com.tangosol.net.partition.PartitionSet;
+import com.tangosol.util.Filter;
+import com.tangosol.util.filter.PartitionedFilter;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs a query in chunks of partitions, so that the results are streamed to
+ * the caller instead of being returned in a single response.
+ * <p>
+ * A query such as {@code cache.values(filter)} returns every matching entry in
+ * one response, so the whole result set is held in memory by the member that
+ * collects it and by the client, and the client receives nothing until the last
+ * partition has been queried. A streaming query wraps the filter in a
+ * {@link PartitionedFilter} for each chunk of partitions and sends the chunks
+ * asynchronously as the results are consumed:
+ * <ul>
+ *     <li>at most {@link Builder#prefetch(int) prefetch} chunks are requested ahead
+ *     of the caller, so a slow consumer is not sent more results than it can hold</li>
+ *     <li>the first results are returned as soon as the first chunk completes</li>
+ * </ul>
+ * The query works with any cache, including Extend and gRPC remote caches, as the
+ * chunks are ordinary asynchronous {@code entrySet} requests. A remote cache does not
+ * know the partition count of the cluster, so it must be set using
+ * {@link Builder#partitionCount(int)}.
+ * <pre>
+ * try (Stream&lt;Customer&gt; gold = StreamingQuery.builder(customers, Filters.equal(type, "GOLD"))
+ *         .build()
+ *         .values()) {
+ *     gold.forEach(this::process);
+ * }
+ * </pre>
+ *
+ * @param <K>  the type of the cache keys
+ * @param <V>  the type of the cache values
+ */
+public class StreamingQuery<K, V> {
+
+    /**
+     * The cache to query.
+     */
+    private final NamedCache<K, V> cache;
+
+    /**
+     * The query filter.
+     */
+    private final Filter<?> filter;
+
+    /**
+     * The partition count of the cache service.
+     */
+    private final int partitionCount;
+
+    /**
+     * The number of partitions queried by each chunk.
+     */
+    private final int partitionsPerChunk;
+
+    /**
+     * The maximum number of chunks requested ahead of the caller.
+     */
+    private final int prefetch;
+
+    /**
+     * The number of chunks requested.
+     */
+    private final AtomicLong chunkCount = new AtomicLong();
+
+    private StreamingQuery(Builder<K, V> builder) {
+        this.cache = builder.cache;
+        this.filter = builder.filter;
+        this.partitionCount = builder.partitionCount > 0 ? builder.partitionCount : partitionCount(cache);
+        this.partitionsPerChunk = Math.min(builder.partitionsPerChunk, partitionCount);
+        this.prefetch = builder.prefetch;
+    }
+
+    /**
+     * Create a {@link Builder} for a query.
+     *
+     * @param cache   the cache to query
+     * @param filter  the query filter
+     * @param <K>     the type of the cache keys
+     * @param <V>     the type of the cache values
+     *
+     * @return a {@link Builder} for the query
+     */
+    public static <K, V> Builder<K, V> builder(NamedCache<K, V> cache, Filter<?> filter) {
+        return new Builder<>(cache, filter);
+    }
+
+    /**
+     * Run the query and return a stream of the matching entries.
+     * <p>
+     * Closing the stream cancels the chunks that have been requested but not consumed.
+     *
+     * @return a stream of the matching entries
+     */
+    public Stream<Map.Entry<K, V>> entries() {
+        ChunkIterator iterator = new ChunkIterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.DISTINCT | Spliterator.NONNULL), false)
+                .onClose(iterator::cancel);
+    }
+
+    /**
+     * Run the query and return a stream of the values of the matching entries.
+     *
+     * @return a stream of the values of the matching entries
+     */
+    public Stream<V> values() {
+        return entries().map(Map.Entry::getValue);
+    }
+
+    /**
+     * Run the query and return a stream of the keys of the matching entries.
+     *
+     * @return a stream of the keys of the matching entries
+     */
+    public Stream<K> keys() {
+        return entries().map(Map.Entry::getKey);
+    }
+
+    /**
+     * Returns the number of chunks requested by the streams of this query.
+     *
+     * @return the number of chunks requested
+     */
+    public long getChunkCount() {
+        return chunkCount.get();
+    }
+
+    /**
+     * Returns the number of partitions queried by each chunk.
+     *
+     * @return the number of partitions queried by each chunk
+     */
+    public int getPartitionsPerChunk() {
+        return partitionsPerChunk;
+    }
+
+    /**
+     * Returns the partition count of the service of a cache.
+     * <p>
+     * A remote cache does not know the partition count of the cluster, and a query
+     * using a different count would skip or repeat partitions, so the count must be
+     * set explicitly.
+     *
+     * @param cache  the cache
+     *
+     * @return the partition count of the service of the cache
+     *
+     * @throws IllegalStateException if the cache is not a partitioned cache
+     */
+    private static int partitionCount(NamedCache<?, ?> cache) {
+        CacheService service = cache.getCacheService();
+        if (service instanceof PartitionedService partitioned) {
+            return partitioned.getPartitionCount();
+        }
+        throw new IllegalStateException("The partition count of cache " + cache.getCacheName()
+                + " is not known, it must be set using partitionCount()");
+    }
+
+    /**
+     * Iterates over the results of the chunks of a query, requesting the next
+     * chunk as each chunk is consumed.
+     */
+    private class ChunkIterator implements Iterator<Map.Entry<K, V>> {
+
+        /**
+         * The chunks that have been requested, in partition order.
+         */
+        private final Deque<CompletableFuture<Set<Map.Entry<K, V>>>> pending = new ArrayDeque<>();
+
+        /**
+         * The first partition of the next chunk to request.
+         */
+        private int nextPartition;
+
+        /**
+         * The results of the chunk being consumed.
+         */
+        private Iterator<Map.Entry<K, V>> current = Collections.emptyIterator();
+
+        ChunkIterator() {
+            request();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                CompletableFuture<Set<Map.Entry<K, V>>> chunk = pending.poll();
+                if (chunk == null) {
+                    return false;
+                }
+                current = chunk.join().iterator();
+                request();
+            }
+            return true;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        /**
+         * Request chunks until {@link #prefetch} chunks are pending or every
+         * partition has been requested.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void request() {
+            while (pending.size() < prefetch && nextPartition < partitionCount) {
+                PartitionSet partitions = new PartitionSet(partitionCount);
+                int end = Math.min(nextPartition + partitionsPerChunk, partitionCount);
+                for (int partition = nextPartition; partition < end; partition++) {
+                    partitions.add(partition);
+                }
+                nextPartition = end;
+                chunkCount.incrementAndGet();
+                pending.add(cache.async().entrySet(new PartitionedFilter(filter, partitions)));
+            }
+        }
+
+        /**
+         * Cancel the pending chunks.
+         */
+        void cancel() {
+            nextPartition = partitionCount;
+            CompletableFuture<Set<Map.Entry<K, V>>> chunk;
+            while ((chunk = pending.poll()) != null) {
+                chunk.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * A builder of a {@link StreamingQuery}.
+     *
+     * @param <K>  the type of the cache keys
+     * @param <V>  the type of the cache values
+     */
+    public static class Builder<K, V> {
+
+        /**
+         * The cache to query.
+         */
+        private final NamedCache<K, V> cache;
+
+        /**
+         * The query filter.
+         */
+        private final Filter<?> filter;
+
+        /**
+         * The partition count of the cache service, or zero to find it from the cache.
+         */
+        private int partitionCount;
+
+        /**
+         * The number of partitions queried by each chunk.
+         */
+        private int partitionsPerChunk = 16;
+
+        /**
+         * The maximum number of chunks requested ahead of the caller.
+         */
+        private int prefetch = 2;
+
+        private Builder(NamedCache<K, V> cache, Filter<?> filter) {
+            this.cache = cache;
+            this.filter = filter;
+        }
+
+        /**
+         * Set the partition count of the cache service, which must be set for a
+         * remote cache, such as an Extend or gRPC cache.
+         *
+         * @param partitionCount  the partition count of the cache service
+         *
+         * @return this builder
+         */
+        public Builder<K, V> partitionCount(int partitionCount) {
+            if (partitionCount <= 0) {
+                throw new IllegalArgumentException("The partition count must be positive");
+            }
+            this.partitionCount = partitionCount;
+            return this;
+        }
+
+        /**
+         * Set the number of partitions queried by each chunk, the default is {@code 16}.
+         *
+         * @param partitionsPerChunk  the number of partitions queried by each chunk
+         *
+         * @return this builder
+         */
+        public Builder<K, V> partitionsPerChunk(int partitionsPerChunk) {
+            if (partitionsPerChunk <= 0) {
+                throw new IllegalArgumentException("The partitions per chunk must be positive");
+            }
+            this.partitionsPerChunk = partitionsPerChunk;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of chunks requested ahead of the caller, the default is {@code 2}.
+         *
+         * @param prefetch  the maximum number of chunks requested ahead of the caller
+         *
+         * @return this builder
+         */
+        public Builder<K, V> prefetch(int prefetch) {
+            if (prefetch <= 0) {
+                throw new IllegalArgumentException("The prefetch must be positive");
+            }
+            this.prefetch = prefetch;
+            return this;
+        }
+
+        /**
+         * Build the query.
+         *
+         * @return the query
+         */
+        public StreamingQuery<K, V> build() {
+            return new StreamingQuery<>(this);
+        }
+    }
+}
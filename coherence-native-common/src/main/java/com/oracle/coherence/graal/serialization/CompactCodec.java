@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 18/10/2026, 10:54, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.serialization;
+
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.WriteBuffer;
+
+import java.io.IOException;
+
+/**
+ * Encodes and decodes a type in the compact binary form written by the
+ * {@link CompactSerializer}.
+ * <p>
+ * A codec is generated by the {@code coherence-native-codegen} annotation processor
+ * for each type annotated with {@code @GenerateSerializers}, and is discovered by the
+ * {@link CompactSerializer} using the {@link java.util.ServiceLoader}.
+ * <p>
+ * The primitive properties of a type are written first, in declaration order, at
+ * fixed offsets from the start of the encoded value, followed by the other properties.
+ * A {@link CompactExtractor} reads a primitive property from its offset in the
+ * serialized binary, without deserializing the value.
+ *
+ * @param <T>  the encoded type
+ */
+public interface CompactCodec<T> {
+
+    /**
+     * Returns the identifier written before each encoded value of the type.
+     *
+     * @return the identifier of the type
+     */
+    int typeId();
+
+    /**
+     * Returns the encoded type.
+     *
+     * @return the encoded type
+     */
+    Class<T> type();
+
+    /**
+     * Write a value.
+     *
+     * @param serializer  the serializer to write nested values with
+     * @param out         the output to write to
+     * @param value       the value to write
+     *
+     * @throws IOException if the value cannot be written
+     */
+    void encode(CompactSerializer serializer, WriteBuffer.BufferOutput out, T value) throws IOException;
+
+    /**
+     * Read a value.
+     *
+     * @param serializer  the serializer to read nested values with
+     * @param in          the input to read from
+     *
+     * @return the value read
+     *
+     * @throws IOException if the value cannot be read
+     */
+    T decode(CompactSerializer serializer, ReadBuffer.BufferInput in) throws IOException;
+
+    /**
+     * Returns the value of a property of a deserialized value, without reflection.
+     *
+     * @param value  the value
+     * @param name   the name of the property
+     *
+     * @return the value of the property
+     *
+     * @throws IllegalArgumentException if the type has no such property
+     */
+    Object property(T value, String name);
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 18/10/2026, 10:54, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.serialization;
+
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.extractor.AbstractExtractor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A {@code ValueExtractor} that reads a primitive property of a value serialized
+ * by the {@link CompactSerializer} directly from the serialized binary.
+ * <p>
+ * A primitive property of a compact value is at a fixed offset, so when a query,
+ * index or aggregator runs on a storage member the extractor reads the property
+ * from the binary entry without deserializing the value or copying the binary.
+ * For a deserialized value, or a binary that is not a compact value of the type,
+ * the property is read using the generated {@link CompactCodec}.
+ * <p>
+ * Extractors are created by the generated {@code <Type>CompactExtractors} classes.
+ * Their canonical name is the property name, but they are not equal to the equivalent
+ * method reference, so an index is only used by queries that use the same extractor.
+ *
+ * @param <T>  the type of the value to extract from
+ * @param <E>  the type of the extracted property
+ */
+public class CompactExtractor<T, E> extends AbstractExtractor<T, E> implements ExternalizableLite {
+
+    /**
+     * The kind of a {@code boolean} property.
+     */
+    public static final char BOOLEAN = 'Z';
+
+    /**
+     * The kind of a {@code byte} property.
+     */
+    public static final char BYTE = 'B';
+
+    /**
+     * The kind of a {@code char} property.
+     */
+    public static final char CHAR = 'C';
+
+    /**
+     * The kind of a {@code short} property.
+     */
+    public static final char SHORT = 'S';
+
+    /**
+     * The kind of an {@code int} property.
+     */
+    public static final char INT = 'I';
+
+    /**
+     * The kind of a {@code long} property.
+     */
+    public static final char LONG = 'J';
+
+    /**
+     * The kind of a {@code float} property.
+     */
+    public static final char FLOAT = 'F';
+
+    /**
+     * The kind of a {@code double} property.
+     */
+    public static final char DOUBLE = 'D';
+
+    /**
+     * The type identifier of the codec of the type.
+     */
+    private int typeId;
+
+    /**
+     * The name of the property.
+     */
+    private String property;
+
+    /**
+     * The kind of the property.
+     */
+    private char kind;
+
+    /**
+     * The offset of the property from the first property of the value.
+     */
+    private int offset;
+
+    /**
+     * Default constructor for serialization.
+     */
+    public CompactExtractor() {
+    }
+
+    /**
+     * Create a {@link CompactExtractor}.
+     *
+     * @param typeId    the type identifier of the codec of the type
+     * @param property  the name of the property
+     * @param kind      the kind of the property
+     * @param offset    the offset of the property from the first property of the value
+     */
+    public CompactExtractor(int typeId, String property, char kind, int offset) {
+        this.typeId = typeId;
+        this.property = property;
+        this.kind = kind;
+        this.offset = offset;
+    }
+
+    @Override
+    public E extractFromEntry(Map.Entry entry) {
+        if (m_nTarget == VALUE && entry instanceof BinaryEntry<?, ?> binaryEntry
+                && binaryEntry.getSerializer() instanceof CompactSerializer) {
+            ReadBuffer buffer = binaryEntry.getBinaryValue();
+            if (buffer != null) {
+                buffer = undecorated(buffer);
+                int start = CompactSerializer.propertiesOffset(buffer, typeId);
+                if (start >= 0) {
+                    return read(buffer, start);
+                }
+            }
+        }
+        return super.extractFromEntry(entry);
+    }
+
+    /**
+     * Read the property from a serialized binary.
+     *
+     * @param buffer  the serialized binary
+     *
+     * @return the value of the property
+     *
+     * @throws IllegalArgumentException if the binary is not a compact value of the type
+     */
+    public E extractFromBinary(ReadBuffer buffer) {
+        ReadBuffer undecorated = undecorated(buffer);
+        int start = CompactSerializer.propertiesOffset(undecorated, typeId);
+        if (start < 0) {
+            throw new IllegalArgumentException("The binary is not a compact value with type identifier " + typeId);
+        }
+        return read(undecorated, start);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E extract(T target) {
+        if (target == null) {
+            return null;
+        }
+        CompactCodec<T> codec = CompactSerializer.codec(typeId);
+        if (codec == null) {
+            throw new IllegalStateException("No compact codec for type identifier " + typeId);
+        }
+        return (E) codec.property(target, property);
+    }
+
+    @Override
+    public String getCanonicalName() {
+        return property;
+    }
+
+    @Override
+    public void readExternal(DataInput in) throws IOException {
+        typeId = in.readInt();
+        property = in.readUTF();
+        kind = in.readChar();
+        offset = in.readInt();
+    }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException {
+        out.writeInt(typeId);
+        out.writeUTF(property);
+        out.writeChar(kind);
+        out.writeInt(offset);
+    }
+
+    /**
+     * Read the property from a binary, reading the bytes in place.
+     *
+     * @param buffer  the undecorated binary
+     * @param start   the offset of the first property of the value
+     *
+     * @return the value of the property
+     */
+    @SuppressWarnings("unchecked")
+    private E read(ReadBuffer buffer, int start) {
+        try {
+            ReadBuffer.BufferInput in = buffer.getBufferInput();
+            in.setOffset(start + offset);
+            Object value = switch (kind) {
+                case BOOLEAN -> in.readBoolean();
+                case BYTE -> in.readByte();
+                case CHAR -> in.readChar();
+                case SHORT -> in.readShort();
+                case INT -> in.readInt();
+                case LONG -> in.readLong();
+                case FLOAT -> in.readFloat();
+                case DOUBLE -> in.readDouble();
+                default -> throw new IllegalStateException("Invalid property kind " + kind);
+            };
+            return (E) value;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read property " + property + " at offset " + offset, e);
+        }
+    }
+
+    private static ReadBuffer undecorated(ReadBuffer buffer) {
+        ReadBuffer undecorated = ExternalizableHelper.getUndecorated(buffer);
+        return ExternalizableHelper.isIntDecorated(undecorated)
+                ? ExternalizableHelper.removeIntDecoration(undecorated)
+                : undecorated;
+    }
+}
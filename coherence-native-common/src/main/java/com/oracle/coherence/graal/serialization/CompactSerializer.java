@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 18/10/2026, 10:54, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.serialization;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.Serializer;
+import com.tangosol.io.WriteBuffer;
+import com.tangosol.util.ExternalizableHelper;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * A {@link Serializer} that writes the types that have a generated {@link CompactCodec}
+ * in a compact binary form, and every other type using Java serialization.
+ * <p>
+ * Java serialization writes the class descriptor of each value and reads the fields
+ * using reflection, which is slow and in a native image needs serialization metadata
+ * for every class. A compact value is written as a tag byte, the four byte type identifier
+ * of its codec, its primitive properties at fixed offsets and then its other properties,
+ * so that a {@link CompactExtractor} can read a primitive property directly from the binary.
+ * <p>
+ * The {@code distributed-scheme} uses this serializer when the {@value #PROP_SERIALIZER}
+ * system property is {@code compact}, every member of the cluster must use the same setting.
+ */
+public class CompactSerializer implements Serializer {
+
+    /**
+     * The system property to select the serializer of the {@code distributed-scheme},
+     * either {@code java} (the default) or {@code compact}.
+     */
+    public static final String PROP_SERIALIZER = "coherence.native.serializer";
+
+    /**
+     * The name of this serializer.
+     */
+    public static final String NAME = "compact";
+
+    /**
+     * The tag of a value written using Java serialization.
+     */
+    public static final int TAG_DEFAULT = 0;
+
+    /**
+     * The tag of a value written using its {@link CompactCodec}.
+     */
+    public static final int TAG_COMPACT = 1;
+
+    /**
+     * The size of the tag and type identifier written before the properties of a compact value.
+     */
+    public static final int HEADER_SIZE = 5;
+
+    /**
+     * The codecs discovered using the {@link ServiceLoader}, by type.
+     */
+    private static final Map<Class<?>, CompactCodec<?>> CODECS_BY_TYPE;
+
+    /**
+     * The codecs discovered using the {@link ServiceLoader}, by type identifier.
+     */
+    private static final Map<Integer, CompactCodec<?>> CODECS_BY_ID;
+
+    static {
+        Map<Class<?>, CompactCodec<?>> byType = new HashMap<>();
+        Map<Integer, CompactCodec<?>> byId = new HashMap<>();
+        for (CompactCodec<?> codec : ServiceLoader.load(CompactCodec.class, CompactSerializer.class.getClassLoader())) {
+            CompactCodec<?> previous = byId.put(codec.typeId(), codec);
+            if (previous != null) {
+                throw new IllegalStateException("The codecs for " + previous.type() + " and " + codec.type()
+                        + " have the same type identifier " + codec.typeId());
+            }
+            byType.put(codec.type(), codec);
+        }
+        CODECS_BY_TYPE = Collections.unmodifiableMap(byType);
+        CODECS_BY_ID = Collections.unmodifiableMap(byId);
+    }
+
+    /**
+     * The serializer used for the types that do not have a codec.
+     */
+    private final Serializer fallback;
+
+    /**
+     * Create a {@link CompactSerializer}.
+     */
+    public CompactSerializer() {
+        this(new DefaultSerializer());
+    }
+
+    /**
+     * Create a {@link CompactSerializer}.
+     *
+     * @param fallback  the serializer used for the types that do not have a codec
+     */
+    public CompactSerializer(Serializer fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Returns the serializer of the {@code distributed-scheme} selected using the
+     * {@value #PROP_SERIALIZER} system property.
+     * <p>
+     * This method is used as the class factory for the serializer in the cache configuration.
+     *
+     * @return the serializer of the {@code distributed-scheme}
+     */
+    public static Serializer forScheme() {
+        String name = System.getProperty(PROP_SERIALIZER, "java").trim();
+        if (NAME.equalsIgnoreCase(name)) {
+            Logger.info("NativeSerializer: name=" + NAME + " codecs=" + CODECS_BY_TYPE.size());
+            return new CompactSerializer();
+        }
+        if (!"java".equalsIgnoreCase(name)) {
+            throw new IllegalArgumentException("Unknown serializer " + name + ", must be java or " + NAME);
+        }
+        return new DefaultSerializer();
+    }
+
+    /**
+     * Returns the codec for a type identifier.
+     *
+     * @param typeId  the type identifier
+     * @param <T>     the encoded type
+     *
+     * @return the codec, or {@code null} if there is no codec for the type identifier
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompactCodec<T> codec(int typeId) {
+        return (CompactCodec<T>) CODECS_BY_ID.get(typeId);
+    }
+
+    /**
+     * Returns the codec for a type.
+     *
+     * @param type  the type
+     * @param <T>   the encoded type
+     *
+     * @return the codec, or {@code null} if there is no codec for the type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompactCodec<T> codec(Class<T> type) {
+        return (CompactCodec<T>) CODECS_BY_TYPE.get(type);
+    }
+
+    /**
+     * Returns the offset of the first property of a compact value of a type in a
+     * serialized binary, or {@code -1} if the binary is not a compact value of the type.
+     * <p>
+     * The binary may start with the format byte that Coherence writes before the
+     * output of a serializer.
+     *
+     * @param buffer  the serialized binary, which must not be decorated
+     * @param typeId  the type identifier
+     *
+     * @return the offset of the first property, or {@code -1}
+     */
+    public static int propertiesOffset(ReadBuffer buffer, int typeId) {
+        int start = buffer.length() > 0 && buffer.byteAt(0) == ExternalizableHelper.FMT_EXT ? 1 : 0;
+        if (buffer.length() < start + HEADER_SIZE || buffer.byteAt(start) != TAG_COMPACT) {
+            return -1;
+        }
+        int id = ((buffer.byteAt(start + 1) & 0xFF) << 24)
+                | ((buffer.byteAt(start + 2) & 0xFF) << 16)
+                | ((buffer.byteAt(start + 3) & 0xFF) << 8)
+                | (buffer.byteAt(start + 4) & 0xFF);
+        return id == typeId ? start + HEADER_SIZE : -1;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void serialize(WriteBuffer.BufferOutput out, Object value) throws IOException {
+        CompactCodec codec = value == null ? null : CODECS_BY_TYPE.get(value.getClass());
+        if (codec == null) {
+            out.writeByte(TAG_DEFAULT);
+            fallback.serialize(out, value);
+        } else {
+            out.writeByte(TAG_COMPACT);
+            out.writeInt(codec.typeId());
+            codec.encode(this, out, value);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(ReadBuffer.BufferInput in) throws IOException {
+        return deserialize(in, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(ReadBuffer.BufferInput in, Class<? extends T> type) throws IOException {
+        int tag = in.readByte();
+        switch (tag) {
+            case TAG_DEFAULT:
+                return fallback.deserialize(in);
+            case TAG_COMPACT:
+                int typeId = in.readInt();
+                CompactCodec<T> codec = codec(typeId);
+                if (codec == null) {
+                    throw new IOException("No compact codec for type identifier " + typeId);
+                }
+                return codec.decode(this, in);
+            default:
+                throw new IOException("Invalid compact serializer tag " + tag);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactSerializer(codecs=" + CODECS_BY_TYPE.keySet() + ", fallback=" + fallback + ")";
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 18/10/2026, 11:11, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.bulk;
+
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.CacheService;
+import com.tangosol.net.Member;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+import com.tangosol.net.partition.KeyPartitioningStrategy;
+import com.tangosol.util.ExternalizableHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkLoaderTest {
+
+    private NamedCache<Integer, String> cache;
+
+    private AsyncNamedCache<Integer, String> async;
+
+    /**
+     * The batches sent to the cache, in the order they were sent.
+     */
+    private final List<Map<Integer, String>> sent = new CopyOnWriteArrayList<>();
+
+    /**
+     * The futures returned by the {@code putAll} requests, in the order they were sent.
+     */
+    private final List<CompletableFuture<Void>> futures = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        cache = mock(NamedCache.class);
+        async = mock(AsyncNamedCache.class);
+        when(cache.async()).thenReturn(async);
+        respondWith(() -> CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void shouldGroupEntriesByOwner() {
+        PartitionedService service = partitionedService();
+        when(cache.getCacheService()).thenReturn(service);
+
+        try (BulkLoader<Integer, String> loader = BulkLoader.builder(cache).build()) {
+            for (int i = 0; i < 10; i++) {
+                loader.put(i, "value");
+            }
+        }
+
+        assertThat(sent.size(), is(2));
+        List<Set<Integer>> keys = new ArrayList<>();
+        sent.forEach(batch -> keys.add(batch.keySet()));
+        assertThat(keys, containsInAnyOrder(Set.of(0, 2, 4, 6, 8), Set.of(1, 3, 5, 7, 9)));
+    }
+
+    @Test
+    void shouldSizeBatchesBySerializedBytes() {
+        CacheService service = cacheService();
+        when(cache.getCacheService()).thenReturn(service);
+
+        // keys 100 to 124 all have the same serialized size
+        int entryBytes = ExternalizableHelper.toBinary(100, service.getSerializer()).length()
+                + ExternalizableHelper.toBinary("value", service.getSerializer()).length();
+
+        BulkLoader<Integer, String> loader = BulkLoader.builder(cache)
+                .batchBytes(10 * entryBytes)
+                .sampleInterval(1)
+                .build();
+        for (int i = 100; i < 125; i++) {
+            loader.put(i, "value");
+        }
+        assertThat(sent.size(), is(2));
+        assertThat(loader.getEntryBytes(), is((double) entryBytes));
+
+        loader.close();
+        assertThat(sent.size(), is(3));
+        assertThat(sent.get(0).size(), is(10));
+        assertThat(sent.get(1).size(), is(10));
+        assertThat(sent.get(2).size(), is(5));
+        assertThat(loader.getBatchCount(), is(3L));
+    }
+
+    @Test
+    void shouldPropagateFailedBatch() {
+        CacheService service = cacheService();
+        when(cache.getCacheService()).thenReturn(service);
+        respondWith(() -> CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        BulkLoader<Integer, String> loader = BulkLoader.builder(cache).batchBytes(1).build();
+        loader.put(1, "value");
+
+        CompletionException put = assertThrows(CompletionException.class, () -> loader.put(2, "value"));
+        assertThat(put.getCause().getMessage(), is("boom"));
+        CompletionException close = assertThrows(CompletionException.class, loader::close);
+        assertThat(close.getCause().getMessage(), is("boom"));
+        assertThat(sent.size(), is(1));
+    }
+
+    @Test
+    void shouldBlockWhenMaxBatchesInFlight() throws Exception {
+        CacheService service = cacheService();
+        when(cache.getCacheService()).thenReturn(service);
+        respondWith(CompletableFuture::new);
+
+        BulkLoader<Integer, String> loader = BulkLoader.builder(cache).batchBytes(1).maxInFlight(2).build();
+        loader.put(1, "value");
+        loader.put(2, "value");
+        assertThat(loader.getInFlight(), is(2));
+
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> loader.put(3, "value"));
+        Thread.sleep(200);
+        assertThat(third.isDone(), is(false));
+        assertThat(sent.size(), is(2));
+
+        futures.get(0).complete(null);
+        third.get(10, TimeUnit.SECONDS);
+        assertThat(sent.size(), is(3));
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(loader::flush);
+        Thread.sleep(200);
+        assertThat(flush.isDone(), is(false));
+
+        futures.get(1).complete(null);
+        futures.get(2).complete(null);
+        flush.get(10, TimeUnit.SECONDS);
+        assertThat(loader.getInFlight(), is(0));
+    }
+
+    /**
+     * Set the futures returned by the {@code putAll} requests of the cache.
+     *
+     * @param response  the supplier of the futures
+     */
+    private void respondWith(Supplier<CompletableFuture<Void>> response) {
+        when(async.putAll(anyMap())).thenAnswer(invocation -> {
+            Map<Integer, String> batch = invocation.getArgument(0);
+            sent.add(new HashMap<>(batch));
+            CompletableFuture<Void> future = response.get();
+            futures.add(future);
+            return future;
+        });
+    }
+
+    /**
+     * Create a cache service that is not partitioned.
+     *
+     * @return a cache service
+     */
+    private static CacheService cacheService() {
+        CacheService service = mock(CacheService.class);
+        when(service.getSerializer()).thenReturn(new DefaultSerializer());
+        return service;
+    }
+
+    /**
+     * Create a partitioned service with two partitions, owned by the members
+     * with ids 1 and 2, where a key is in the partition of its parity.
+     *
+     * @return a partitioned service
+     */
+    private static PartitionedService partitionedService() {
+        PartitionedService service = mock(PartitionedService.class);
+        KeyPartitioningStrategy strategy = mock(KeyPartitioningStrategy.class);
+        Member first = mock(Member.class);
+        Member second = mock(Member.class);
+        when(first.getId()).thenReturn(1);
+        when(second.getId()).thenReturn(2);
+        when(strategy.getKeyPartition(any())).thenAnswer(invocation -> (Integer) invocation.getArgument(0) % 2);
+        when(service.getKeyPartitioningStrategy()).thenReturn(strategy);
+        when(service.getPartitionOwner(anyInt())).thenAnswer(invocation -> (int) invocation.getArgument(0) == 0 ? first : second);
+        when(service.getSerializer()).thenReturn(new DefaultSerializer());
+        return service;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 18/10/2026, 10:42, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.listener;
+
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.ObservableHashMap;
+import com.tangosol.util.ObservableMap;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BatchingMapListenerTest {
+
+    private final ObservableMap<String, String> map = new ObservableHashMap<>();
+
+    private final BlockingQueue<List<MapEvent<String, String>>> batches = new LinkedBlockingQueue<>();
+
+    @Test
+    void shouldDeliverWhenBatchIsFull() throws Exception {
+        BatchingMapListener<String, String> listener = BatchingMapListener.<String, String>builder(batches::add)
+                .maxBatchSize(10)
+                .maxLatency(Duration.ofMinutes(1))
+                .build();
+
+        for (int i = 0; i < 25; i++) {
+            listener.entryInserted(event(MapEvent.ENTRY_INSERTED, "key-" + i, null, "value-" + i));
+        }
+        assertThat(batches.poll(5, TimeUnit.SECONDS).size(), is(10));
+        List<MapEvent<String, String>> second = batches.poll(5, TimeUnit.SECONDS);
+        assertThat(second.size(), is(10));
+        assertThat(second.get(0).getKey(), is("key-10"));
+
+        listener.close();
+        assertThat(batches.poll(5, TimeUnit.SECONDS).size(), is(5));
+    }
+
+    @Test
+    void shouldFlushAfterMaxLatency() throws Exception {
+        try (BatchingMapListener<String, String> listener = BatchingMapListener.<String, String>builder(batches::add)
+                .maxBatchSize(1000)
+                .maxLatency(Duration.ofMillis(50))
+                .build()) {
+            listener.entryInserted(event(MapEvent.ENTRY_INSERTED, "key-1", null, "value-1"));
+            listener.entryUpdated(event(MapEvent.ENTRY_UPDATED, "key-1", "value-1", "value-2"));
+            listener.entryDeleted(event(MapEvent.ENTRY_DELETED, "key-1", "value-2", null));
+
+            List<MapEvent<String, String>> batch = batches.poll(5, TimeUnit.SECONDS);
+            assertThat(batch, is(notNullValue()));
+            assertThat(batch.size(), is(3));
+        }
+    }
+
+    @Test
+    void shouldDeliverLatencyAndSizeFlushesInOrder() throws Exception {
+        int count = 5000;
+        int maxBatchSize = 7;
+        BatchingMapListener<String, String> listener = BatchingMapListener.<String, String>builder(batches::add)
+                .maxBatchSize(maxBatchSize)
+                .maxLatency(Duration.ofNanos(10_000))
+                .build();
+
+        // interleave size flushes on this thread with latency flushes on the scheduler thread
+        for (int i = 0; i < count; i++) {
+            listener.entryInserted(event(MapEvent.ENTRY_INSERTED, "key-" + i, null, "value-" + i));
+            if (i % 500 == 0) {
+                Thread.sleep(5);
+            } else if (i % 3 == 0) {
+                LockSupport.parkNanos(10_000);
+            }
+        }
+        listener.close();
+
+        List<String> keys = new ArrayList<>();
+        boolean latencyFlush = false;
+        while (keys.size() < count) {
+            List<MapEvent<String, String>> batch = batches.poll(5, TimeUnit.SECONDS);
+            assertThat(batch, is(notNullValue()));
+            latencyFlush |= batch.size() < maxBatchSize;
+            batch.forEach(evt -> keys.add(evt.getKey()));
+        }
+        assertThat(latencyFlush, is(true));
+        for (int i = 0; i < count; i++) {
+            assertThat(keys.get(i), is("key-" + i));
+        }
+    }
+
+    @Test
+    void shouldConflateByKey() throws Exception {
+        BatchingMapListener<String, String> listener = BatchingMapListener.<String, String>builder(batches::add)
+                .conflate(true)
+                .maxLatency(Duration.ofMinutes(1))
+                .build();
+
+        listener.entryInserted(event(MapEvent.ENTRY_INSERTED, "key-1", null, "value-1"));
+        listener.entryUpdated(event(MapEvent.ENTRY_UPDATED, "key-1", "value-1", "value-2"));
+        listener.entryInserted(event(MapEvent.ENTRY_INSERTED, "key-2", null, "value-1"));
+        listener.entryDeleted(event(MapEvent.ENTRY_DELETED, "key-2", "value-1", null));
+        listener.entryUpdated(event(MapEvent.ENTRY_UPDATED, "key-3", "value-1", "value-2"));
+        listener.entryUpdated(event(MapEvent.ENTRY_UPDATED, "key-3", "value-2", "value-3"));
+        listener.close();
+
+        List<MapEvent<String, String>> batch = batches.poll(5, TimeUnit.SECONDS);
+        assertThat(batch.size(), is(2));
+
+        MapEvent<String, String> first = batch.get(0);
+        assertThat(first.getKey(), is("key-1"));
+        assertThat(first.getId(), is(MapEvent.ENTRY_INSERTED));
+        assertThat(first.getNewValue(), is("value-2"));
+
+        MapEvent<String, String> second = batch.get(1);
+        assertThat(second.getKey(), is("key-3"));
+        assertThat(second.getId(), is(MapEvent.ENTRY_UPDATED));
+        assertThat(second.getOldValue(), is("value-1"));
+        assertThat(second.getNewValue(), is("value-3"));
+    }
+
+    @Test
+    void shouldBlockWhenQueuedBatchesAreFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BatchingMapListener<String, String> listener = BatchingMapListener.<String, String>builder(batch -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    batches.add(batch);
+                })
+                .maxBatchSize(1)
+                .maxQueuedBatches(2)
+                .maxLatency(Duration.ofMinutes(1))
+                .build();
+
+        // the first batch is handled and the second is queued, so the third insert waits for the handler
+        Thread producer = Thread.ofVirtual().start(() -> {
+            for (int i = 0; i < 3; i++) {
+                listener.entryInserted(event(MapEvent.ENTRY_INSERTED, "key-" + i, null, "value-" + i));
+            }
+        });
+        producer.join(Duration.ofMillis(500));
+        assertThat(producer.isAlive(), is(true));
+        assertThat(batches.isEmpty(), is(true));
+
+        release.countDown();
+        producer.join(Duration.ofSeconds(5));
+        assertThat(producer.isAlive(), is(false));
+        listener.close();
+        for (int i = 0; i < 3; i++) {
+            assertThat(batches.poll(5, TimeUnit.SECONDS).get(0).getKey(), is("key-" + i));
+        }
+    }
+
+    @Test
+    void shouldKeepBatchingWhenLatencyFlushCannotQueue() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BatchingMapListener<String, String> listener = BatchingMapListener.<String, String>builder(batch -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    batches.add(batch);
+                })
+                .maxQueuedBatches(1)
+                .maxLatency(Duration.ofMillis(10))
+                .build();
+
+        // the first batch holds the only permit, so the later events stay in one batch until it is handled
+        listener.entryInserted(event(MapEvent.ENTRY_INSERTED, "key-0", null, "value-0"));
+        Thread.sleep(100);
+        for (int i = 1; i < 5; i++) {
+            listener.entryInserted(event(MapEvent.ENTRY_INSERTED, "key-" + i, null, "value-" + i));
+            Thread.sleep(20);
+        }
+        release.countDown();
+
+        assertThat(batches.poll(5, TimeUnit.SECONDS).size(), is(1));
+        assertThat(batches.poll(5, TimeUnit.SECONDS).size(), is(4));
+        listener.close();
+    }
+
+    @Test
+    void shouldMergeDeleteAndInsertIntoUpdate() {
+        MapEvent<String, String> merged = BatchingMapListener.merge(
+                event(MapEvent.ENTRY_DELETED, "key", "value-1", null),
+                event(MapEvent.ENTRY_INSERTED, "key", null, "value-2"));
+        assertThat(merged.getId(), is(MapEvent.ENTRY_UPDATED));
+        assertThat(merged.getOldValue(), is("value-1"));
+        assertThat(merged.getNewValue(), is("value-2"));
+
+        merged = BatchingMapListener.merge(
+                event(MapEvent.ENTRY_UPDATED, "key", "value-1", "value-2"),
+                event(MapEvent.ENTRY_DELETED, "key", "value-2", null));
+        assertThat(merged.getId(), is(MapEvent.ENTRY_DELETED));
+        assertThat(merged.getOldValue(), is("value-1"));
+        assertThat(merged.getNewValue(), is(nullValue()));
+    }
+
+    private MapEvent<String, String> event(int id, String key, String oldValue, String newValue) {
+        return new MapEvent<>(map, id, key, oldValue, newValue);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 18/10/2026, 10:54, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.serialization;
+
+import com.oracle.coherence.graal.model.java.Country;
+import com.oracle.coherence.graal.model.java.CountryCompactExtractors;
+import com.oracle.coherence.graal.model.java.Order;
+import com.oracle.coherence.graal.model.java.OrderCompactExtractors;
+import com.oracle.coherence.graal.model.java.OrderLine;
+import com.oracle.coherence.graal.model.java.OrderLineCompactExtractors;
+
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.ValueExtractor;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CompactSerializerTest {
+
+    private final CompactSerializer serializer = new CompactSerializer();
+
+    @Test
+    void shouldDiscoverGeneratedCodecs() {
+        assertThat(CompactSerializer.codec(Order.class), is(notNullValue()));
+        assertThat(CompactSerializer.codec(OrderLine.class), is(notNullValue()));
+        assertThat(CompactSerializer.codec(Country.class), is(notNullValue()));
+        assertThat(CompactSerializer.codec(1010).type(), is((Object) Order.class));
+    }
+
+    @Test
+    void shouldRoundTripGeneratedTypes() {
+        assertRoundTrip(new Order(1, "customer-1", 100.5d));
+        assertRoundTrip(new OrderLine(1, 2, "product-1", 3, 9.99d));
+        assertRoundTrip(new Country("GB", "United Kingdom", 68_000_000L));
+        assertRoundTrip(new Order(2, null, 0.0d));
+    }
+
+    @Test
+    void shouldFallBackToJavaSerialization() {
+        assertRoundTrip("value-1");
+        assertRoundTrip(42);
+        assertRoundTrip(null);
+    }
+
+    @Test
+    void shouldBeSmallerThanJavaSerialization() {
+        Order order = new Order(1, "customer-1", 100.5d);
+        Binary compact = ExternalizableHelper.toBinary(order, serializer);
+        Binary java = ExternalizableHelper.toBinary(order, new DefaultSerializer());
+        assertThat(compact.length(), is(lessThan(java.length())));
+    }
+
+    @Test
+    void shouldExtractFromBinary() {
+        Binary order = ExternalizableHelper.toBinary(new Order(1, "customer-1", 100.5d), serializer);
+        Binary line = ExternalizableHelper.toBinary(new OrderLine(1, 2, "product-1", 3, 9.99d), serializer);
+        Binary country = ExternalizableHelper.toBinary(new Country("GB", "United Kingdom", 68_000_000L), serializer);
+
+        assertThat(OrderCompactExtractors.orderId().extractFromBinary(order), is(1));
+        assertThat(OrderCompactExtractors.totalAmount().extractFromBinary(order), is(100.5d));
+        assertThat(OrderLineCompactExtractors.quantity().extractFromBinary(line), is(3));
+        assertThat(OrderLineCompactExtractors.price().extractFromBinary(line), is(9.99d));
+        assertThat(CountryCompactExtractors.population().extractFromBinary(country), is(68_000_000L));
+
+        assertThrows(IllegalArgumentException.class, () -> OrderCompactExtractors.orderId().extractFromBinary(line));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldExtractFromBinaryEntryWithoutDeserializing() {
+        Binary binary = ExternalizableHelper.toBinary(new Order(1, "customer-1", 100.5d), serializer);
+        BinaryEntry<Integer, Order> entry = mock(BinaryEntry.class);
+        when(entry.getSerializer()).thenReturn(serializer);
+        when(entry.getBinaryValue()).thenReturn(binary);
+
+        assertThat(OrderCompactExtractors.totalAmount().extractFromEntry(entry), is(100.5d));
+        verify(entry, never()).getValue();
+    }
+
+    @Test
+    void shouldExtractFromDeserializedValue() {
+        Order order = new Order(1, "customer-1", 100.5d);
+        assertThat(OrderCompactExtractors.totalAmount().extract(order), is(100.5d));
+        assertThat(OrderCompactExtractors.totalAmount().getCanonicalName(),
+                is(ValueExtractor.of(Order::getTotalAmount).getCanonicalName()));
+    }
+
+    @Test
+    void shouldSerializeExtractor() {
+        CompactExtractor<Order, Double> extractor = OrderCompactExtractors.totalAmount();
+        Binary binary = ExternalizableHelper.toBinary(extractor, new DefaultSerializer());
+        CompactExtractor<Order, Double> result = ExternalizableHelper.fromBinary(binary, new DefaultSerializer());
+        assertThat(result, is(extractor));
+        assertThat(result.extract(new Order(1, "customer-1", 100.5d)), is(100.5d));
+    }
+
+    @Test
+    void shouldSelectSerializerForScheme() {
+        String previous = System.getProperty(CompactSerializer.PROP_SERIALIZER);
+        try {
+            System.clearProperty(CompactSerializer.PROP_SERIALIZER);
+            assertThat(CompactSerializer.forScheme() instanceof DefaultSerializer, is(true));
+            System.setProperty(CompactSerializer.PROP_SERIALIZER, "compact");
+            assertThat(CompactSerializer.forScheme() instanceof CompactSerializer, is(true));
+            System.setProperty(CompactSerializer.PROP_SERIALIZER, "unknown");
+            assertThrows(IllegalArgumentException.class, CompactSerializer::forScheme);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(CompactSerializer.PROP_SERIALIZER);
+            } else {
+                System.setProperty(CompactSerializer.PROP_SERIALIZER, previous);
+            }
+        }
+    }
+
+    private void assertRoundTrip(Object value) {
+        Binary binary = ExternalizableHelper.toBinary(value, serializer);
+        Object result = ExternalizableHelper.fromBinary(binary, serializer);
+        assertThat(result, is(value));
+    }
+}
@@ -6,15 +6,152 @@
 
 package com.oracle.coherence.graal.extend;
 
+import com.oracle.coherence.common.base.Logger;
 import com.tangosol.net.Coherence;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
- * A simple wrapper around {@link Coherence} that starts
- * a Coherence Extend client.
+ * A Coherence Extend client.
+ * <p>
+ * The client connects to the Extend proxy of a cluster using a {@link ConnectionPool}
+ * and sends pipelined asynchronous requests using a {@link PipelinedCache}.
+ * <p>
+ * When run as an application the client puts and then gets a number of entries
+ * and logs how long the requests took. The client is configured using the
+ * following system properties:
+ * <ul>
+ *     <li>{@code coherence.extend.connections} - the number of connections (default {@code 4})</li>
+ *     <li>{@code coherence.extend.inflight} - the maximum number of requests in flight (default {@code 256})</li>
+ *     <li>{@code coherence.client.cache} - the name of the cache to use (default {@code extend-client})</li>
+ *     <li>{@code coherence.client.requests} - the number of entries to put and get (default {@code 10000})</li>
+ *     <li>{@code coherence.client.protocol} - {@code extend} (the default) or {@code grpc} to run
+ *     the {@link GrpcClient} instead</li>
+ * </ul>
  */
-public class Client {
-    public static void main(String[] args) {
-        // ToDo - JK: still lots to do here...
-        Coherence.main(args);
+public class Client implements AutoCloseable {
+
+    /**
+     * The prefix of the structured log line written when the requests complete.
+     */
+    public static final String LOG_PREFIX = "NativeExtendClient:";
+
+    /**
+     * The connection pool.
+     */
+    private final ConnectionPool pool;
+
+    /**
+     * The maximum number of requests in flight for each cache.
+     */
+    private final int maxInFlight;
+
+    /**
+     * Create a {@link Client}.
+     *
+     * @param pool         the connection pool
+     * @param maxInFlight  the maximum number of requests in flight for each cache
+     */
+    public Client(ConnectionPool pool, int maxInFlight) {
+        this.pool = pool;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Create and connect a {@link Client}.
+     *
+     * @param connections  the number of connections
+     * @param maxInFlight  the maximum number of requests in flight for each cache
+     *
+     * @return the connected client
+     */
+    public static Client connect(int connections, int maxInFlight) throws Exception {
+        return new Client(ConnectionPool.connect(connections), maxInFlight);
+    }
+
+    /**
+     * Obtain a pipelined cache.
+     *
+     * @param name  the name of the cache
+     * @param <K>   the type of the cache keys
+     * @param <V>   the type of the cache values
+     *
+     * @return the pipelined cache
+     */
+    public <K, V> PipelinedCache<K, V> getCache(String name) {
+        return new PipelinedCache<>(pool, name, maxInFlight);
+    }
+
+    /**
+     * Returns the connection pool.
+     *
+     * @return the connection pool
+     */
+    public ConnectionPool getPool() {
+        return pool;
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    public static void main(String[] args) throws Exception {
+        if ("grpc".equalsIgnoreCase(System.getProperty("coherence.client.protocol", "extend"))) {
+            // the gRPC client is run from the same native image as the Extend client
+            GrpcClient.main(args);
+            return;
+        }
+
+        int connections = Integer.getInteger("coherence.extend.connections", 4);
+        int maxInFlight = Integer.getInteger("coherence.extend.inflight", 256);
+        String cacheName = System.getProperty("coherence.client.cache", "extend-client");
+        int requests = Integer.getInteger("coherence.client.requests", 10_000);
+        int exitCode = 0;
+
+        long start = System.nanoTime();
+        try (Client client = Client.connect(connections, maxInFlight)) {
+            long connected = System.nanoTime();
+            PipelinedCache<Integer, String> cache = client.getCache(cacheName);
+
+            for (int i = 0; i < requests; i++) {
+                cache.put(i, "value-" + i);
+            }
+            cache.flush();
+            long written = System.nanoTime();
+
+            List<CompletableFuture<String>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                futures.add(cache.get(i));
+            }
+            int missing = 0;
+            for (int i = 0; i < requests; i++) {
+                if (!("value-" + i).equals(futures.get(i).get())) {
+                    missing++;
+                }
+            }
+            long read = System.nanoTime();
+
+            Logger.info(LOG_PREFIX
+                    + " connections=" + connections
+                    + " maxInFlight=" + maxInFlight
+                    + " requests=" + requests
+                    + " missing=" + missing
+                    + " connectMillis=" + TimeUnit.NANOSECONDS.toMillis(connected - start)
+                    + " putMillis=" + TimeUnit.NANOSECONDS.toMillis(written - connected)
+                    + " getMillis=" + TimeUnit.NANOSECONDS.toMillis(read - written));
+
+            if (missing > 0) {
+                exitCode = 1;
+            }
+        } finally {
+            Coherence.closeAll();
+        }
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
     }
 }
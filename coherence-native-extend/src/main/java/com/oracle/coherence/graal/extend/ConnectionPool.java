@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 18/10/2026, 10:16, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.extend;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.CoherenceConfiguration;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.Session;
+import com.tangosol.net.SessionConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of Extend connections to the cluster.
+ * <p>
+ * A remote cache service uses a single TCP connection to the proxy. The pool creates
+ * a {@link Session} for each connection, each with its own scope, so that each session
+ * has its own instance of the remote cache service and so its own connection.
+ * Caches are obtained from the sessions in turn.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * The cache configuration used by each session.
+     */
+    public static final String CACHE_CONFIG_URI = "client-cache-config.xml";
+
+    /**
+     * The prefix of the name and scope of each session.
+     */
+    public static final String SESSION_PREFIX = "extend-";
+
+    /**
+     * The Coherence instance that owns the sessions.
+     */
+    private final Coherence coherence;
+
+    /**
+     * The sessions, one for each connection.
+     */
+    private final List<Session> sessions;
+
+    /**
+     * The index of the next session to use.
+     */
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ConnectionPool(Coherence coherence, List<Session> sessions) {
+        this.coherence = coherence;
+        this.sessions = sessions;
+    }
+
+    /**
+     * Create and connect a pool.
+     *
+     * @param connections  the number of connections
+     *
+     * @return the connected pool
+     */
+    public static ConnectionPool connect(int connections) throws Exception {
+        if (connections <= 0) {
+            throw new IllegalArgumentException("The number of connections must be positive");
+        }
+
+        CoherenceConfiguration.Builder builder = CoherenceConfiguration.builder();
+        for (int i = 0; i < connections; i++) {
+            builder.withSession(SessionConfiguration.builder()
+                    .named(SESSION_PREFIX + i)
+                    .withScopeName(SESSION_PREFIX + i)
+                    .withConfigUri(CACHE_CONFIG_URI)
+                    .build());
+        }
+
+        Coherence coherence = Coherence.client(builder.build()).start().get(5, TimeUnit.MINUTES);
+        List<Session> sessions = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            sessions.add(coherence.getSession(SESSION_PREFIX + i));
+        }
+        return new ConnectionPool(coherence, sessions);
+    }
+
+    /**
+     * Returns the number of connections in the pool.
+     *
+     * @return the number of connections in the pool
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Returns the sessions in the pool, one for each connection.
+     *
+     * @return the sessions in the pool
+     */
+    public List<Session> getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Obtain a cache from each connection in the pool.
+     *
+     * @param name  the name of the cache
+     * @param <K>   the type of the cache keys
+     * @param <V>   the type of the cache values
+     *
+     * @return the cache from each connection in the pool
+     */
+    public <K, V> List<NamedCache<K, V>> getCaches(String name) {
+        List<NamedCache<K, V>> caches = new ArrayList<>(sessions.size());
+        for (Session session : sessions) {
+            caches.add(session.getCache(name));
+        }
+        return caches;
+    }
+
+    /**
+     * Obtain a cache from the next connection in the pool.
+     *
+     * @param name  the name of the cache
+     * @param <K>   the type of the cache keys
+     * @param <V>   the type of the cache values
+     *
+     * @return the cache from the next connection in the pool
+     */
+    public <K, V> NamedCache<K, V> getCache(String name) {
+        int index = Math.floorMod(next.getAndIncrement(), sessions.size());
+        return sessions.get(index).getCache(name);
+    }
+
+    @Override
+    public void close() {
+        coherence.close();
+    }
+}
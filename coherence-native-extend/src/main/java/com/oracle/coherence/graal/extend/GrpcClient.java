@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 18/10/2026, 10:49, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.extend;
+
+import com.oracle.coherence.common.base.Logger;
+import com.oracle.coherence.graal.bulk.BulkLoader;
+import com.oracle.coherence.graal.model.pof.Address;
+import com.oracle.coherence.graal.model.pof.Customer;
+import com.oracle.coherence.graal.query.StreamingQuery;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.CoherenceConfiguration;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.Session;
+import com.tangosol.net.SessionConfiguration;
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Filter;
+import com.tangosol.util.Filters;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A Coherence gRPC client.
+ * <p>
+ * The client connects to the gRPC proxy of the servers, which it finds using the
+ * name service of the cluster. A gRPC client does not use the Extend protocol, so
+ * it only needs the gRPC and POF libraries, and the same client code works with a
+ * cluster running behind a gRPC load balancer.
+ * <p>
+ * When run as an application, by running the {@link Client} with the
+ * {@code coherence.client.protocol} system property set to {@code grpc}, the client
+ * loads a number of customers, streams the results of a query using a
+ * {@link StreamingQuery} and logs how long the requests took. The client is
+ * configured using the following system properties:
+ * <ul>
+ *     <li>{@code coherence.client.cache} - the name of the cache to use (default {@code pof-grpc-customers})</li>
+ *     <li>{@code coherence.client.requests} - the number of customers to load (default {@code 10000})</li>
+ *     <li>{@code coherence.client.chunk.partitions} - the partitions queried by each chunk (default {@code 16})</li>
+ *     <li>{@code coherence.client.partitions} - the partition count of the cluster (default {@code 257})</li>
+ * </ul>
+ */
+public class GrpcClient implements AutoCloseable {
+
+    /**
+     * The prefix of the structured log line written when the requests complete.
+     */
+    public static final String LOG_PREFIX = "NativeGrpcClient:";
+
+    /**
+     * The cache configuration used by the session.
+     */
+    public static final String CACHE_CONFIG_URI = "grpc-client-cache-config.xml";
+
+    /**
+     * The name and scope of the session.
+     */
+    public static final String SESSION_NAME = "grpc";
+
+    /**
+     * The Coherence instance that owns the session.
+     */
+    private final Coherence coherence;
+
+    /**
+     * The gRPC session.
+     */
+    private final Session session;
+
+    private GrpcClient(Coherence coherence, Session session) {
+        this.coherence = coherence;
+        this.session = session;
+    }
+
+    /**
+     * Create and connect a {@link GrpcClient}.
+     *
+     * @return the connected client
+     */
+    public static GrpcClient connect() throws Exception {
+        CoherenceConfiguration configuration = CoherenceConfiguration.builder()
+                .withSession(SessionConfiguration.builder()
+                        .named(SESSION_NAME)
+                        .withScopeName(SESSION_NAME)
+                        .withConfigUri(CACHE_CONFIG_URI)
+                        .build())
+                .build();
+        Coherence coherence = Coherence.client(configuration).start().get(5, TimeUnit.MINUTES);
+        return new GrpcClient(coherence, coherence.getSession(SESSION_NAME));
+    }
+
+    /**
+     * Returns the gRPC session.
+     *
+     * @return the gRPC session
+     */
+    public Session getSession() {
+        return session;
+    }
+
+    /**
+     * Obtain a cache.
+     *
+     * @param name  the name of the cache
+     * @param <K>   the type of the cache keys
+     * @param <V>   the type of the cache values
+     *
+     * @return the cache
+     */
+    public <K, V> NamedCache<K, V> getCache(String name) {
+        return session.getCache(name);
+    }
+
+    @Override
+    public void close() {
+        coherence.close();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String cacheName = System.getProperty("coherence.client.cache", "pof-grpc-customers");
+        int requests = Integer.getInteger("coherence.client.requests", 10_000);
+        int chunkPartitions = Integer.getInteger("coherence.client.chunk.partitions", 16);
+        int partitions = Integer.getInteger("coherence.client.partitions", 257);
+        int exitCode = 0;
+
+        long start = System.nanoTime();
+        try (GrpcClient client = GrpcClient.connect()) {
+            long connected = System.nanoTime();
+            NamedCache<Integer, Customer> customers = client.getCache(cacheName);
+            customers.truncate();
+
+            try (BulkLoader<Integer, Customer> loader = BulkLoader.builder(customers).build()) {
+                for (int i = 0; i < requests; i++) {
+                    Address address = new Address("line 1", "line 2", "city-" + i, "state", "zip-" + i, "country");
+                    loader.put(i, new Customer(i, "name-" + i, i, address, address, i % 2 == 0 ? "GOLD" : "SILVER"));
+                }
+            }
+            long written = System.nanoTime();
+
+            // the extractor is reflective, so it works with a native server that has no client lambdas
+            Filter<Customer> gold = Filters.equal(Extractors.extract("customerType"), "GOLD");
+            StreamingQuery<Integer, Customer> query = StreamingQuery.builder(customers, gold)
+                    .partitionCount(partitions)
+                    .partitionsPerChunk(chunkPartitions)
+                    .build();
+            long firstResult = 0;
+            long count = 0;
+            try (Stream<Customer> values = query.values()) {
+                Iterator<Customer> iterator = values.iterator();
+                while (iterator.hasNext()) {
+                    iterator.next();
+                    if (count++ == 0) {
+                        firstResult = System.nanoTime();
+                    }
+                }
+            }
+            long read = System.nanoTime();
+            long missing = (requests + 1) / 2 - count;
+
+            Logger.info(LOG_PREFIX
+                    + " requests=" + requests
+                    + " results=" + count
+                    + " chunks=" + query.getChunkCount()
+                    + " missing=" + missing
+                    + " connectMillis=" + TimeUnit.NANOSECONDS.toMillis(connected - start)
+                    + " putMillis=" + TimeUnit.NANOSECONDS.toMillis(written - connected)
+                    + " firstResultMillis=" + TimeUnit.NANOSECONDS.toMillis(Math.max(firstResult - written, 0))
+                    + " queryMillis=" + TimeUnit.NANOSECONDS.toMillis(read - written));
+
+            if (missing != 0) {
+                exitCode = 1;
+            }
+        } finally {
+            Coherence.closeAll();
+        }
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+}
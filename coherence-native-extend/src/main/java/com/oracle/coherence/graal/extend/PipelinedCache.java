@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 18/10/2026, 10:16, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.extend;
+
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A cache that pipelines asynchronous requests over all the connections in
+ * a {@link ConnectionPool}.
+ * <p>
+ * Requests are sent using {@link AsyncNamedCache} without waiting for earlier
+ * requests to complete and are spread over the connections in turn. The number
+ * of requests in flight is bounded, once the bound is reached a request blocks
+ * until an earlier request completes, so that a fast producer cannot exhaust the
+ * memory of the client or the proxy. Blocked requests are sent in the order they
+ * arrived.
+ *
+ * @param <K>  the type of the cache keys
+ * @param <V>  the type of the cache values
+ */
+public class PipelinedCache<K, V> {
+
+    /**
+     * The asynchronous cache for each connection.
+     */
+    private final List<AsyncNamedCache<K, V>> caches;
+
+    /**
+     * The permits for the requests in flight.
+     */
+    private final Semaphore inFlight;
+
+    /**
+     * The maximum number of requests in flight.
+     */
+    private final int maxInFlight;
+
+    /**
+     * The requests in flight, which {@link #flush()} waits for.
+     */
+    private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The index of the next connection to use.
+     */
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Create a {@link PipelinedCache}.
+     *
+     * @param pool         the connection pool
+     * @param name         the name of the cache
+     * @param maxInFlight  the maximum number of requests in flight
+     */
+    public PipelinedCache(ConnectionPool pool, String name, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("The maximum number of requests in flight must be positive");
+        }
+        this.caches = pool.<K, V>getCaches(name).stream().map(NamedCache::async).toList();
+        this.inFlight = new Semaphore(maxInFlight, true);
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Get a value.
+     *
+     * @param key  the key of the value
+     *
+     * @return a future that completes with the value
+     */
+    public CompletableFuture<V> get(K key) {
+        return send(() -> nextCache().get(key));
+    }
+
+    /**
+     * Put a value.
+     *
+     * @param key    the key of the value
+     * @param value  the value
+     *
+     * @return a future that completes when the value has been put
+     */
+    public CompletableFuture<Void> put(K key, V value) {
+        return send(() -> nextCache().put(key, value));
+    }
+
+    /**
+     * Put a map of values.
+     *
+     * @param map  the values to put
+     *
+     * @return a future that completes when the values have been put
+     */
+    public CompletableFuture<Void> putAll(Map<? extends K, ? extends V> map) {
+        return send(() -> nextCache().putAll(map));
+    }
+
+    /**
+     * Remove a value.
+     *
+     * @param key  the key of the value
+     *
+     * @return a future that completes with the removed value
+     */
+    public CompletableFuture<V> remove(K key) {
+        return send(() -> nextCache().remove(key));
+    }
+
+    /**
+     * Invoke an entry processor.
+     *
+     * @param key        the key of the entry
+     * @param processor  the entry processor
+     * @param <R>        the type of the result
+     *
+     * @return a future that completes with the result of the entry processor
+     */
+    public <R> CompletableFuture<R> invoke(K key, InvocableMap.EntryProcessor<K, V, R> processor) {
+        return send(() -> nextCache().invoke(key, processor));
+    }
+
+    /**
+     * Query the values matching a filter.
+     *
+     * @param filter  the filter to match
+     *
+     * @return a future that completes with the matching values
+     */
+    public CompletableFuture<Collection<V>> values(Filter<?> filter) {
+        return send(() -> nextCache().values(filter));
+    }
+
+    /**
+     * Returns the number of requests in flight.
+     *
+     * @return the number of requests in flight
+     */
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /**
+     * Wait for the requests in flight to complete.
+     * <p>
+     * Only the requests in flight when this method is called are waited for,
+     * so a flush is not held up by the requests of other threads. The errors
+     * of the requests are returned by their own futures.
+     */
+    public void flush() {
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).handle((result, t) -> null).join();
+    }
+
+    /**
+     * Send a request once there is a free permit, releasing the
+     * permit when the request completes.
+     *
+     * @param request  the request to send
+     * @param <R>      the type of the result
+     *
+     * @return a future that completes with the result of the request
+     */
+    private <R> CompletableFuture<R> send(Supplier<CompletableFuture<R>> request) {
+        inFlight.acquireUninterruptibly();
+        CompletableFuture<R> future;
+        try {
+            future = request.get();
+        } catch (Throwable t) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(t);
+        }
+        pending.add(future);
+        return future.whenComplete((result, error) -> {
+            pending.remove(future);
+            inFlight.release();
+        });
+    }
+
+    private AsyncNamedCache<K, V> nextCache() {
+        return caches.get(Math.floorMod(next.getAndIncrement(), caches.size()));
+    }
+}
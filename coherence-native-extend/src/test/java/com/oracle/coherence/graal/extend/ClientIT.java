@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 18/10/2026, 10:16, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.extend;
+
+import com.oracle.bedrock.runtime.ApplicationConsole;
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.ClassPath;
+import com.oracle.bedrock.runtime.java.options.ClassName;
+import com.oracle.bedrock.runtime.options.Arguments;
+import com.oracle.bedrock.runtime.options.Console;
+import com.oracle.bedrock.runtime.options.DisplayName;
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import com.oracle.bedrock.testsupport.junit.TestLogsExtension;
+import com.oracle.coherence.graal.Server;
+import com.oracle.coherence.graal.listener.BatchingMapListener;
+import com.oracle.coherence.graal.model.pof.Address;
+import com.oracle.coherence.graal.model.pof.Customer;
+import com.oracle.coherence.graal.query.StreamingQuery;
+import com.oracle.coherence.graal.testing.NativeApplication;
+
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.Session;
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Filters;
+import com.tangosol.util.Processors;
+import com.tangosol.util.ValueExtractor;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class ClientIT {
+
+    @RegisterExtension
+    static TestLogsExtension testLogs = new TestLogsExtension(ClientIT.class);
+
+    /**
+     * The Coherence cluster name to use.
+     */
+    static final String CLUSTER_NAME = "ClientIT";
+
+    /**
+     * The partition count of the servers, which a streaming query of a remote cache must be given.
+     */
+    static final int PARTITION_COUNT = 257;
+
+    /**
+     * The number of connections in the pool.
+     */
+    static final int CONNECTIONS = 4;
+
+    /**
+     * The maximum number of requests in flight.
+     */
+    static final int MAX_IN_FLIGHT = 64;
+
+    /**
+     * The Coherence servers started by Bedrock.
+     */
+    static final List<NativeApplication> servers = new ArrayList<>();
+
+    /**
+     * The client under test.
+     */
+    static Client client;
+
+    /**
+     * The gRPC client under test.
+     */
+    static GrpcClient grpcClient;
+
+    @BeforeAll
+    static void startCluster() throws Exception {
+        for (int i = 1; i <= 2; i++) {
+            CountDownLatch latch = new CountDownLatch(1);
+            ApplicationConsole console = testLogs.builder()
+                    .addStdErrListener(s -> s.contains("Started Coherence server"), s -> latch.countDown())
+                    .build("server-" + i);
+
+            servers.add(launchServer("server-" + i, console));
+            assertThat(latch.await(5, TimeUnit.MINUTES), is(true));
+        }
+
+        System.setProperty("coherence.cluster", CLUSTER_NAME);
+        System.setProperty("coherence.localhost", "127.0.0.1");
+        client = Client.connect(CONNECTIONS, MAX_IN_FLIGHT);
+        grpcClient = GrpcClient.connect();
+    }
+
+    @AfterAll
+    static void shutdown() {
+        if (client != null) {
+            client.close();
+        }
+        if (grpcClient != null) {
+            grpcClient.close();
+        }
+        for (NativeApplication server : servers) {
+            server.close();
+        }
+    }
+
+    @Test
+    void shouldUseSeparateConnectionForEachSession() {
+        ConnectionPool pool = client.getPool();
+        assertThat(pool.size(), is(CONNECTIONS));
+
+        Set<String> serviceNames = new HashSet<>();
+        for (Session session : pool.getSessions()) {
+            NamedCache<String, String> cache = session.getCache("connections");
+            serviceNames.add(cache.getCacheService().getInfo().getServiceName());
+        }
+        assertThat(serviceNames.size(), is(CONNECTIONS));
+    }
+
+    @Test
+    void shouldPipelineRequests() throws Exception {
+        PipelinedCache<Integer, String> cache = client.getCache("pipelined");
+        int count = 10_000;
+
+        List<CompletableFuture<Void>> puts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            puts.add(cache.put(i, "value-" + i));
+            assertThat(cache.getInFlight(), is(lessThanOrEqualTo(MAX_IN_FLIGHT)));
+        }
+        CompletableFuture.allOf(puts.toArray(CompletableFuture[]::new)).get(1, TimeUnit.MINUTES);
+
+        List<CompletableFuture<String>> gets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            gets.add(cache.get(i));
+        }
+        for (int i = 0; i < count; i++) {
+            assertThat(gets.get(i).get(1, TimeUnit.MINUTES), is("value-" + i));
+        }
+
+        assertThat(cache.remove(0).get(1, TimeUnit.MINUTES), is("value-0"));
+        cache.flush();
+        assertThat(cache.getInFlight(), is(0));
+    }
+
+    @Test
+    void shouldUsePofTypes() throws Exception {
+        PipelinedCache<Integer, Customer> cache = client.getCache("pof-extend-customers");
+        Address address = new Address("line 1", "line 2", "city", "state", "zip", "country");
+        Customer customer = new Customer(1, "name-1", 100.0d, address, address, "GOLD");
+
+        cache.put(1, customer).get(1, TimeUnit.MINUTES);
+        Double balance = cache.invoke(1, Processors.extract(ValueExtractor.of(Customer::getBalance)))
+                .get(1, TimeUnit.MINUTES);
+        assertThat(balance, is(100.0d));
+    }
+
+    @Test
+    void shouldInvalidateNearCaches() {
+        List<NamedCache<String, String>> caches = client.getPool().getCaches("near-extend");
+        NamedCache<String, String> reader = caches.get(0);
+        NamedCache<String, String> writer = caches.get(1);
+
+        writer.put("key", "value-1");
+        assertThat(reader.get("key"), is("value-1"));
+        assertThat(reader.get("key"), is("value-1"));
+
+        // an update from another connection invalidates the reader's front map
+        writer.put("key", "value-2");
+        Eventually.assertDeferred(() -> reader.get("key"), is("value-2"));
+    }
+
+    @Test
+    void shouldBatchEvents() {
+        List<NamedCache<Integer, String>> caches = client.getPool().getCaches("batched-events");
+        NamedCache<Integer, String> cache = caches.get(0);
+        AtomicInteger eventCounter = new AtomicInteger();
+        AtomicInteger batchCounter = new AtomicInteger();
+
+        try (BatchingMapListener<Integer, String> listener = BatchingMapListener.<Integer, String>builder(batch -> {
+                    batchCounter.incrementAndGet();
+                    eventCounter.addAndGet(batch.size());
+                })
+                .maxBatchSize(100)
+                .conflate(true)
+                .build()) {
+            cache.addMapListener(listener);
+
+            Map<Integer, String> values = new HashMap<>();
+            for (int i = 0; i < 1000; i++) {
+                values.put(i, "value-" + i);
+            }
+            cache.putAll(values);
+
+            // each event is delivered exactly once, in batches of at most 100 events
+            Eventually.assertDeferred(eventCounter::get, is(1000));
+            assertThat(batchCounter.get() >= 10, is(true));
+            assertThat(batchCounter.get() < 1000, is(true));
+
+            cache.removeMapListener(listener);
+        }
+    }
+
+    @Test
+    void shouldStreamQueryOverExtend() {
+        assertStreamedQuery(client.getPool().getCache("pof-extend-stream"));
+    }
+
+    @Test
+    void shouldStreamQueryOverGrpc() {
+        assertStreamedQuery(grpcClient.getCache("pof-grpc-stream"));
+    }
+
+    @Test
+    void shouldRunClientApplication() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        ApplicationConsole console = testLogs.builder()
+                .addStdErrListener(s -> s.contains(Client.LOG_PREFIX) && s.contains("missing=0"), s -> latch.countDown())
+                .build("client");
+
+        try (NativeApplication application = LocalPlatform.get().launch(NativeApplication.class,
+                Arguments.of("-Djava.net.preferIPv4Stack=true",
+                        "-Dcoherence.cluster=" + CLUSTER_NAME,
+                        "-Dcoherence.localhost=127.0.0.1",
+                        "-Dcoherence.client.requests=1000"),
+                ClassName.of(Client.class),
+                ClassPath.automatic(),
+                DisplayName.of("client"),
+                Console.of(console))) {
+            assertThat(latch.await(2, TimeUnit.MINUTES), is(true));
+            assertThat(application.waitFor(), is(0));
+        }
+    }
+
+    @Test
+    void shouldRunGrpcClientApplication() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        ApplicationConsole console = testLogs.builder()
+                .addStdErrListener(s -> s.contains(GrpcClient.LOG_PREFIX) && s.contains("missing=0"), s -> latch.countDown())
+                .build("grpc-client");
+
+        try (NativeApplication application = LocalPlatform.get().launch(NativeApplication.class,
+                Arguments.of("-Djava.net.preferIPv4Stack=true",
+                        "-Dcoherence.cluster=" + CLUSTER_NAME,
+                        "-Dcoherence.localhost=127.0.0.1",
+                        "-Dcoherence.client.protocol=grpc",
+                        "-Dcoherence.client.partitions=" + PARTITION_COUNT,
+                        "-Dcoherence.client.requests=1000"),
+                ClassName.of(Client.class),
+                ClassPath.automatic(),
+                DisplayName.of("grpc-client"),
+                Console.of(console))) {
+            assertThat(latch.await(2, TimeUnit.MINUTES), is(true));
+            assertThat(application.waitFor(), is(0));
+        }
+    }
+
+    /**
+     * Load customers into a cache and assert that a {@link StreamingQuery} returns
+     * every matching customer, requested in more than one chunk.
+     *
+     * @param customers  the cache to use
+     */
+    private static void assertStreamedQuery(NamedCache<Integer, Customer> customers) {
+        Map<Integer, Customer> values = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            Address address = new Address("line 1", "line 2", "city-" + i, "state", "zip-" + i, "country");
+            values.put(i, new Customer(i, "name-" + i, i, address, address, i % 2 == 0 ? "GOLD" : "SILVER"));
+        }
+        customers.putAll(values);
+
+        StreamingQuery<Integer, Customer> query = StreamingQuery
+                .builder(customers, Filters.equal(Extractors.extract("customerType"), "GOLD"))
+                .partitionCount(PARTITION_COUNT)
+                .partitionsPerChunk(32)
+                .prefetch(2)
+                .build();
+        try (Stream<Customer> gold = query.values()) {
+            assertThat(gold.filter(customer -> "GOLD".equals(customer.getCustomerType())).count(), is(500L));
+        }
+        assertThat(query.getChunkCount() > 1, is(true));
+    }
+
+    /**
+     * Launch a server.
+     * <p>
+     * When running native tests the {@code coherence.native.image} property is the
+     * client image, so the server image is set from the {@code coherence.native.server.image}
+     * property while the server is launched.
+     *
+     * @param name     the name of the server
+     * @param console  the console to use
+     *
+     * @return the launched server
+     */
+    private static NativeApplication launchServer(String name, ApplicationConsole console) {
+        String clientImage = System.getProperty("coherence.native.image");
+        String serverImage = System.getProperty("coherence.native.server.image");
+        if (Boolean.getBoolean("coherence.native.tests") && serverImage != null) {
+            System.setProperty("coherence.native.image", serverImage);
+        }
+        try {
+            return LocalPlatform.get().launch(NativeApplication.class,
+                    Arguments.of("-Djava.net.preferIPv4Stack=true",
+                            "-Dcoherence.lambdas=static",
+                            "-Dcoherence.distributed.partitions=" + PARTITION_COUNT,
+                            "-Dcoherence.cluster=" + CLUSTER_NAME,
+                            "-Dcoherence.localhost=127.0.0.1",
+                            "-Dcoherence.wka=127.0.0.1"),
+                    ClassName.of(Server.class),
+                    ClassPath.automatic(),
+                    DisplayName.of(name),
+                    Console.of(console));
+        } finally {
+            if (clientImage == null) {
+                System.clearProperty("coherence.native.image");
+            } else {
+                System.setProperty("coherence.native.image", clientImage);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 18/10/2026, 10:18, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of each {@link Operation} in HdrHistograms.
+ * <p>
+ * Latencies are recorded in microseconds from any thread. The interval
+ * histograms are read by the reporting thread and added to the totals.
+ */
+public class LatencyRecorder {
+
+    /**
+     * The highest latency that is recorded exactly, longer latencies are recorded as this value.
+     */
+    public static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    /**
+     * The number of significant value digits of the histograms.
+     */
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * The recorder for each operation.
+     */
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+
+    /**
+     * The total histogram for each operation.
+     */
+    private final Map<Operation, Histogram> totals = new EnumMap<>(Operation.class);
+
+    /**
+     * The number of failed requests for each operation.
+     */
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    /**
+     * Create a {@link LatencyRecorder}.
+     */
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            totals.put(operation, new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Record the latency of a request.
+     *
+     * @param operation     the operation
+     * @param latencyNanos  the latency of the request in nanoseconds
+     */
+    public void record(Operation operation, long latencyNanos) {
+        long micros = Math.max(0L, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        recorders.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * Record a failed request.
+     *
+     * @param operation  the operation
+     */
+    public void recordError(Operation operation) {
+        errors.get(operation).increment();
+    }
+
+    /**
+     * Returns the histogram of the latencies recorded since the last call to
+     * this method and adds it to the totals.
+     *
+     * @param operation  the operation
+     *
+     * @return the histogram of the latencies recorded since the last call
+     */
+    public Histogram interval(Operation operation) {
+        Histogram histogram = recorders.get(operation).getIntervalHistogram();
+        totals.get(operation).add(histogram);
+        return histogram;
+    }
+
+    /**
+     * Returns the histogram of all the latencies recorded since the last reset.
+     * <p>
+     * Only latencies already returned by {@link #interval(Operation)} are included.
+     *
+     * @param operation  the operation
+     *
+     * @return the histogram of all the latencies recorded since the last reset
+     */
+    public Histogram total(Operation operation) {
+        return totals.get(operation);
+    }
+
+    /**
+     * Returns the number of failed requests since the last reset.
+     *
+     * @param operation  the operation
+     *
+     * @return the number of failed requests since the last reset
+     */
+    public long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+
+    /**
+     * Discard all the recorded latencies and errors, for example after a warmup.
+     */
+    public void reset() {
+        for (Operation operation : Operation.values()) {
+            recorders.get(operation).reset();
+            totals.get(operation).reset();
+            errors.get(operation).reset();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 18/10/2026, 10:18, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.loadgen;
+
+import com.oracle.coherence.graal.extend.Client;
+import com.oracle.coherence.graal.extend.PipelinedCache;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.util.Filters;
+import com.tangosol.util.Processors;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A command line load generator that drives a mix of cache operations against
+ * a cluster using the Extend {@link Client}.
+ * <p>
+ * Requests are sent at a fixed rate (open-loop), whether or not earlier requests have
+ * completed, and the latency of each request is measured from the time it was scheduled
+ * to be sent. This means a slow cluster shows up as higher latencies rather than as a
+ * lower request rate, avoiding coordinated omission. The latencies are recorded in
+ * HdrHistograms and reported with the throughput of each operation.
+ * <p>
+ * When built as a native image the load generator starts in milliseconds,
+ * so many load agents can be run at once.
+ */
+public class LoadGenerator {
+
+    /**
+     * The prefix of the result lines.
+     */
+    public static final String LOG_PREFIX = "LoadGenerator:";
+
+    /**
+     * The options of the run.
+     */
+    private final LoadOptions options;
+
+    /**
+     * The cache to send requests to.
+     */
+    private final PipelinedCache<Integer, Object> cache;
+
+    /**
+     * Creates the values.
+     */
+    private final ValueFactory values;
+
+    /**
+     * The recorded latencies.
+     */
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    /**
+     * The stream to write results to.
+     */
+    private final PrintStream out;
+
+    /**
+     * Create a {@link LoadGenerator}.
+     *
+     * @param options  the options of the run
+     * @param client   the client to use
+     * @param out      the stream to write results to
+     */
+    public LoadGenerator(LoadOptions options, Client client, PrintStream out) {
+        this.options = options;
+        this.cache = client.getCache(options.getCacheName());
+        this.values = new ValueFactory(options.getModel(), options.getValueSize());
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.println(LoadOptions.usage());
+            return;
+        }
+
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadOptions.usage());
+            System.exit(2);
+            return;
+        }
+
+        try (Client client = Client.connect(options.getConnections(), options.getInFlight())) {
+            new LoadGenerator(options, client, System.out).run();
+        } finally {
+            Coherence.closeAll();
+        }
+    }
+
+    /**
+     * Run the load.
+     */
+    public void run() {
+        out.println(LOG_PREFIX + " options " + options);
+
+        if (options.isPreload()) {
+            preload();
+        }
+
+        if (options.getWarmupSeconds() > 0) {
+            out.println(LOG_PREFIX + " warmup " + options.getWarmupSeconds() + "s");
+            drive(options.getWarmupSeconds(), false);
+            recorder.reset();
+        }
+
+        out.println(LOG_PREFIX + " run " + options.getDurationSeconds() + "s");
+        drive(options.getDurationSeconds(), true);
+        report("summary", options.getDurationSeconds(), true);
+    }
+
+    /**
+     * Load every key.
+     */
+    private void preload() {
+        long start = System.nanoTime();
+        Map<Integer, Object> batch = new HashMap<>();
+        for (int key = 0; key < options.getKeys(); key++) {
+            batch.put(key, values.create(key));
+            if (batch.size() == 1000) {
+                cache.putAll(batch);
+                batch = new HashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            cache.putAll(batch);
+        }
+        cache.flush();
+        out.println(LOG_PREFIX + " preloaded " + options.getKeys() + " keys in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+    }
+
+    /**
+     * Send requests at the target rate.
+     *
+     * @param seconds  how long to send requests for
+     * @param report   whether to report the interval results
+     */
+    private void drive(int seconds, boolean report) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.getRate();
+        long reportNanos = TimeUnit.SECONDS.toNanos(options.getReportSeconds());
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        long nextReport = start + reportNanos;
+
+        for (long n = 0; ; n++) {
+            long intended = start + n * intervalNanos;
+            if (intended - end >= 0) {
+                break;
+            }
+
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            send(options.getMix().next(random), intended, random);
+
+            if (System.nanoTime() - nextReport >= 0) {
+                if (report) {
+                    report("interval", options.getReportSeconds(), false);
+                } else {
+                    drainIntervals();
+                }
+                nextReport += reportNanos;
+            }
+        }
+        cache.flush();
+        drainIntervals();
+    }
+
+    /**
+     * Send a request.
+     *
+     * @param operation  the operation to send
+     * @param intended   the time the request was scheduled to be sent
+     * @param random     the random number generator to use
+     */
+    private void send(Operation operation, long intended, ThreadLocalRandom random) {
+        int key = random.nextInt(options.getKeys());
+        CompletableFuture<?> future = switch (operation) {
+            case GET -> cache.get(key);
+            case PUT -> cache.put(key, values.create(key));
+            case PUT_ALL -> cache.putAll(batch(key));
+            case INVOKE -> cache.invoke(key, Processors.extract(values.amountExtractor()));
+            case QUERY -> cache.values(Filters.between(values.idExtractor(), key, key + options.getQueryRange() - 1));
+        };
+        future.whenComplete((result, error) -> {
+            if (error == null) {
+                recorder.record(operation, System.nanoTime() - intended);
+            } else {
+                recorder.recordError(operation);
+            }
+        });
+    }
+
+    /**
+     * Create a batch of consecutive keys for a putAll.
+     *
+     * @param first  the first key
+     *
+     * @return the batch
+     */
+    private Map<Integer, Object> batch(int first) {
+        Map<Integer, Object> batch = new HashMap<>();
+        for (int i = 0; i < options.getBatchSize(); i++) {
+            int key = (first + i) % options.getKeys();
+            batch.put(key, values.create(key));
+        }
+        return batch;
+    }
+
+    /**
+     * Add the interval histograms to the totals without reporting them.
+     */
+    private void drainIntervals() {
+        for (Operation operation : Operation.values()) {
+            recorder.interval(operation);
+        }
+    }
+
+    /**
+     * Report the results of each operation in the mix.
+     *
+     * @param label    the label of the report
+     * @param seconds  the duration covered by the report
+     * @param total    {@code true} to report the totals, {@code false} to report the interval
+     */
+    private void report(String label, int seconds, boolean total) {
+        long count = 0;
+        for (Operation operation : options.getMix().getOperations()) {
+            Histogram histogram = total ? recorder.total(operation) : recorder.interval(operation);
+            count += histogram.getTotalCount();
+            out.println(LOG_PREFIX + " " + label + " " + format(operation, histogram, seconds));
+        }
+        out.printf("%s %s op=all count=%d throughput=%.1f/s%n", LOG_PREFIX, label, count, (double) count / seconds);
+    }
+
+    private String format(Operation operation, Histogram histogram, int seconds) {
+        return String.format("op=%s count=%d throughput=%.1f/s p50=%dus p90=%dus p99=%dus p999=%dus max=%dus errors=%d",
+                operation.label(),
+                histogram.getTotalCount(),
+                (double) histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50.0d),
+                histogram.getValueAtPercentile(90.0d),
+                histogram.getValueAtPercentile(99.0d),
+                histogram.getValueAtPercentile(99.9d),
+                histogram.getMaxValue(),
+                recorder.errors(operation));
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 18/10/2026, 10:18, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.loadgen;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The options of a {@link LoadGenerator} run, parsed from {@code --<name>=<value>}
+ * command line arguments.
+ * <p>
+ * Each option can also be set using a {@code coherence.loadgen.<name>} system
+ * property, command line arguments take precedence over system properties.
+ */
+public class LoadOptions {
+
+    /**
+     * The default operation mix.
+     */
+    public static final String DEFAULT_MIX = "get:70,put:20,putAll:5,invoke:4,query:1";
+
+    /**
+     * The prefix of the system properties that set options.
+     */
+    public static final String PROPERTY_PREFIX = "coherence.loadgen.";
+
+    /**
+     * The target number of operations per second.
+     */
+    private int rate = 1000;
+
+    /**
+     * The duration of the measured run in seconds.
+     */
+    private int durationSeconds = 60;
+
+    /**
+     * The duration of the warmup in seconds, which is not included in the results.
+     */
+    private int warmupSeconds = 10;
+
+    /**
+     * The number of keys.
+     */
+    private int keys = 10_000;
+
+    /**
+     * The operation mix.
+     */
+    private OperationMix mix = OperationMix.parse(DEFAULT_MIX);
+
+    /**
+     * The model used to create the cache values.
+     */
+    private ValueFactory.Model model = ValueFactory.Model.CUSTOMER;
+
+    /**
+     * The approximate serialized size of each value, or zero to use the natural size of the model.
+     */
+    private int valueSize;
+
+    /**
+     * The number of entries in each putAll.
+     */
+    private int batchSize = 100;
+
+    /**
+     * The number of keys matched by each query.
+     */
+    private int queryRange = 10;
+
+    /**
+     * The number of Extend connections.
+     */
+    private int connections = 4;
+
+    /**
+     * The maximum number of requests in flight.
+     */
+    private int inFlight = 256;
+
+    /**
+     * The name of the cache, or {@code null} to use a name based on the model.
+     */
+    private String cacheName;
+
+    /**
+     * How often to report the interval results in seconds.
+     */
+    private int reportSeconds = 10;
+
+    /**
+     * Whether to load every key before the run.
+     */
+    private boolean preload = true;
+
+    /**
+     * Parse the options from command line arguments.
+     *
+     * @param args  the command line arguments
+     *
+     * @return the parsed options
+     *
+     * @throws IllegalArgumentException if an argument is not valid
+     */
+    public static LoadOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(PROPERTY_PREFIX)) {
+                values.put(name.substring(PROPERTY_PREFIX.length()), System.getProperty(name));
+            }
+        }
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Invalid argument '" + arg + "', expected --<name>=<value>");
+            }
+            int index = arg.indexOf('=');
+            if (index < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, index), arg.substring(index + 1));
+            }
+        }
+
+        LoadOptions options = new LoadOptions();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue();
+            switch (entry.getKey()) {
+                case "rate" -> options.rate = positive("rate", value);
+                case "duration" -> options.durationSeconds = positive("duration", value);
+                case "warmup" -> options.warmupSeconds = notNegative("warmup", value);
+                case "keys" -> options.keys = positive("keys", value);
+                case "mix" -> options.mix = OperationMix.parse(value);
+                case "model" -> options.model = ValueFactory.Model.valueOf(value.toUpperCase());
+                case "value-size" -> options.valueSize = notNegative("value-size", value);
+                case "batch" -> options.batchSize = positive("batch", value);
+                case "query-range" -> options.queryRange = positive("query-range", value);
+                case "connections" -> options.connections = positive("connections", value);
+                case "inflight" -> options.inFlight = positive("inflight", value);
+                case "cache" -> options.cacheName = value;
+                case "report" -> options.reportSeconds = positive("report", value);
+                case "preload" -> options.preload = Boolean.parseBoolean(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + entry.getKey());
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Returns the usage message.
+     *
+     * @return the usage message
+     */
+    public static String usage() {
+        return """
+                Usage: coherence-native-loadgen [--<option>=<value>]...
+
+                  --rate=<n>          the target operations per second (default 1000)
+                  --duration=<s>      the duration of the measured run in seconds (default 60)
+                  --warmup=<s>        the duration of the warmup in seconds (default 10)
+                  --keys=<n>          the number of keys (default 10000)
+                  --mix=<mix>         the operation mix (default %s)
+                  --model=<model>     the value model, customer or order (default customer)
+                  --value-size=<n>    the approximate size of each value in bytes (default the model size)
+                  --batch=<n>         the number of entries in each putAll (default 100)
+                  --query-range=<n>   the number of keys matched by each query (default 10)
+                  --connections=<n>   the number of Extend connections (default 4)
+                  --inflight=<n>      the maximum number of requests in flight (default 256)
+                  --cache=<name>      the cache name (default pof-loadgen-<model>)
+                  --report=<s>        how often to report interval results in seconds (default 10)
+                  --preload=<bool>    whether to load every key before the run (default true)
+
+                Each option can also be set using a coherence.loadgen.<option> system property.
+                The cluster is set using the coherence.cluster system property.
+                """.formatted(DEFAULT_MIX);
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getKeys() {
+        return keys;
+    }
+
+    public OperationMix getMix() {
+        return mix;
+    }
+
+    public ValueFactory.Model getModel() {
+        return model;
+    }
+
+    public int getValueSize() {
+        return valueSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getQueryRange() {
+        return queryRange;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public String getCacheName() {
+        return cacheName == null ? "pof-loadgen-" + model.name().toLowerCase() : cacheName;
+    }
+
+    public int getReportSeconds() {
+        return reportSeconds;
+    }
+
+    public boolean isPreload() {
+        return preload;
+    }
+
+    @Override
+    public String toString() {
+        return "rate=" + rate
+                + " duration=" + durationSeconds
+                + " warmup=" + warmupSeconds
+                + " keys=" + keys
+                + " mix=" + mix
+                + " model=" + model.name().toLowerCase()
+                + " valueSize=" + valueSize
+                + " batch=" + batchSize
+                + " queryRange=" + queryRange
+                + " connections=" + connections
+                + " inflight=" + inFlight
+                + " cache=" + getCacheName();
+    }
+
+    private static int positive(String name, String value) {
+        int n = Integer.parseInt(value);
+        if (n <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive");
+        }
+        return n;
+    }
+
+    private static int notNegative(String name, String value) {
+        int n = Integer.parseInt(value);
+        if (n < 0) {
+            throw new IllegalArgumentException("--" + name + " cannot be negative");
+        }
+        return n;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 18/10/2026, 10:18, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.loadgen;
+
+/**
+ * The cache operations that the {@link LoadGenerator} can send.
+ */
+public enum Operation {
+    /**
+     * Get a single entry.
+     */
+    GET("get"),
+
+    /**
+     * Put a single entry.
+     */
+    PUT("put"),
+
+    /**
+     * Put a batch of entries.
+     */
+    PUT_ALL("putAll"),
+
+    /**
+     * Invoke an entry processor against a single entry.
+     */
+    INVOKE("invoke"),
+
+    /**
+     * Query a small range of keys using a filter.
+     */
+    QUERY("query");
+
+    /**
+     * The name of the operation used in the operation mix.
+     */
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the name of the operation used in the operation mix.
+     *
+     * @return the name of the operation used in the operation mix
+     */
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Returns the operation with a label.
+     *
+     * @param label  the label of the operation
+     *
+     * @return the operation with the label
+     *
+     * @throws IllegalArgumentException if there is no operation with the label
+     */
+    public static Operation fromLabel(String label) {
+        for (Operation operation : values()) {
+            if (operation.label.equalsIgnoreCase(label)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation " + label);
+    }
+}
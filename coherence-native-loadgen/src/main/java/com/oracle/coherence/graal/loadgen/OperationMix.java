@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 18/10/2026, 10:18, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.loadgen;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A weighted mix of {@link Operation}s.
+ * <p>
+ * A mix is created from a comma separated list of operation labels and weights,
+ * for example {@code get:70,put:20,putAll:5,invoke:4,query:1}.
+ */
+public class OperationMix {
+
+    /**
+     * The operations with a non-zero weight.
+     */
+    private final Operation[] operations;
+
+    /**
+     * The cumulative weights of the operations.
+     */
+    private final int[] cumulative;
+
+    /**
+     * The total of all the weights.
+     */
+    private final int total;
+
+    /**
+     * Create an {@link OperationMix}.
+     *
+     * @param weights  the weight of each operation
+     */
+    public OperationMix(Map<Operation, Integer> weights) {
+        Map<Operation, Integer> sorted = new EnumMap<>(Operation.class);
+        weights.forEach((operation, weight) -> {
+            if (weight < 0) {
+                throw new IllegalArgumentException("The weight of " + operation.label() + " cannot be negative");
+            }
+            if (weight > 0) {
+                sorted.put(operation, weight);
+            }
+        });
+        if (sorted.isEmpty()) {
+            throw new IllegalArgumentException("The operation mix must contain at least one operation");
+        }
+
+        operations = sorted.keySet().toArray(new Operation[0]);
+        cumulative = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += sorted.get(operations[i]);
+            cumulative[i] = sum;
+        }
+        total = sum;
+    }
+
+    /**
+     * Parse an operation mix.
+     *
+     * @param mix  the comma separated list of operation labels and weights
+     *
+     * @return the operation mix
+     */
+    public static OperationMix parse(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid operation mix entry '" + part + "', expected <operation>:<weight>");
+            }
+            weights.merge(Operation.fromLabel(pair[0].trim()), Integer.parseInt(pair[1].trim()), Integer::sum);
+        }
+        return new OperationMix(weights);
+    }
+
+    /**
+     * Returns the operations in the mix.
+     *
+     * @return the operations in the mix
+     */
+    public Operation[] getOperations() {
+        return operations.clone();
+    }
+
+    /**
+     * Choose the next operation.
+     *
+     * @param random  the random number generator to use
+     *
+     * @return the next operation
+     */
+    public Operation next(Random random) {
+        int value = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (value < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(operations[i].label()).append(':').append(cumulative[i] - previous);
+            previous = cumulative[i];
+        }
+        return builder.toString();
+    }
+}
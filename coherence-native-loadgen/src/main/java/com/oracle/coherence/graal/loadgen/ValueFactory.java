@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 18/10/2026, 10:18, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.loadgen;
+
+import com.oracle.coherence.graal.model.java.Order;
+import com.oracle.coherence.graal.model.pof.Address;
+import com.oracle.coherence.graal.model.pof.Customer;
+
+import com.tangosol.util.Extractors;
+import com.tangosol.util.ValueExtractor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Creates the cache values used by the {@link LoadGenerator} from the model classes.
+ * <p>
+ * The size of the values can be increased by padding a string property of the model.
+ * The size is approximate, as the serialized size of the other properties varies.
+ */
+public class ValueFactory {
+
+    /**
+     * The customer types used by the model.
+     */
+    private static final String[] CUSTOMER_TYPES = new String[]{"GOLD", "SILVER", "BRONZE"};
+
+    /**
+     * The model classes that can be used as values.
+     */
+    public enum Model {
+        /**
+         * A {@link Customer} with two embedded {@link Address} values, about 160 bytes in POF.
+         */
+        CUSTOMER(160, "id", "balance"),
+
+        /**
+         * An {@link Order}, about 32 bytes in POF.
+         */
+        ORDER(32, "orderId", "totalAmount");
+
+        /**
+         * The approximate serialized size of a value without padding.
+         */
+        private final int baseSize;
+
+        /**
+         * The property holding the key of the value.
+         */
+        private final String idProperty;
+
+        /**
+         * A numeric property of the value.
+         */
+        private final String amountProperty;
+
+        Model(int baseSize, String idProperty, String amountProperty) {
+            this.baseSize = baseSize;
+            this.idProperty = idProperty;
+            this.amountProperty = amountProperty;
+        }
+    }
+
+    /**
+     * The model of the values.
+     */
+    private final Model model;
+
+    /**
+     * The padding added to each value.
+     */
+    private final String padding;
+
+    /**
+     * Create a {@link ValueFactory}.
+     *
+     * @param model      the model of the values
+     * @param valueSize  the approximate serialized size of each value,
+     *                   or zero to use the natural size of the model
+     */
+    public ValueFactory(Model model, int valueSize) {
+        this.model = model;
+        this.padding = "x".repeat(Math.max(0, valueSize - model.baseSize));
+    }
+
+    /**
+     * Create a value.
+     *
+     * @param id  the key of the value
+     *
+     * @return a new value
+     */
+    public Object create(int id) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (model) {
+            case CUSTOMER -> new Customer(id, "name-" + id + padding, random.nextDouble(1_000.0d),
+                    address(random), address(random), CUSTOMER_TYPES[random.nextInt(CUSTOMER_TYPES.length)]);
+            case ORDER -> new Order(id, "customer-" + random.nextInt(1_000_000) + padding, random.nextDouble(1_000.0d));
+        };
+    }
+
+    /**
+     * Returns an extractor for the property holding the key of the value.
+     * <p>
+     * The extractor uses the property name so that the load generator classes
+     * do not have to be on the class path of the cluster members.
+     *
+     * @param <V>  the type of the values
+     *
+     * @return an extractor for the property holding the key of the value
+     */
+    public <V> ValueExtractor<V, Integer> idExtractor() {
+        return Extractors.extract(model.idProperty);
+    }
+
+    /**
+     * Returns an extractor for a numeric property of the value.
+     *
+     * @param <V>  the type of the values
+     *
+     * @return an extractor for a numeric property of the value
+     */
+    public <V> ValueExtractor<V, Double> amountExtractor() {
+        return Extractors.extract(model.amountProperty);
+    }
+
+    private static Address address(ThreadLocalRandom random) {
+        return new Address("Address line 1", "address line 2", "city-" + random.nextInt(1000),
+                "state-" + random.nextInt(50), "zip" + random.nextInt(100_000), "country-" + random.nextInt(200));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 18/10/2026, 10:18, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.loadgen;
+
+import com.oracle.bedrock.runtime.ApplicationConsole;
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.ClassPath;
+import com.oracle.bedrock.runtime.java.options.ClassName;
+import com.oracle.bedrock.runtime.options.Arguments;
+import com.oracle.bedrock.runtime.options.Console;
+import com.oracle.bedrock.runtime.options.DisplayName;
+import com.oracle.bedrock.testsupport.junit.TestLogsExtension;
+import com.oracle.coherence.graal.Server;
+import com.oracle.coherence.graal.testing.NativeApplication;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class LoadGeneratorIT {
+
+    @RegisterExtension
+    static TestLogsExtension testLogs = new TestLogsExtension(LoadGeneratorIT.class);
+
+    /**
+     * The Coherence cluster name to use.
+     */
+    static final String CLUSTER_NAME = "LoadGeneratorIT";
+
+    /**
+     * The pattern to parse the summary lines.
+     */
+    static final Pattern SUMMARY = Pattern.compile(Pattern.quote(LoadGenerator.LOG_PREFIX)
+            + " summary op=(\\S+) count=(\\d+) .* errors=(\\d+)");
+
+    /**
+     * The Coherence servers started by Bedrock.
+     */
+    static final List<NativeApplication> servers = new ArrayList<>();
+
+    @BeforeAll
+    static void startCluster() throws Exception {
+        String loadgenImage = System.getProperty("coherence.native.image");
+        String serverImage = System.getProperty("coherence.native.server.image");
+        if (Boolean.getBoolean("coherence.native.tests") && serverImage != null) {
+            System.setProperty("coherence.native.image", serverImage);
+        }
+        try {
+            for (int i = 1; i <= 2; i++) {
+                CountDownLatch latch = new CountDownLatch(1);
+                ApplicationConsole console = testLogs.builder()
+                        .addStdErrListener(s -> s.contains("Started Coherence server"), s -> latch.countDown())
+                        .build("server-" + i);
+
+                servers.add(LocalPlatform.get().launch(NativeApplication.class,
+                        Arguments.of("-Djava.net.preferIPv4Stack=true",
+                                "-Dcoherence.cluster=" + CLUSTER_NAME,
+                                "-Dcoherence.localhost=127.0.0.1",
+                                "-Dcoherence.wka=127.0.0.1"),
+                        ClassName.of(Server.class),
+                        ClassPath.automatic(),
+                        DisplayName.of("server-" + i),
+                        Console.of(console)));
+                assertThat(latch.await(5, TimeUnit.MINUTES), is(true));
+            }
+        } finally {
+            if (loadgenImage == null) {
+                System.clearProperty("coherence.native.image");
+            } else {
+                System.setProperty("coherence.native.image", loadgenImage);
+            }
+        }
+    }
+
+    @AfterAll
+    static void shutdown() {
+        for (NativeApplication server : servers) {
+            server.close();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"customer", "order"})
+    void shouldRunOperationMix(String model) throws Exception {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        Map<String, Long> errors = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        ApplicationConsole console = testLogs.builder()
+                .addStdOutListener(s -> s.contains(LoadGenerator.LOG_PREFIX + " summary"), s -> {
+                    Matcher matcher = SUMMARY.matcher(s);
+                    if (matcher.find()) {
+                        counts.put(matcher.group(1), Long.parseLong(matcher.group(2)));
+                        errors.put(matcher.group(1), Long.parseLong(matcher.group(3)));
+                    }
+                    if (s.contains("op=all")) {
+                        latch.countDown();
+                    }
+                })
+                .build("loadgen-" + model);
+
+        try (NativeApplication loadgen = LocalPlatform.get().launch(NativeApplication.class,
+                Arguments.of("-Djava.net.preferIPv4Stack=true",
+                        "-Dcoherence.cluster=" + CLUSTER_NAME,
+                        "-Dcoherence.localhost=127.0.0.1",
+                        "-Dcoherence.loadgen.model=" + model,
+                        "-Dcoherence.loadgen.rate=500",
+                        "-Dcoherence.loadgen.duration=5",
+                        "-Dcoherence.loadgen.warmup=1",
+                        "-Dcoherence.loadgen.keys=1000",
+                        "-Dcoherence.loadgen.value-size=512",
+                        "-Dcoherence.loadgen.mix=get:50,put:20,putAll:10,invoke:10,query:10"),
+                ClassName.of(LoadGenerator.class),
+                ClassPath.automatic(),
+                DisplayName.of("loadgen-" + model),
+                Console.of(console))) {
+            assertThat(latch.await(2, TimeUnit.MINUTES), is(true));
+            assertThat(loadgen.waitFor(), is(0));
+        }
+
+        for (Operation operation : Operation.values()) {
+            assertThat(operation.label(), counts.get(operation.label()), is(greaterThan(0L)));
+            assertThat(operation.label(), errors.get(operation.label()), is(0L));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 18/10/2026, 10:18, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OperationMixTest {
+
+    @Test
+    void shouldParseMix() {
+        OperationMix mix = OperationMix.parse("get:70, put:20,putAll:5,invoke:4,query:1");
+        assertThat(mix.toString(), is("get:70,put:20,putAll:5,invoke:4,query:1"));
+    }
+
+    @Test
+    void shouldSkipZeroWeights() {
+        OperationMix mix = OperationMix.parse("get:1,put:0");
+        assertThat(mix.getOperations().length, is(1));
+        assertThat(mix.next(new Random()), is(Operation.GET));
+    }
+
+    @Test
+    void shouldRejectInvalidMix() {
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("get"));
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("delete:10"));
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("get:0"));
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("get:-1,put:2"));
+    }
+
+    @Test
+    void shouldChooseOperationsByWeight() {
+        OperationMix mix = OperationMix.parse("get:70,put:20,query:10");
+        Random random = new Random(42);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        int samples = 100_000;
+        for (int i = 0; i < samples; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+        assertThat(counts.get(Operation.GET) / (double) samples, is(closeTo(0.7d, 0.01d)));
+        assertThat(counts.get(Operation.PUT) / (double) samples, is(closeTo(0.2d, 0.01d)));
+        assertThat(counts.get(Operation.QUERY) / (double) samples, is(closeTo(0.1d, 0.01d)));
+    }
+
+    @Test
+    void shouldParseOptions() {
+        LoadOptions options = LoadOptions.parse("--rate=5000", "--mix=get:1", "--model=order", "--preload=false");
+        assertThat(options.getRate(), is(5000));
+        assertThat(options.getMix().toString(), is("get:1"));
+        assertThat(options.getModel(), is(ValueFactory.Model.ORDER));
+        assertThat(options.getCacheName(), is("pof-loadgen-order"));
+        assertThat(options.isPreload(), is(false));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--unknown=1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--rate=0"));
+    }
+}
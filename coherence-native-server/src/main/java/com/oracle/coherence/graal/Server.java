@@ -6,16 +6,61 @@
 
 package com.oracle.coherence.graal;
 
+import com.oracle.coherence.graal.config.PrebuiltConfiguration;
+import com.oracle.coherence.graal.memory.MemorySettings;
+import com.oracle.coherence.graal.memory.PauseDetector;
+import com.oracle.coherence.graal.metrics.MetricsEndpoint;
+import com.oracle.coherence.graal.persistence.RecoveryMode;
+import com.oracle.coherence.graal.startup.StartupTimeline;
+import com.oracle.coherence.graal.workers.WorkerMode;
 import com.tangosol.net.Coherence;
 
 /**
  * A simple wrapper around {@link Coherence} that starts
  * a Coherence server.
+ * <p>
+ * The server records a {@link StartupTimeline} so that the time
+ * taken to become ready can be measured. When running as a native
+ * image the server uses the {@link PrebuiltConfiguration} that was
+ * created at image build time.
+ * <p>
+ * Caches named {@code offheap-*} or {@code flash-*} are mapped to schemes
+ * that store entries outside the Java heap, so that a member holding a lot
+ * of data can run with a small heap.
+ * <p>
+ * The server logs its {@link MemorySettings} at startup and, when enabled,
+ * runs a {@link PauseDetector} to report pause percentiles and a
+ * {@link MetricsEndpoint} to publish cache operation latencies. The distributed
+ * services use platform or virtual worker threads depending on the {@link WorkerMode}.
+ * <p>
+ * Caches named {@code persistent-*} use active persistence. When persistence is
+ * enabled their service starts with the server, and their partitions are recovered
+ * from local disk when the members restart using the {@link RecoveryMode}.
+ * <p>
+ * Each server runs a gRPC proxy as well as the Extend proxy. Like the Extend proxy
+ * it listens on an ephemeral port by default, so that several servers can run on
+ * one host, and clients find it using the cluster name service.
  */
 public class Server
     {
+    /**
+     * The Coherence system property that sets the port of the gRPC proxy.
+     */
+    public static final String PROP_GRPC_PORT = "coherence.grpc.server.port";
+
     public static void main(String[] args)
         {
+        StartupTimeline.get().start();
+        MemorySettings.log();
+        PauseDetector.startIfEnabled();
+        MetricsEndpoint.startIfEnabled();
+        WorkerMode.configure();
+        RecoveryMode.configure();
+        if (System.getProperty(PROP_GRPC_PORT) == null)
+            {
+            System.setProperty(PROP_GRPC_PORT, "0");
+            }
+        PrebuiltConfiguration.install();
         Coherence.main(args);
         }
     }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 18/10/2026, 10:07, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.config;
+
+import com.oracle.coherence.graal.model.java.Country;
+import com.oracle.coherence.graal.model.java.Order;
+import com.oracle.coherence.graal.model.java.OrderLine;
+import com.oracle.coherence.graal.model.pof.Address;
+import com.oracle.coherence.graal.model.pof.Customer;
+import com.oracle.coherence.common.base.Logger;
+import com.tangosol.io.pof.ConfigurablePofContext;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.ExtensibleConfigurableCacheFactory;
+import com.tangosol.run.xml.XmlElement;
+import com.tangosol.run.xml.XmlHelper;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Holds the cache configuration and POF context used by the server.
+ * <p>
+ * When the server is built as a native image the {@link PrebuiltConfigurationFeature}
+ * initializes this class at image build time, so the cache configuration is parsed
+ * and the POF type registry and serializers are created during the build and stored
+ * in the image heap. When running on a JVM this class is initialized on first use.
+ * <p>
+ * The server logs a {@link #toLogLine() summary} of the configuration it uses, so that
+ * the configuration of a native server can be compared with the one built on a JVM.
+ */
+public final class PrebuiltConfiguration {
+
+    /**
+     * The URI of the cache configuration used by the server.
+     */
+    public static final String CACHE_CONFIG_URI = "coherence-cache-config.xml";
+
+    /**
+     * The prefix of the structured log line written with the configuration summary.
+     */
+    public static final String LOG_PREFIX = "NativeConfig:";
+
+    /**
+     * The POF user types registered when the POF context is created.
+     */
+    public static final List<Class<?>> USER_TYPES = List.of(Customer.class, Address.class,
+            Order.class, OrderLine.class, Country.class);
+
+    /**
+     * The system property set by GraalVM to indicate the code is running in a native image.
+     */
+    private static final String PROP_IMAGE_CODE = "org.graalvm.nativeimage.imagecode";
+
+    /**
+     * The parsed cache configuration.
+     */
+    private static final XmlElement CACHE_CONFIG = XmlHelper.loadFileOrResource(CACHE_CONFIG_URI,
+            "cache configuration", PrebuiltConfiguration.class.getClassLoader());
+
+    /**
+     * The initialized POF context.
+     */
+    private static final ConfigurablePofContext POF_CONTEXT = createPofContext();
+
+    private PrebuiltConfiguration() {
+    }
+
+    /**
+     * Returns the parsed cache configuration.
+     *
+     * @return the parsed cache configuration
+     */
+    public static XmlElement cacheConfig() {
+        return CACHE_CONFIG;
+    }
+
+    /**
+     * Returns the POF context with all the user types already registered.
+     * <p>
+     * This method is used as the class factory for the POF serializer in
+     * the cache configuration.
+     *
+     * @return the POF context with all the user types already registered
+     */
+    public static ConfigurablePofContext pofContext() {
+        return POF_CONTEXT;
+    }
+
+    /**
+     * Returns {@code true} if running in a native image, where this class
+     * was initialized during the image build.
+     *
+     * @return {@code true} if running in a native image
+     */
+    public static boolean isPrebuilt() {
+        return "runtime".equals(System.getProperty(PROP_IMAGE_CODE));
+    }
+
+    /**
+     * Install a cache factory created from the prebuilt cache configuration,
+     * so that Coherence does not load and parse the configuration again.
+     * <p>
+     * This method only logs the configuration summary when not running in a native image.
+     */
+    public static void install() {
+        Logger.info(toLogLine());
+        if (!isPrebuilt()) {
+            return;
+        }
+
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        ConfigurableCacheFactory ccf = new ExtensibleConfigurableCacheFactory(
+                ExtensibleConfigurableCacheFactory.DependenciesHelper.newInstance(CACHE_CONFIG, loader));
+        CacheFactory.getCacheFactoryBuilder().setConfigurableCacheFactory(ccf, CACHE_CONFIG_URI, loader, false);
+    }
+
+    /**
+     * Returns the structured log line with the summary of the configuration used by this process.
+     *
+     * @return the structured log line with the summary of the configuration
+     */
+    public static String toLogLine() {
+        return LOG_PREFIX + " prebuilt=" + isPrebuilt() + " " + describe(CACHE_CONFIG, POF_CONTEXT);
+    }
+
+    /**
+     * Returns a summary of a cache configuration and POF context, with a hash of the
+     * configuration and the type identifier and serializer of each {@link #USER_TYPES user type}.
+     *
+     * @param cacheConfig  the cache configuration
+     * @param context      the POF context
+     *
+     * @return the summary of the configuration
+     */
+    public static String describe(XmlElement cacheConfig, ConfigurablePofContext context) {
+        StringJoiner types = new StringJoiner(",");
+        for (Class<?> type : USER_TYPES) {
+            int typeId = context.getUserTypeIdentifier(type);
+            types.add(typeId + ":" + type.getName() + ":" + context.getPofSerializer(typeId).getClass().getName());
+        }
+        return "cacheConfigHash=" + Integer.toHexString(cacheConfig.toString().hashCode()) + " pofTypes=" + types;
+    }
+
+    /**
+     * Create the POF context and force it to initialize its user type registry
+     * and serializers.
+     *
+     * @return the initialized POF context
+     */
+    private static ConfigurablePofContext createPofContext() {
+        ConfigurablePofContext context = new ConfigurablePofContext();
+        context.setContextClassLoader(PrebuiltConfiguration.class.getClassLoader());
+        // resolving a user type forces the context to load its configuration,
+        // then resolving each serializer creates the serializer instances
+        for (Class<?> type : USER_TYPES) {
+            context.getPofSerializer(context.getUserTypeIdentifier(type));
+        }
+        return context;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 18/10/2026, 10:07, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.config;
+
+import org.graalvm.nativeimage.hosted.Feature;
+import org.graalvm.nativeimage.hosted.RuntimeClassInitialization;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A GraalVM native image {@link Feature} that initializes the
+ * {@link PrebuiltConfiguration} at image build time.
+ * <p>
+ * The cache configuration is parsed and the POF context is created during the image build,
+ * so the parsed XML, the POF type registry and the serializers are stored in the image heap
+ * instead of being created every time the server starts.
+ * <p>
+ * Only the classes of the objects that are actually reachable from the prebuilt configuration
+ * are initialized at build time, rather than whole Coherence packages, so the rest of
+ * Coherence keeps its default runtime initialization.
+ */
+public class PrebuiltConfigurationFeature implements Feature {
+
+    /**
+     * The prefixes of the classes whose fields are followed to find the reachable objects.
+     */
+    private static final String[] PREFIXES = {"com.tangosol.", "com.oracle.coherence."};
+
+    @Override
+    public String getDescription() {
+        return "Initializes the Coherence cache configuration and POF context at image build time";
+    }
+
+    @Override
+    public void afterRegistration(AfterRegistrationAccess access) {
+        RuntimeClassInitialization.initializeAtBuildTime(PrebuiltConfiguration.class);
+        // the classes of the objects stored in the image heap must also be initialized at build time
+        for (Class<?> type : reachableClasses(PrebuiltConfiguration.cacheConfig(),
+                PrebuiltConfiguration.pofContext()).values()) {
+            RuntimeClassInitialization.initializeAtBuildTime(type);
+        }
+    }
+
+    @Override
+    public void beforeAnalysis(BeforeAnalysisAccess access) {
+        // make sure the configuration is loaded before the image heap is built
+        PrebuiltConfiguration.cacheConfig();
+        PrebuiltConfiguration.pofContext();
+    }
+
+    /**
+     * Returns the Coherence and application classes of the objects reachable from the roots.
+     * <p>
+     * The fields of the Coherence and application objects are followed, as are the elements
+     * of arrays, collections and maps. Other JDK objects are not followed, as their classes
+     * are initialized at build time by default.
+     *
+     * @param roots  the roots
+     *
+     * @return the reachable classes, by name
+     */
+    static Map<String, Class<?>> reachableClasses(Object... roots) {
+        Map<String, Class<?>> classes = new TreeMap<>();
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        for (Object root : roots) {
+            push(pending, root);
+        }
+
+        while (!pending.isEmpty()) {
+            Object value = pending.pop();
+            if (value instanceof Class<?> || !visited.add(value)) {
+                continue;
+            }
+            Class<?> type = value.getClass();
+            if (type.isArray()) {
+                if (!type.getComponentType().isPrimitive()) {
+                    for (int i = 0; i < Array.getLength(value); i++) {
+                        push(pending, Array.get(value, i));
+                    }
+                }
+            } else if (isFollowed(type)) {
+                for (Class<?> c = type; c != null && isFollowed(c); c = c.getSuperclass()) {
+                    if (!c.isHidden()) {
+                        classes.put(c.getName(), c);
+                    }
+                    for (Field field : c.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                            push(pending, read(field, value));
+                        }
+                    }
+                }
+            } else if (value instanceof Collection<?> collection) {
+                collection.forEach(e -> push(pending, e));
+            } else if (value instanceof Map<?, ?> map) {
+                map.forEach((k, v) -> {
+                    push(pending, k);
+                    push(pending, v);
+                });
+            }
+        }
+        return classes;
+    }
+
+    private static void push(Deque<Object> pending, Object value) {
+        if (value != null) {
+            pending.push(value);
+        }
+    }
+
+    private static boolean isFollowed(Class<?> type) {
+        for (String prefix : PREFIXES) {
+            if (type.getName().startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object read(Field field, Object target) {
+        try {
+            field.setAccessible(true);
+            return field.get(target);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Cannot read " + field + " of the prebuilt configuration", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 18/10/2026, 10:14, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.memory;
+
+import com.oracle.coherence.common.base.Logger;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+
+/**
+ * The memory settings of the running process.
+ * <p>
+ * The native image variants built by the {@code gc-variants} profile size their
+ * heap as a percentage of the available memory, which for a container is the
+ * container memory limit. The settings are logged at startup as a single structured
+ * log line so that the heap size actually used by a variant can be checked.
+ */
+public final class MemorySettings {
+
+    /**
+     * The prefix of the structured log line written by {@link #log()}.
+     */
+    public static final String LOG_PREFIX = "NativeMemory:";
+
+    /**
+     * The cgroup v2 memory limit file.
+     */
+    private static final Path CGROUP_V2_LIMIT = Path.of("/sys/fs/cgroup/memory.max");
+
+    /**
+     * The cgroup v1 memory limit file.
+     */
+    private static final Path CGROUP_V1_LIMIT = Path.of("/sys/fs/cgroup/memory/memory.limit_in_bytes");
+
+    /**
+     * The value used by cgroup v1 to mean there is no limit is any value
+     * close to {@link Long#MAX_VALUE}, so treat anything above this as unlimited.
+     */
+    private static final long CGROUP_V1_UNLIMITED = Long.MAX_VALUE / 2;
+
+    private MemorySettings() {
+    }
+
+    /**
+     * Returns the container memory limit.
+     *
+     * @return the container memory limit in bytes, or {@code -1} if there is no limit
+     *         or the process is not running in a container
+     */
+    public static long containerLimitBytes() {
+        long limit = readLimit(CGROUP_V2_LIMIT);
+        if (limit < 0) {
+            limit = readLimit(CGROUP_V1_LIMIT);
+        }
+        return limit >= CGROUP_V1_UNLIMITED ? -1 : limit;
+    }
+
+    /**
+     * Returns the maximum heap size of the process.
+     *
+     * @return the maximum heap size of the process in bytes
+     */
+    public static long maxHeapBytes() {
+        return Runtime.getRuntime().maxMemory();
+    }
+
+    /**
+     * Returns the names of the garbage collectors used by the process.
+     *
+     * @return the comma separated names of the garbage collectors, or an empty
+     *         string if there are none, as is the case for Epsilon GC
+     */
+    public static String garbageCollectors() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .map(GarbageCollectorMXBean::getName)
+                .map(name -> name.replace(' ', '_'))
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Returns the memory settings as a structured log line.
+     *
+     * @return the memory settings as a structured log line
+     */
+    public static String toLogLine() {
+        return LOG_PREFIX
+                + " gc=" + garbageCollectors()
+                + " maxHeapBytes=" + maxHeapBytes()
+                + " containerLimitBytes=" + containerLimitBytes()
+                + " processors=" + Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Log the memory settings.
+     */
+    public static void log() {
+        Logger.info(toLogLine());
+    }
+
+    private static long readLimit(Path path) {
+        if (!Files.isReadable(path)) {
+            return -1;
+        }
+        try {
+            String value = Files.readString(path).trim();
+            return "max".equals(value) ? -1 : Long.parseLong(value);
+        } catch (IOException | NumberFormatException e) {
+            return -1;
+        }
+    }
+}
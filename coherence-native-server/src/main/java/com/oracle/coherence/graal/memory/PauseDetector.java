@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 18/10/2026, 10:14, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.memory;
+
+import com.oracle.coherence.common.base.Logger;
+import com.oracle.coherence.graal.metrics.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects process wide pauses, such as garbage collection pauses, by sleeping for
+ * a short interval and recording how much longer than the interval the sleep took.
+ * <p>
+ * This works the same way for every garbage collector and for both a JVM and a
+ * native image, so the pause percentiles of the different native image variants
+ * can be compared. The pauses are recorded in a {@link LatencyHistogram}, like the
+ * cache operation latencies, and the percentiles are logged periodically as a single
+ * structured log line.
+ * <p>
+ * The detector is enabled by setting the {@code coherence.pause.detector} system property
+ * to {@code true}. Only pauses of at least {@code coherence.pause.detector.threshold.millis}
+ * (default {@code 1}) are recorded and the percentiles are logged every
+ * {@code coherence.pause.detector.report.seconds} (default {@code 10}).
+ */
+public class PauseDetector implements Runnable {
+
+    /**
+     * The prefix of the structured log line written with the pause percentiles.
+     */
+    public static final String LOG_PREFIX = "NativePauses:";
+
+    /**
+     * The system property to enable the detector.
+     */
+    public static final String PROP_ENABLED = "coherence.pause.detector";
+
+    /**
+     * The system property to set the shortest pause that is recorded.
+     */
+    public static final String PROP_THRESHOLD = "coherence.pause.detector.threshold.millis";
+
+    /**
+     * The system property to set how often the percentiles are logged.
+     */
+    public static final String PROP_REPORT = "coherence.pause.detector.report.seconds";
+
+    /**
+     * The interval the detector thread sleeps for.
+     */
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * The recorded pauses.
+     */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * The shortest pause that is recorded.
+     */
+    private final long thresholdMillis;
+
+    /**
+     * How often the percentiles are logged.
+     */
+    private final long reportNanos;
+
+    /**
+     * Create a {@link PauseDetector}.
+     *
+     * @param thresholdMillis  the shortest pause that is recorded
+     * @param reportSeconds    how often the percentiles are logged
+     */
+    public PauseDetector(long thresholdMillis, long reportSeconds) {
+        this.thresholdMillis = thresholdMillis;
+        this.reportNanos = TimeUnit.SECONDS.toNanos(reportSeconds);
+    }
+
+    /**
+     * Start a detector on a daemon thread if it is enabled using the
+     * {@link #PROP_ENABLED} system property.
+     */
+    public static void startIfEnabled() {
+        if (Boolean.getBoolean(PROP_ENABLED)) {
+            PauseDetector detector = new PauseDetector(Long.getLong(PROP_THRESHOLD, 1L),
+                    Long.getLong(PROP_REPORT, 10L));
+            Thread thread = new Thread(detector, "PauseDetector");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    @Override
+    public void run() {
+        long nextReport = System.nanoTime() + reportNanos;
+        while (!Thread.currentThread().isInterrupted()) {
+            long start = System.nanoTime();
+            try {
+                TimeUnit.NANOSECONDS.sleep(INTERVAL_NANOS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long end = System.nanoTime();
+            long pauseNanos = end - start - INTERVAL_NANOS;
+            if (TimeUnit.NANOSECONDS.toMillis(pauseNanos) >= thresholdMillis) {
+                histogram.record(pauseNanos);
+            }
+            if (end - nextReport >= 0) {
+                Logger.info(toLogLine());
+                nextReport = end + reportNanos;
+            }
+        }
+    }
+
+    /**
+     * Returns the pause percentiles as a structured log line.
+     *
+     * @return the pause percentiles as a structured log line
+     */
+    public String toLogLine() {
+        return LOG_PREFIX
+                + " count=" + histogram.getTotalCount()
+                + " p50Millis=" + millisAtPercentile(50.0d)
+                + " p99Millis=" + millisAtPercentile(99.0d)
+                + " p999Millis=" + millisAtPercentile(99.9d)
+                + " maxMillis=" + TimeUnit.NANOSECONDS.toMillis(histogram.getMaxNanos());
+    }
+
+    /**
+     * Returns the pause duration at a percentile.
+     *
+     * @param percentile  the percentile, between {@code 0} and {@code 100}
+     *
+     * @return the pause duration at the percentile in milliseconds
+     */
+    private long millisAtPercentile(double percentile) {
+        return TimeUnit.NANOSECONDS.toMillis(histogram.getValueAtPercentile(percentile));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 18/10/2026, 10:25, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.metrics;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The latency histograms of each operation on each cache of this member.
+ * <p>
+ * The histograms are recorded by:
+ * <ul>
+ *     <li>{@link InstrumentedLocalCache} - the backing map gets, puts, removes and event dispatch</li>
+ *     <li>{@link TimedProcessor} - the execution of an entry processor wrapped using {@link #timed(String, InvocableMap.EntryProcessor)}</li>
+ *     <li>{@link TimedAggregator} - the partial aggregation of an aggregator wrapped using {@link #timed(String, InvocableMap.StreamingAggregator)}</li>
+ *     <li>{@link TimedFilter} - the index phase of a query using a filter wrapped using {@link #timed(String, Filter)}</li>
+ * </ul>
+ * Entry processors, aggregators and queries are only recorded when the client
+ * wraps them, so the histograms of an operation only cover the requests that
+ * were wrapped. The histograms are published in the Prometheus text format by
+ * the {@link MetricsEndpoint}.
+ */
+public final class CacheMetrics {
+
+    /**
+     * The name of the published metric.
+     */
+    public static final String METRIC_NAME = "coherence_native_cache_latency_seconds";
+
+    /**
+     * The quantiles that are published.
+     */
+    private static final double[] QUANTILES = {0.5d, 0.9d, 0.99d, 0.999d};
+
+    /**
+     * The singleton instance.
+     */
+    private static final CacheMetrics INSTANCE = new CacheMetrics();
+
+    /**
+     * The histograms of each operation, indexed by {@link CacheOperation#ordinal()}, for each cache.
+     */
+    private final Map<String, LatencyHistogram[]> caches = new ConcurrentHashMap<>();
+
+    private CacheMetrics() {
+    }
+
+    /**
+     * Returns the {@link CacheMetrics} of this member.
+     *
+     * @return the {@link CacheMetrics} of this member
+     */
+    public static CacheMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the histogram of an operation on a cache.
+     * <p>
+     * This only allocates the first time a cache is used.
+     *
+     * @param cacheName  the name of the cache
+     * @param operation  the operation
+     *
+     * @return the histogram of the operation on the cache
+     */
+    public LatencyHistogram histogram(String cacheName, CacheOperation operation) {
+        LatencyHistogram[] histograms = caches.get(cacheName);
+        if (histograms == null) {
+            histograms = caches.computeIfAbsent(cacheName, name -> create());
+        }
+        return histograms[operation.ordinal()];
+    }
+
+    /**
+     * Wrap an entry processor so that its execution on each member is recorded.
+     *
+     * @param cacheName  the name of the cache the processor runs against
+     * @param processor  the processor to wrap
+     * @param <K>        the type of the cache keys
+     * @param <V>        the type of the cache values
+     * @param <R>        the type of the result
+     *
+     * @return the wrapped processor
+     */
+    public static <K, V, R> InvocableMap.EntryProcessor<K, V, R> timed(String cacheName,
+            InvocableMap.EntryProcessor<K, V, R> processor) {
+        return new TimedProcessor<>(cacheName, processor);
+    }
+
+    /**
+     * Wrap an aggregator so that the partial aggregation on each member is recorded.
+     *
+     * @param cacheName   the name of the cache the aggregator runs against
+     * @param aggregator  the aggregator to wrap
+     * @param <K>         the type of the cache keys
+     * @param <V>         the type of the cache values
+     * @param <P>         the type of the partial result
+     * @param <R>         the type of the result
+     *
+     * @return the wrapped aggregator
+     */
+    public static <K, V, P, R> InvocableMap.StreamingAggregator<K, V, P, R> timed(String cacheName,
+            InvocableMap.StreamingAggregator<K, V, P, R> aggregator) {
+        return new TimedAggregator<>(cacheName, aggregator);
+    }
+
+    /**
+     * Wrap a filter so that the index phase of a query on each member is recorded.
+     *
+     * @param cacheName  the name of the cache the query runs against
+     * @param filter     the filter to wrap
+     * @param <T>        the type of the filtered values
+     *
+     * @return the wrapped filter
+     */
+    public static <T> Filter<T> timed(String cacheName, Filter<T> filter) {
+        return new TimedFilter<>(cacheName, filter);
+    }
+
+    /**
+     * Write the histograms in the Prometheus text format.
+     *
+     * @param out  the builder to write to
+     */
+    public void writePrometheus(StringBuilder out) {
+        out.append("# HELP ").append(METRIC_NAME).append(" The latency of cache operations on this member.\n");
+        out.append("# TYPE ").append(METRIC_NAME).append(" summary\n");
+
+        for (Map.Entry<String, LatencyHistogram[]> entry : new TreeMap<>(caches).entrySet()) {
+            String cache = escape(entry.getKey());
+            for (CacheOperation operation : CacheOperation.values()) {
+                LatencyHistogram histogram = entry.getValue()[operation.ordinal()];
+                if (histogram.getTotalCount() == 0) {
+                    continue;
+                }
+                String labels = "cache=\"" + cache + "\",operation=\"" + operation.label() + "\"";
+                for (double quantile : QUANTILES) {
+                    out.append(METRIC_NAME).append('{').append(labels)
+                            .append(",quantile=\"").append(quantile).append("\"} ")
+                            .append(histogram.getSecondsAtPercentile(quantile * 100.0d)).append('\n');
+                }
+                out.append(METRIC_NAME).append("_sum{").append(labels).append("} ")
+                        .append(histogram.getTotalNanos() / 1_000_000_000.0d).append('\n');
+                out.append(METRIC_NAME).append("_count{").append(labels).append("} ")
+                        .append(histogram.getTotalCount()).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Discard all the histograms.
+     */
+    public void clear() {
+        caches.clear();
+    }
+
+    private static LatencyHistogram[] create() {
+        LatencyHistogram[] histograms = new LatencyHistogram[CacheOperation.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 18/10/2026, 10:25, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.metrics;
+
+/**
+ * The cache operations that {@link CacheMetrics} records latencies for.
+ */
+public enum CacheOperation {
+    /**
+     * A get from the backing map, including the gets of a getAll.
+     */
+    GET("get"),
+
+    /**
+     * A put into the backing map, including the puts of a putAll.
+     */
+    PUT("put"),
+
+    /**
+     * A remove from the backing map.
+     */
+    REMOVE("remove"),
+
+    /**
+     * The execution on a member of an entry processor wrapped using {@link CacheMetrics#timed}.
+     */
+    INVOKE("invoke"),
+
+    /**
+     * The partial aggregation on a member of an aggregator wrapped using {@link CacheMetrics#timed}.
+     */
+    AGGREGATE("aggregate"),
+
+    /**
+     * The index phase of a query using a filter wrapped using {@link CacheMetrics#timed}.
+     */
+    QUERY("query"),
+
+    /**
+     * The dispatch of a backing map event to the listeners of the backing map.
+     */
+    LISTENER("listener");
+
+    /**
+     * The name of the operation used in the metric labels.
+     */
+    private final String label;
+
+    CacheOperation(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the name of the operation used in the metric labels.
+     *
+     * @return the name of the operation used in the metric labels
+     */
+    public String label() {
+        return label;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 18/10/2026, 10:25, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.metrics;
+
+import com.tangosol.net.cache.LocalCache;
+import com.tangosol.util.MapEvent;
+
+/**
+ * A {@link LocalCache} backing map that records the latency of gets, puts,
+ * removes and the dispatch of backing map events in {@link CacheMetrics}.
+ * <p>
+ * The cache is configured as the {@code class-name} of a {@code local-scheme}
+ * with the {@code {cache-name}} macro as its only parameter.
+ */
+public class InstrumentedLocalCache extends LocalCache {
+
+    /**
+     * The histogram of gets.
+     */
+    private final LatencyHistogram gets;
+
+    /**
+     * The histogram of puts.
+     */
+    private final LatencyHistogram puts;
+
+    /**
+     * The histogram of removes.
+     */
+    private final LatencyHistogram removes;
+
+    /**
+     * The histogram of event dispatch.
+     */
+    private final LatencyHistogram listeners;
+
+    /**
+     * Create an {@link InstrumentedLocalCache}.
+     *
+     * @param cacheName  the name of the cache the backing map belongs to
+     */
+    public InstrumentedLocalCache(String cacheName) {
+        CacheMetrics metrics = CacheMetrics.get();
+        gets = metrics.histogram(cacheName, CacheOperation.GET);
+        puts = metrics.histogram(cacheName, CacheOperation.PUT);
+        removes = metrics.histogram(cacheName, CacheOperation.REMOVE);
+        listeners = metrics.histogram(cacheName, CacheOperation.LISTENER);
+    }
+
+    @Override
+    public Object get(Object key) {
+        long start = System.nanoTime();
+        try {
+            return super.get(key);
+        } finally {
+            gets.recordSince(start);
+        }
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        long start = System.nanoTime();
+        try {
+            return super.put(key, value);
+        } finally {
+            puts.recordSince(start);
+        }
+    }
+
+    @Override
+    public Object put(Object key, Object value, long expiryMillis) {
+        long start = System.nanoTime();
+        try {
+            return super.put(key, value, expiryMillis);
+        } finally {
+            puts.recordSince(start);
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        long start = System.nanoTime();
+        try {
+            return super.remove(key);
+        } finally {
+            removes.recordSince(start);
+        }
+    }
+
+    @Override
+    protected void dispatchEvent(MapEvent event) {
+        long start = System.nanoTime();
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            listeners.recordSince(start);
+        }
+    }
+}
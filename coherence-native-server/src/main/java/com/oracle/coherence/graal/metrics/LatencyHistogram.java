@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 18/10/2026, 10:25, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread safe, allocation-free histogram of latencies in nanoseconds.
+ * <p>
+ * Values are counted in log-linear buckets: each power of two range is split into
+ * {@value #SUB_BUCKET_COUNT} linear sub-buckets, so a percentile is accurate to within
+ * about 6%. Recording a value only updates atomic counters, so it can be called
+ * on the cache service worker threads without allocating.
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of bits used for the linear sub-buckets.
+     */
+    static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The number of linear sub-buckets in each power of two range.
+     */
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The highest power of two that is tracked, latencies of {@code 2^36} nanoseconds
+     * (about 68 seconds) or more are counted in the last bucket.
+     */
+    static final int MAX_EXPONENT = 36;
+
+    /**
+     * The highest value that is tracked.
+     */
+    static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    /**
+     * The number of buckets.
+     */
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    /**
+     * The count of values in each bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * The total number of recorded values.
+     */
+    private final AtomicLong totalCount = new AtomicLong();
+
+    /**
+     * The sum of the recorded values.
+     */
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    /**
+     * The highest recorded value.
+     */
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos  the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(0L, nanos), MAX_VALUE);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(value);
+
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Record the latency since a start time.
+     *
+     * @param startNanos  the start time from {@link System#nanoTime()}
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the total number of recorded values.
+     *
+     * @return the total number of recorded values
+     */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the sum of the recorded values.
+     *
+     * @return the sum of the recorded values in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    /**
+     * Returns the highest recorded value.
+     *
+     * @return the highest recorded value in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the value at a percentile, which is the upper bound of the bucket
+     * holding the value, or the highest recorded value if that is lower.
+     *
+     * @param percentile  the percentile, between {@code 0} and {@code 100}
+     *
+     * @return the value at the percentile in nanoseconds, or {@code 0}
+     *         if no values have been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1L, (long) Math.ceil(total * Math.min(percentile, 100.0d) / 100.0d));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= target) {
+                return Math.min(bucketUpperBound(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Returns the value at a percentile in seconds.
+     *
+     * @param percentile  the percentile, between {@code 0} and {@code 100}
+     *
+     * @return the value at the percentile in seconds
+     */
+    public double getSecondsAtPercentile(double percentile) {
+        return getValueAtPercentile(percentile) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * Returns the index of the bucket holding a value.
+     *
+     * @param value  the value
+     *
+     * @return the index of the bucket holding the value
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the highest value held by a bucket.
+     *
+     * @param index  the index of the bucket
+     *
+     * @return the highest value held by the bucket
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int exponent = offset / SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+        long subBucket = offset % SUB_BUCKET_COUNT;
+        long lower = (1L << exponent) | (subBucket << (exponent - SUB_BUCKET_BITS));
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 18/10/2026, 10:25, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.metrics;
+
+import com.oracle.coherence.common.base.Logger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A minimal HTTP endpoint that publishes the {@link CacheMetrics} in the
+ * Prometheus text format on the {@code /metrics} path.
+ * <p>
+ * The endpoint uses the JDK HTTP server, so it works in a native image without
+ * any additional dependencies. It is enabled by setting the
+ * {@code coherence.native.metrics.enabled} system property to {@code true}
+ * and listens on the port set by the {@code coherence.native.metrics.port}
+ * system property (default {@code 9613}).
+ * <p>
+ * The backing map operations and listener dispatch are recorded for every
+ * request. The {@code invoke}, {@code aggregate} and {@code query} operations
+ * are only recorded for the entry processors, aggregators and filters that
+ * the client wraps using {@link CacheMetrics#timed}, so they do not cover
+ * the requests of clients that do not wrap them.
+ */
+public class MetricsEndpoint implements AutoCloseable {
+
+    /**
+     * The system property to enable the endpoint.
+     */
+    public static final String PROP_ENABLED = "coherence.native.metrics.enabled";
+
+    /**
+     * The system property to set the port of the endpoint.
+     */
+    public static final String PROP_PORT = "coherence.native.metrics.port";
+
+    /**
+     * The system property to set the address of the endpoint.
+     */
+    public static final String PROP_ADDRESS = "coherence.native.metrics.address";
+
+    /**
+     * The default port of the endpoint, next to the default Coherence metrics port.
+     */
+    public static final int DEFAULT_PORT = 9613;
+
+    /**
+     * The path the metrics are published on.
+     */
+    public static final String PATH = "/metrics";
+
+    /**
+     * The content type of the Prometheus text format.
+     */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * The HTTP server.
+     */
+    private final HttpServer server;
+
+    private MetricsEndpoint(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Start an endpoint.
+     *
+     * @param address  the address to listen on, use port zero for an ephemeral port
+     *
+     * @return the started endpoint
+     */
+    public static MetricsEndpoint start(InetSocketAddress address) {
+        try {
+            HttpServer server = HttpServer.create(address, 0);
+            server.createContext(PATH, MetricsEndpoint::handle);
+            server.start();
+            Logger.info("Native cache metrics published on http://" + address.getHostString() + ":"
+                    + server.getAddress().getPort() + PATH);
+            return new MetricsEndpoint(server);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the metrics endpoint on " + address, e);
+        }
+    }
+
+    /**
+     * Start an endpoint if it is enabled using the {@link #PROP_ENABLED} system property.
+     *
+     * @return the started endpoint, or {@code null} if the endpoint is not enabled
+     */
+    public static MetricsEndpoint startIfEnabled() {
+        if (!Boolean.getBoolean(PROP_ENABLED)) {
+            return null;
+        }
+        String address = System.getProperty(PROP_ADDRESS, "0.0.0.0");
+        int port = Integer.getInteger(PROP_PORT, DEFAULT_PORT);
+        return start(new InetSocketAddress(address, port));
+    }
+
+    /**
+     * Returns the port the endpoint is listening on.
+     *
+     * @return the port the endpoint is listening on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            StringBuilder builder = new StringBuilder();
+            CacheMetrics.get().writePrometheus(builder);
+            byte[] body = builder.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
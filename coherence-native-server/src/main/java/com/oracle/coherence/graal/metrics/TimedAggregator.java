@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 18/10/2026, 10:25, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.metrics;
+
+import com.tangosol.io.pof.schema.annotation.PortableType;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.Streamer;
+
+import java.io.Serializable;
+
+/**
+ * A {@link InvocableMap.StreamingAggregator} that records the time each member takes
+ * to calculate its partial result in {@link CacheMetrics}.
+ * <p>
+ * The time is measured from the first entry accumulated on the member to the
+ * partial result being returned.
+ *
+ * @param <K>  the type of the cache keys
+ * @param <V>  the type of the cache values
+ * @param <P>  the type of the partial result
+ * @param <R>  the type of the result
+ */
+@PortableType(id = 1020)
+public class TimedAggregator<K, V, P, R> implements InvocableMap.StreamingAggregator<K, V, P, R>, Serializable {
+
+    /**
+     * The name of the cache the aggregator runs against.
+     */
+    private String cacheName;
+
+    /**
+     * The wrapped aggregator.
+     */
+    private InvocableMap.StreamingAggregator<K, V, P, R> aggregator;
+
+    /**
+     * The time the first entry was accumulated.
+     */
+    private transient long startNanos;
+
+    /**
+     * Required for serialization.
+     */
+    public TimedAggregator() {
+    }
+
+    /**
+     * Create a {@link TimedAggregator}.
+     *
+     * @param cacheName   the name of the cache the aggregator runs against
+     * @param aggregator  the aggregator to wrap
+     */
+    public TimedAggregator(String cacheName, InvocableMap.StreamingAggregator<K, V, P, R> aggregator) {
+        this.cacheName = cacheName;
+        this.aggregator = aggregator;
+    }
+
+    @Override
+    public InvocableMap.StreamingAggregator<K, V, P, R> supply() {
+        return new TimedAggregator<>(cacheName, aggregator.supply());
+    }
+
+    @Override
+    public boolean accumulate(Streamer<? extends InvocableMap.Entry<? extends K, ? extends V>> streamer) {
+        start();
+        return aggregator.accumulate(streamer);
+    }
+
+    @Override
+    public boolean accumulate(InvocableMap.Entry<? extends K, ? extends V> entry) {
+        start();
+        return aggregator.accumulate(entry);
+    }
+
+    @Override
+    public boolean combine(P partialResult) {
+        return aggregator.combine(partialResult);
+    }
+
+    @Override
+    public P getPartialResult() {
+        P result = aggregator.getPartialResult();
+        if (startNanos != 0) {
+            CacheMetrics.get().histogram(cacheName, CacheOperation.AGGREGATE).recordSince(startNanos);
+            startNanos = 0;
+        }
+        return result;
+    }
+
+    @Override
+    public R finalizeResult() {
+        return aggregator.finalizeResult();
+    }
+
+    @Override
+    public int characteristics() {
+        return aggregator.characteristics();
+    }
+
+    private void start() {
+        if (startNanos == 0) {
+            startNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 18/10/2026, 10:25, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.metrics;
+
+import com.tangosol.io.pof.schema.annotation.PortableType;
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMapHelper;
+import com.tangosol.util.filter.EntryFilter;
+import com.tangosol.util.filter.ExtractorFilter;
+import com.tangosol.util.filter.IndexAwareFilter;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link Filter} that records the time each member takes to apply the indexes
+ * of a query in {@link CacheMetrics}.
+ * <p>
+ * Only the index phase is recorded, as there is no callback when a member has
+ * finished evaluating the entries that the indexes could not resolve. For a query
+ * that is fully resolved by indexes this is the whole of the query on the member.
+ *
+ * @param <T>  the type of the filtered values
+ */
+@PortableType(id = 1021)
+public class TimedFilter<T> implements EntryFilter<Object, T>, IndexAwareFilter<Object, T>, Serializable {
+
+    /**
+     * The name of the cache the query runs against.
+     */
+    private String cacheName;
+
+    /**
+     * The wrapped filter.
+     */
+    private Filter<T> filter;
+
+    /**
+     * Required for serialization.
+     */
+    public TimedFilter() {
+    }
+
+    /**
+     * Create a {@link TimedFilter}.
+     *
+     * @param cacheName  the name of the cache the query runs against
+     * @param filter     the filter to wrap
+     */
+    public TimedFilter(String cacheName, Filter<T> filter) {
+        this.cacheName = cacheName;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean evaluate(T value) {
+        return filter.evaluate(value);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean evaluateEntry(Map.Entry entry) {
+        return InvocableMapHelper.evaluateEntry(filter, entry);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public int calculateEffectiveness(Map mapIndexes, Set setKeys) {
+        return filter instanceof IndexAwareFilter indexAware
+                ? indexAware.calculateEffectiveness(mapIndexes, setKeys)
+                : ExtractorFilter.calculateIteratorEffectiveness(setKeys.size());
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Filter applyIndex(Map mapIndexes, Set setKeys) {
+        long start = System.nanoTime();
+        try {
+            return filter instanceof IndexAwareFilter indexAware
+                    ? indexAware.applyIndex(mapIndexes, setKeys)
+                    : filter;
+        } finally {
+            CacheMetrics.get().histogram(cacheName, CacheOperation.QUERY).recordSince(start);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 18/10/2026, 11:24, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.metrics;
+
+import com.tangosol.io.pof.schema.annotation.PortableType;
+import com.tangosol.util.InvocableMap;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link InvocableMap.EntryProcessor} that records the time each member takes
+ * to execute the wrapped processor in {@link CacheMetrics}.
+ * <p>
+ * The time is measured around the call to the wrapped processor on the member,
+ * so it is recorded once for a single entry and once for each set of entries
+ * that the member processes together.
+ *
+ * @param <K>  the type of the cache keys
+ * @param <V>  the type of the cache values
+ * @param <R>  the type of the result
+ */
+@PortableType(id = 1022)
+public class TimedProcessor<K, V, R> implements InvocableMap.EntryProcessor<K, V, R>, Serializable {
+
+    /**
+     * The name of the cache the processor runs against.
+     */
+    private String cacheName;
+
+    /**
+     * The wrapped processor.
+     */
+    private InvocableMap.EntryProcessor<K, V, R> processor;
+
+    /**
+     * Required for serialization.
+     */
+    public TimedProcessor() {
+    }
+
+    /**
+     * Create a {@link TimedProcessor}.
+     *
+     * @param cacheName  the name of the cache the processor runs against
+     * @param processor  the processor to wrap
+     */
+    public TimedProcessor(String cacheName, InvocableMap.EntryProcessor<K, V, R> processor) {
+        this.cacheName = cacheName;
+        this.processor = processor;
+    }
+
+    @Override
+    public R process(InvocableMap.Entry<K, V> entry) {
+        long start = System.nanoTime();
+        try {
+            return processor.process(entry);
+        } finally {
+            CacheMetrics.get().histogram(cacheName, CacheOperation.INVOKE).recordSince(start);
+        }
+    }
+
+    @Override
+    public Map<K, R> processAll(Set<? extends InvocableMap.Entry<K, V>> setEntries) {
+        long start = System.nanoTime();
+        try {
+            return processor.processAll(setEntries);
+        } finally {
+            CacheMetrics.get().histogram(cacheName, CacheOperation.INVOKE).recordSince(start);
+        }
+    }
+}
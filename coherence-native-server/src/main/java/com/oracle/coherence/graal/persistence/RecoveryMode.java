@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 18/10/2026, 10:46, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.persistence;
+
+import com.oracle.coherence.common.base.Logger;
+
+import java.io.File;
+
+/**
+ * How the members of a {@code Server} recover the partitions of the caches
+ * that use active persistence, the {@code persistent-*} caches.
+ * <p>
+ * Persistence is opt-in. The persistent service only starts with the server, and the
+ * recovery mode is only applied, when the {@code coherence.native.persistence.enabled}
+ * system property is {@code true} or a recovery mode is set.
+ * <p>
+ * The mode is set using the {@code coherence.native.persistence.recovery} system
+ * property, either {@code parallel} (the default), {@code sequential} or {@code mapped}.
+ * The partitions of a service are recovered by the workers of the service, so the
+ * mode sets the size of the worker pool of the persistent service:
+ * <ul>
+ *     <li>{@code sequential} - a single worker recovers one partition at a time</li>
+ *     <li>{@code parallel} - one worker per core recovers partitions in parallel</li>
+ *     <li>{@code mapped} - recovers in parallel from a store on a memory backed file
+ *     system, {@code /dev/shm} by default, so the store pages are served from memory</li>
+ * </ul>
+ * The persistence base directory is set using the {@code coherence.native.persistence.dir}
+ * system property. An explicit {@code coherence.distributed.persistence.base.dir} or
+ * worker pool setting is left unchanged.
+ */
+public enum RecoveryMode {
+
+    /**
+     * Recover one partition at a time.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Recover partitions in parallel from a store on a memory backed file system.
+     */
+    MAPPED,
+
+    /**
+     * Recover partitions in parallel.
+     */
+    PARALLEL;
+
+    /**
+     * The prefix of the structured log lines written about persistence.
+     */
+    public static final String LOG_PREFIX = "NativePersistence:";
+
+    /**
+     * The system property to enable persistence, which is also enabled by setting a recovery mode.
+     */
+    public static final String PROP_ENABLED = "coherence.native.persistence.enabled";
+
+    /**
+     * The system property to set the recovery mode.
+     */
+    public static final String PROP_MODE = "coherence.native.persistence.recovery";
+
+    /**
+     * The system property to set the persistence base directory.
+     */
+    public static final String PROP_DIR = "coherence.native.persistence.dir";
+
+    /**
+     * The Coherence system property that sets the persistence base directory.
+     */
+    public static final String PROP_BASE_DIR = "coherence.distributed.persistence.base.dir";
+
+    /**
+     * The system property that sets the maximum size of the persistent service worker pool.
+     */
+    public static final String PROP_THREADS_MAX = "coherence.distributed.persistent.threads.max";
+
+    /**
+     * The system property that sets the minimum size of the persistent service worker pool.
+     */
+    public static final String PROP_THREADS_MIN = "coherence.distributed.persistent.threads.min";
+
+    /**
+     * The memory backed file system used by the {@link #MAPPED} mode.
+     */
+    public static final File SHARED_MEMORY = new File("/dev/shm");
+
+    /**
+     * Returns the recovery mode set using the {@link #PROP_MODE} system property.
+     *
+     * @return the recovery mode
+     *
+     * @throws IllegalArgumentException if the property is not a valid mode
+     */
+    public static RecoveryMode current() {
+        return RecoveryMode.valueOf(System.getProperty(PROP_MODE, PARALLEL.name()).trim().toUpperCase());
+    }
+
+    /**
+     * Returns {@code true} if persistence is enabled, either explicitly using the
+     * {@link #PROP_ENABLED} system property or by setting the {@link #PROP_MODE}
+     * system property.
+     *
+     * @return {@code true} if persistence is enabled
+     */
+    public static boolean isEnabled() {
+        String enabled = System.getProperty(PROP_ENABLED);
+        return enabled == null ? System.getProperty(PROP_MODE) != null : Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * Returns the number of workers used to recover partitions.
+     *
+     * @return the number of workers used to recover partitions
+     */
+    public int workers() {
+        return this == SEQUENTIAL ? 1 : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns the persistence base directory to use in this mode.
+     *
+     * @return the persistence base directory, or {@code null} to use the Coherence default
+     */
+    public String baseDirectory() {
+        String dir = System.getProperty(PROP_DIR);
+        if (dir != null && !dir.isBlank()) {
+            return dir;
+        }
+        if (this == MAPPED) {
+            File root = SHARED_MEMORY.isDirectory() ? SHARED_MEMORY : new File(System.getProperty("java.io.tmpdir"));
+            return new File(root, "coherence-persistence").getAbsolutePath();
+        }
+        return null;
+    }
+
+    /**
+     * Configure Coherence to use the current recovery mode and log it, if
+     * persistence {@link #isEnabled() is enabled}.
+     * <p>
+     * This must be called before any Coherence service starts.
+     *
+     * @return the recovery mode, or {@code null} if persistence is not enabled
+     */
+    public static RecoveryMode configure() {
+        if (!isEnabled()) {
+            return null;
+        }
+        // start the persistent service with the server when it was enabled by setting the mode
+        System.setProperty(PROP_ENABLED, "true");
+        RecoveryMode mode = current();
+        String dir = mode.baseDirectory();
+        if (dir != null && System.getProperty(PROP_BASE_DIR) == null) {
+            System.setProperty(PROP_BASE_DIR, dir);
+        }
+        String workers = String.valueOf(mode.workers());
+        if (System.getProperty(PROP_THREADS_MAX) == null) {
+            System.setProperty(PROP_THREADS_MAX, workers);
+        }
+        if (System.getProperty(PROP_THREADS_MIN) == null) {
+            // start the pool at its full size, rather than growing it during recovery
+            System.setProperty(PROP_THREADS_MIN, System.getProperty(PROP_THREADS_MAX));
+        }
+        Logger.info(LOG_PREFIX + " recovery=" + mode.name().toLowerCase()
+                + " dir=" + System.getProperty(PROP_BASE_DIR, "default")
+                + " threads=" + System.getProperty(PROP_THREADS_MAX));
+        return mode;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 18/10/2026, 10:46, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.persistence;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.net.Cluster;
+import com.tangosol.net.management.MBeanServerProxy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Creates, recovers and removes the snapshots of a persistent service using
+ * the persistence coordinator MBean of the service.
+ * <p>
+ * A snapshot is written to the snapshot directory under the persistence base
+ * directory of each storage member, so it is a copy of the data on local disk
+ * that can be recovered after the active store is lost or the data is damaged.
+ * The service is suspended while a snapshot is created or recovered.
+ * <pre>
+ * Snapshots snapshots = Snapshots.of(cluster, "DistributedCachePersistent");
+ * snapshots.create("before-upgrade");
+ * ...
+ * snapshots.recover("before-upgrade");
+ * </pre>
+ */
+public class Snapshots {
+
+    /**
+     * The default time to wait for a snapshot operation to complete.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(5);
+
+    /**
+     * The proxy used to invoke the persistence coordinator MBean.
+     */
+    private final MBeanServerProxy proxy;
+
+    /**
+     * The name of the persistence coordinator MBean of the service.
+     */
+    private final String mbeanName;
+
+    /**
+     * The name of the service.
+     */
+    private final String serviceName;
+
+    /**
+     * How long to wait for an operation to complete.
+     */
+    private final Duration timeout;
+
+    private Snapshots(MBeanServerProxy proxy, String serviceName, Duration timeout) {
+        this.proxy = proxy;
+        this.serviceName = serviceName;
+        this.mbeanName = "Coherence:type=Persistence,service=" + serviceName
+                + ",responsibility=PersistenceCoordinator";
+        this.timeout = timeout;
+    }
+
+    /**
+     * Create a {@link Snapshots} for a service.
+     *
+     * @param cluster      the cluster the service is running in
+     * @param serviceName  the name of the persistent service
+     *
+     * @return the {@link Snapshots} of the service
+     */
+    public static Snapshots of(Cluster cluster, String serviceName) {
+        return of(cluster, serviceName, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Create a {@link Snapshots} for a service.
+     *
+     * @param cluster      the cluster the service is running in
+     * @param serviceName  the name of the persistent service
+     * @param timeout      how long to wait for an operation to complete
+     *
+     * @return the {@link Snapshots} of the service
+     */
+    public static Snapshots of(Cluster cluster, String serviceName, Duration timeout) {
+        return new Snapshots(cluster.getManagement().getMBeanServerProxy(), serviceName, timeout);
+    }
+
+    /**
+     * Create a snapshot and wait for it to complete.
+     *
+     * @param name  the name of the snapshot
+     *
+     * @return the time taken to create the snapshot
+     *
+     * @throws TimeoutException if the snapshot does not complete within the timeout
+     */
+    public Duration create(String name) throws TimeoutException {
+        return run("createSnapshot", name, () -> list().contains(name));
+    }
+
+    /**
+     * Recover a snapshot, replacing the data of the service, and wait for it to complete.
+     *
+     * @param name  the name of the snapshot
+     *
+     * @return the time taken to recover the snapshot
+     *
+     * @throws TimeoutException if the recovery does not complete within the timeout
+     */
+    public Duration recover(String name) throws TimeoutException {
+        return run("recoverSnapshot", name, () -> true);
+    }
+
+    /**
+     * Remove a snapshot and wait for it to complete.
+     *
+     * @param name  the name of the snapshot
+     *
+     * @throws TimeoutException if the removal does not complete within the timeout
+     */
+    public void remove(String name) throws TimeoutException {
+        run("removeSnapshot", name, () -> !list().contains(name));
+    }
+
+    /**
+     * Returns the names of the snapshots of the service.
+     *
+     * @return the names of the snapshots of the service
+     */
+    public List<String> list() {
+        return proxy.getAttribute(mbeanName, "Snapshots") instanceof String[] names ? List.of(names) : List.of();
+    }
+
+    /**
+     * Returns {@code true} if the service is not running a persistence operation.
+     *
+     * @return {@code true} if the service is not running a persistence operation
+     */
+    public boolean isIdle() {
+        return Boolean.TRUE.equals(proxy.getAttribute(mbeanName, "Idle"));
+    }
+
+    /**
+     * Invoke an operation of the persistence coordinator and wait for the service to be idle.
+     * <p>
+     * The operations run asynchronously, so the service may still report that it is idle
+     * just after an operation is invoked. The outcome of the operation is also checked
+     * where it can be observed.
+     *
+     * @param operation  the name of the operation
+     * @param name       the name of the snapshot
+     * @param completed  returns {@code true} once the outcome of the operation is visible
+     *
+     * @return the time taken by the operation
+     *
+     * @throws TimeoutException if the operation does not complete within the timeout
+     */
+    private Duration run(String operation, String name, BooleanSupplier completed) throws TimeoutException {
+        long start = System.nanoTime();
+        await(this::isIdle, start);
+        proxy.invoke(mbeanName, operation, new Object[]{name}, new String[]{String.class.getName()});
+        await(() -> isIdle() && completed.getAsBoolean(), start);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        Logger.info(RecoveryMode.LOG_PREFIX + " operation=" + operation + " service=" + serviceName
+                + " snapshot=" + name + " elapsedMillis=" + elapsed.toMillis());
+        return elapsed;
+    }
+
+    private void await(BooleanSupplier condition, long start) throws TimeoutException {
+        long deadline = start + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("Persistence operations of service " + serviceName
+                        + " did not complete within " + timeout);
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for service " + serviceName, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 18/10/2026, 10:40, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.query;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.QueryRecord;
+import com.tangosol.util.aggregator.QueryRecorder;
+import com.tangosol.util.stream.RemoteStream;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Shows how a query is evaluated, so that a query that scans every entry
+ * instead of using an index can be found before it reaches production.
+ * A full scan deserializes every entry, which costs even more in a native
+ * member that runs without a JIT.
+ * <p>
+ * {@link #explain(NamedCache, Filter)} returns the query plan, with the index
+ * each step of the filter uses, and {@link #trace(NamedCache, Filter)} also runs
+ * the query and returns the number of entries and the time of each step.
+ * {@link #unindexed(QueryRecord)} lists the extractors of a plan that have no index.
+ * <p>
+ * The {@link #values(NamedCache, Filter)} and {@link #stream(NamedCache, Filter)}
+ * methods run a query like the cache methods of the same name. When the
+ * {@value #PROP_RECORD} system property is set to {@code explain} or {@code trace},
+ * they first log the plan or the trace of the query with a {@value #LOG_PREFIX}
+ * prefix, at warning level if any extractor of the query has no index.
+ */
+public final class QueryExplainer {
+
+    /**
+     * The system property to log the plan or trace of the queries run by this class.
+     */
+    public static final String PROP_RECORD = "coherence.native.query.record";
+
+    /**
+     * The prefix of the query log lines.
+     */
+    public static final String LOG_PREFIX = "NativeQuery:";
+
+    /**
+     * The index description of an extractor that has no index.
+     */
+    private static final String NO_INDEX = "No index found";
+
+    private QueryExplainer() {
+    }
+
+    /**
+     * Returns the plan of a query, without running it.
+     *
+     * @param cache   the cache to query
+     * @param filter  the query filter
+     *
+     * @return the plan of the query
+     */
+    public static QueryRecord explain(NamedCache<?, ?> cache, Filter<?> filter) {
+        return record(cache, filter, QueryRecorder.RecordType.EXPLAIN);
+    }
+
+    /**
+     * Runs a query and returns the trace of its evaluation.
+     *
+     * @param cache   the cache to query
+     * @param filter  the query filter
+     *
+     * @return the trace of the query
+     */
+    public static QueryRecord trace(NamedCache<?, ?> cache, Filter<?> filter) {
+        return record(cache, filter, QueryRecorder.RecordType.TRACE);
+    }
+
+    /**
+     * Returns the descriptions of the extractors in a query plan or trace that have no index.
+     *
+     * @param record  the query plan or trace
+     *
+     * @return the descriptions of the extractors that have no index, empty if the query is fully indexed
+     */
+    public static List<String> unindexed(QueryRecord record) {
+        List<String> unindexed = new ArrayList<>();
+        for (QueryRecord.PartialResult result : record.getResults()) {
+            for (QueryRecord.PartialResult.Step step : result.getSteps()) {
+                collectUnindexed(step, unindexed);
+            }
+        }
+        return unindexed;
+    }
+
+    /**
+     * Returns {@code true} if every extractor of a query has an index.
+     *
+     * @param cache   the cache to query
+     * @param filter  the query filter
+     *
+     * @return {@code true} if every extractor of the query has an index
+     */
+    public static boolean isIndexed(NamedCache<?, ?> cache, Filter<?> filter) {
+        return unindexed(explain(cache, filter)).isEmpty();
+    }
+
+    /**
+     * Run a query and return the matching values, logging the query first
+     * if the {@value #PROP_RECORD} system property is set.
+     *
+     * @param cache   the cache to query
+     * @param filter  the query filter
+     * @param <K>     the type of the cache keys
+     * @param <V>     the type of the cache values
+     *
+     * @return the matching values
+     */
+    public static <K, V> Collection<V> values(NamedCache<K, V> cache, Filter<?> filter) {
+        log(cache, filter);
+        return cache.values(filter);
+    }
+
+    /**
+     * Returns a stream of the entries matching a query, logging the query first
+     * if the {@value #PROP_RECORD} system property is set.
+     *
+     * @param cache   the cache to query
+     * @param filter  the query filter
+     * @param <K>     the type of the cache keys
+     * @param <V>     the type of the cache values
+     *
+     * @return a stream of the matching entries
+     */
+    public static <K, V> RemoteStream<InvocableMap.Entry<K, V>> stream(NamedCache<K, V> cache, Filter<?> filter) {
+        log(cache, filter);
+        return cache.stream(filter);
+    }
+
+    /**
+     * Returns a log line describing a query plan or trace.
+     *
+     * @param cacheName  the name of the queried cache
+     * @param filter     the query filter
+     * @param record     the query plan or trace
+     *
+     * @return a log line describing the query plan or trace
+     */
+    public static String toLogLine(String cacheName, Filter<?> filter, QueryRecord record) {
+        return LOG_PREFIX + " cache=" + cacheName
+                + " type=" + record.getType().name().toLowerCase()
+                + " unindexed=" + unindexed(record)
+                + " filter=" + filter
+                + "\n" + record;
+    }
+
+    private static QueryRecord record(NamedCache<?, ?> cache, Filter<?> filter, QueryRecorder.RecordType type) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        QueryRecord record = (QueryRecord) cache.aggregate((Filter) filter, new QueryRecorder<>(type));
+        return record;
+    }
+
+    private static void log(NamedCache<?, ?> cache, Filter<?> filter) {
+        String type = System.getProperty(PROP_RECORD);
+        if (type == null || type.isBlank()) {
+            return;
+        }
+        QueryRecord record = "trace".equalsIgnoreCase(type.trim()) ? trace(cache, filter) : explain(cache, filter);
+        String line = toLogLine(cache.getCacheName(), filter, record);
+        if (unindexed(record).isEmpty()) {
+            Logger.info(line);
+        } else {
+            Logger.warn(line);
+        }
+    }
+
+    private static void collectUnindexed(QueryRecord.PartialResult.Step step, List<String> unindexed) {
+        for (QueryRecord.PartialResult.IndexLookupRecord lookup : step.getIndexLookupRecords()) {
+            String index = lookup.getIndexDescription();
+            if ((index == null || index.startsWith(NO_INDEX)) && !unindexed.contains(lookup.getExtractorDescription())) {
+                unindexed.add(lookup.getExtractorDescription());
+            }
+        }
+        for (QueryRecord.PartialResult.Step child : step.getSteps()) {
+            collectUnindexed(child, unindexed);
+        }
+    }
+}
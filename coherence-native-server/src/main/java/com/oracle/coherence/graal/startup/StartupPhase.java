@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 18/10/2026, 10:06, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.startup;
+
+/**
+ * A phase reached during server startup.
+ */
+public class StartupPhase implements StartupPhaseMBean {
+
+    private final String phase;
+
+    private final String service;
+
+    private final long elapsedMillis;
+
+    private final long timestamp;
+
+    /**
+     * Create a {@link StartupPhase}.
+     *
+     * @param phase          the name of the phase
+     * @param service        the service the phase applies to, or an empty string
+     * @param elapsedMillis  the milliseconds from process start to the phase
+     * @param timestamp      the wall clock time the phase was reached
+     */
+    public StartupPhase(String phase, String service, long elapsedMillis, long timestamp) {
+        this.phase = phase;
+        this.service = service;
+        this.elapsedMillis = elapsedMillis;
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public String getPhase() {
+        return phase;
+    }
+
+    @Override
+    public String getService() {
+        return service;
+    }
+
+    @Override
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns this phase as a single structured log line.
+     *
+     * @return this phase as a single structured log line
+     */
+    public String toLogLine() {
+        return StartupTimeline.LOG_PREFIX
+                + " phase=" + phase
+                + " service=" + service
+                + " elapsedMillis=" + elapsedMillis
+                + " timestamp=" + timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "StartupPhase{" +
+                "phase='" + phase + '\'' +
+                ", service='" + service + '\'' +
+                ", elapsedMillis=" + elapsedMillis +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 18/10/2026, 10:06, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.startup;
+
+import com.tangosol.net.management.annotation.Description;
+import com.tangosol.net.management.annotation.MetricsScope;
+import com.tangosol.net.management.annotation.MetricsTag;
+import com.tangosol.net.management.annotation.MetricsValue;
+
+/**
+ * The MBean interface for a single phase of the {@link StartupTimeline}.
+ * <p>
+ * The annotations on this interface cause Coherence to publish each
+ * phase as a metric when Coherence metrics are enabled.
+ */
+@Description("A phase of the native server startup timeline")
+@MetricsScope(MetricsScope.VENDOR)
+public interface StartupPhaseMBean {
+
+    /**
+     * Returns the name of the phase.
+     *
+     * @return the name of the phase
+     */
+    @Description("The name of the startup phase")
+    @MetricsTag("phase")
+    String getPhase();
+
+    /**
+     * Returns the name of the service the phase applies to,
+     * or an empty string if the phase is not service specific.
+     *
+     * @return the name of the service the phase applies to
+     */
+    @Description("The service the startup phase applies to")
+    @MetricsTag("service")
+    String getService();
+
+    /**
+     * Returns the number of milliseconds from process start to the phase.
+     *
+     * @return the number of milliseconds from process start to the phase
+     */
+    @Description("The elapsed milliseconds from process start to the startup phase")
+    @MetricsValue("ElapsedMillis")
+    long getElapsedMillis();
+
+    /**
+     * Returns the wall clock time the phase was reached,
+     * in milliseconds since the epoch.
+     *
+     * @return the wall clock time the phase was reached
+     */
+    @Description("The time the startup phase was reached in milliseconds since the epoch")
+    long getTimestamp();
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 18/10/2026, 10:06, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.startup;
+
+import com.oracle.coherence.common.base.Logger;
+import com.tangosol.net.management.Registry;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the timeline of a server starting, from process start through to
+ * the first request being served.
+ * <p>
+ * Each phase is recorded once, logged as a single structured log line starting
+ * with {@link #LOG_PREFIX} and registered as an MBean so that it is also
+ * published as a Coherence metric.
+ */
+public final class StartupTimeline {
+
+    /**
+     * The prefix of the structured log line written for each phase.
+     */
+    public static final String LOG_PREFIX = "NativeStartup:";
+
+    /**
+     * The phase for the operating system process start.
+     */
+    public static final String PHASE_PROCESS_START = "process-start";
+
+    /**
+     * The phase for entry to the server main method.
+     */
+    public static final String PHASE_MAIN = "main";
+
+    /**
+     * The phase for joining the cluster.
+     */
+    public static final String PHASE_CLUSTER_JOIN = "cluster-join";
+
+    /**
+     * The phase for a partitioned service owning partitions on this member.
+     */
+    public static final String PHASE_PARTITION_OWNERSHIP = "partition-ownership";
+
+    /**
+     * The phase for the first cache request served by this member.
+     */
+    public static final String PHASE_FIRST_REQUEST = "first-request";
+
+    /**
+     * The MBean type used to register the phases.
+     */
+    public static final String MBEAN_TYPE = "type=NativeStartup";
+
+    /**
+     * The singleton timeline.
+     */
+    private static final StartupTimeline INSTANCE = new StartupTimeline();
+
+    /**
+     * The recorded phases keyed by phase and service name.
+     */
+    private final Map<String, StartupPhase> phases = new ConcurrentHashMap<>();
+
+    /**
+     * The time the process started.
+     */
+    private volatile Instant processStart;
+
+    /**
+     * The registry to register phase MBeans with, once the cluster has started.
+     */
+    private volatile Registry registry;
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Returns the singleton {@link StartupTimeline}.
+     *
+     * @return the singleton {@link StartupTimeline}
+     */
+    public static StartupTimeline get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start the timeline, recording the process start and main method phases.
+     * <p>
+     * The timeline only records further phases once it has been started, so
+     * other processes that share the cache configuration do not record one.
+     */
+    public void start() {
+        Instant now = Instant.now();
+        processStart = ProcessHandle.current().info().startInstant().orElse(now);
+        record(PHASE_PROCESS_START, "", processStart);
+        record(PHASE_MAIN, "", now);
+    }
+
+    /**
+     * Returns {@code true} if the timeline has been started.
+     *
+     * @return {@code true} if the timeline has been started
+     */
+    public boolean isStarted() {
+        return processStart != null;
+    }
+
+    /**
+     * Record a phase, if it has not already been recorded.
+     *
+     * @param phase    the name of the phase
+     * @param service  the service the phase applies to, or an empty string
+     * @param at       the time the phase was reached
+     *
+     * @return {@code true} if the phase was recorded, or {@code false}
+     *         if the timeline is not started or the phase was already recorded
+     */
+    public boolean record(String phase, String service, Instant at) {
+        Instant start = processStart;
+        if (start == null) {
+            return false;
+        }
+
+        long elapsed = Math.max(0L, at.toEpochMilli() - start.toEpochMilli());
+        StartupPhase startupPhase = new StartupPhase(phase, service, elapsed, at.toEpochMilli());
+        if (phases.putIfAbsent(key(phase, service), startupPhase) != null) {
+            return false;
+        }
+
+        Logger.info(startupPhase.toLogLine());
+
+        Registry current = registry;
+        if (current != null) {
+            register(current, startupPhase);
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the phase has been recorded.
+     *
+     * @param phase    the name of the phase
+     * @param service  the service the phase applies to, or an empty string
+     *
+     * @return {@code true} if the phase has been recorded
+     */
+    public boolean isRecorded(String phase, String service) {
+        return phases.containsKey(key(phase, service));
+    }
+
+    /**
+     * Returns the recorded phases.
+     *
+     * @return the recorded phases
+     */
+    public Collection<StartupPhase> getPhases() {
+        return new ArrayList<>(phases.values());
+    }
+
+    /**
+     * Register the recorded phases, and any phases recorded later, as MBeans.
+     *
+     * @param registry  the management registry
+     */
+    public void registerMBeans(Registry registry) {
+        this.registry = registry;
+        for (StartupPhase phase : phases.values()) {
+            register(registry, phase);
+        }
+    }
+
+    private void register(Registry registry, StartupPhase phase) {
+        String name = MBEAN_TYPE + ",phase=" + phase.getPhase();
+        if (!phase.getService().isEmpty()) {
+            name = name + ",service=" + phase.getService();
+        }
+        registry.register(registry.ensureGlobalName(name), phase);
+    }
+
+    private static String key(String phase, String service) {
+        return phase + '/' + service;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 18/10/2026, 10:06, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.startup;
+
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.Cluster;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.Member;
+import com.tangosol.net.PartitionedService;
+import com.tangosol.net.Service;
+import com.tangosol.net.events.Event;
+import com.tangosol.net.events.EventInterceptor;
+import com.tangosol.net.events.InterceptorRegistry;
+import com.tangosol.net.events.annotation.Interceptor;
+import com.tangosol.net.events.application.LifecycleEvent;
+import com.tangosol.net.events.partition.cache.EntryEvent;
+import com.tangosol.net.events.partition.cache.EntryProcessorEvent;
+import com.tangosol.net.partition.PartitionEvent;
+import com.tangosol.net.partition.PartitionListener;
+
+import java.time.Instant;
+import java.util.Enumeration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An {@link EventInterceptor} configured in the cache configuration that
+ * records the {@link StartupTimeline} phases that happen after the cache
+ * factory has been activated.
+ */
+public class StartupTimelineInterceptor implements EventInterceptor<LifecycleEvent> {
+
+    @Override
+    public void onEvent(LifecycleEvent event) {
+        StartupTimeline timeline = StartupTimeline.get();
+        if (event.getType() != LifecycleEvent.Type.ACTIVATED || !timeline.isStarted()) {
+            return;
+        }
+
+        Cluster cluster = CacheFactory.getCluster();
+        Member member = cluster.getLocalMember();
+        timeline.record(StartupTimeline.PHASE_CLUSTER_JOIN, "", Instant.ofEpochMilli(member.getTimestamp()));
+        timeline.registerMBeans(cluster.getManagement());
+
+        Enumeration<String> serviceNames = cluster.getServiceNames();
+        while (serviceNames.hasMoreElements()) {
+            Service service = cluster.getService(serviceNames.nextElement());
+            if (service instanceof PartitionedService partitionedService) {
+                OwnershipListener listener = new OwnershipListener(partitionedService);
+                partitionedService.addPartitionListener(listener);
+                listener.checkOwnership();
+            }
+        }
+
+        ConfigurableCacheFactory ccf = event.getConfigurableCacheFactory();
+        InterceptorRegistry registry = ccf.getInterceptorRegistry();
+        registry.registerEventInterceptor(new FirstRequestInterceptor(registry));
+    }
+
+    /**
+     * A {@link PartitionListener} that records the partition ownership phase
+     * when the local member first owns partitions of a service.
+     */
+    static class OwnershipListener implements PartitionListener {
+
+        private final PartitionedService service;
+
+        OwnershipListener(PartitionedService service) {
+            this.service = service;
+        }
+
+        @Override
+        public void onPartitionEvent(PartitionEvent event) {
+            checkOwnership();
+        }
+
+        /**
+         * Record the partition ownership phase if the local member owns partitions.
+         */
+        void checkOwnership() {
+            String name = service.getInfo().getServiceName();
+            if (StartupTimeline.get().isRecorded(StartupTimeline.PHASE_PARTITION_OWNERSHIP, name)) {
+                return;
+            }
+
+            Member member = service.getCluster().getLocalMember();
+            if (service.getOwnedPartitions(member).cardinality() > 0) {
+                StartupTimeline.get().record(StartupTimeline.PHASE_PARTITION_OWNERSHIP, name, Instant.now());
+                service.removePartitionListener(this);
+            }
+        }
+    }
+
+    /**
+     * An {@link EventInterceptor} that records the first request phase
+     * when an entry is first mutated, or an entry processor first executed,
+     * on this member. Creating a cache is not counted, as a cache is created
+     * on every storage member whether or not it has served a request. Reads and aggregations do not raise
+     * partitioned cache events, so they are not seen.
+     * <p>
+     * The entry events are dispatched synchronously before each mutation is
+     * committed, so the interceptor unregisters itself once the phase has been
+     * recorded, to keep the cost off the write path for the life of the member.
+     */
+    @Interceptor(identifier = FirstRequestInterceptor.IDENTIFIER,
+            entryEvents = {EntryEvent.Type.INSERTING, EntryEvent.Type.UPDATING, EntryEvent.Type.REMOVING},
+            entryProcessorEvents = EntryProcessorEvent.Type.EXECUTING)
+    static class FirstRequestInterceptor implements EventInterceptor<Event<?>> {
+
+        /**
+         * The identifier the interceptor is registered with.
+         */
+        static final String IDENTIFIER = "NativeStartupFirstRequest";
+
+        private final InterceptorRegistry registry;
+
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        FirstRequestInterceptor(InterceptorRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public void onEvent(Event<?> event) {
+            if (recorded.compareAndSet(false, true)) {
+                StartupTimeline.get().record(StartupTimeline.PHASE_FIRST_REQUEST, "", Instant.now());
+                // unregister off the event dispatch thread, which is a service thread
+                Thread.ofVirtual()
+                        .name("NativeStartupFirstRequest-unregister")
+                        .start(() -> registry.unregisterEventInterceptor(IDENTIFIER));
+            }
+        }
+    }
+}
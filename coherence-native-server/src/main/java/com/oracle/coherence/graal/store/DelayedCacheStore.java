@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 18/10/2026, 10:30, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.store;
+
+import com.oracle.coherence.graal.workers.WorkerMode;
+import com.tangosol.net.cache.CacheStore;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link CacheStore} that simulates a blocking database by sleeping for a
+ * fixed time on every operation, keeping the stored entries in memory.
+ * <p>
+ * Values that were never stored are loaded as {@code "value-<key>"}, so every
+ * key can be read through. The latency is set using the
+ * {@code coherence.native.store.latency.millis} system property (default {@code 5}).
+ * <p>
+ * The stores created by {@link #create(String)}, which the cache configuration
+ * uses for the {@code store-*} caches, are the same whatever the {@link WorkerMode},
+ * so that platform and virtual workers can be compared. They run the entries of
+ * their bulk operations concurrently on virtual threads, using a
+ * {@link VirtualThreadCacheStore}, when the {@code coherence.native.store.parallel}
+ * system property is {@code true}.
+ */
+public class DelayedCacheStore implements CacheStore<Object, Object> {
+
+    /**
+     * The system property to set the latency of each operation.
+     */
+    public static final String PROP_LATENCY = "coherence.native.store.latency.millis";
+
+    /**
+     * The system property to run the entries of bulk operations concurrently.
+     */
+    public static final String PROP_PARALLEL = "coherence.native.store.parallel";
+
+    /**
+     * The stored entries by cache name, shared by all the stores of a member.
+     */
+    private static final Map<String, Map<Object, Object>> DATABASE = new ConcurrentHashMap<>();
+
+    /**
+     * The stored entries of this store's cache.
+     */
+    private final Map<Object, Object> table;
+
+    /**
+     * The latency of each operation.
+     */
+    private final long latencyMillis;
+
+    /**
+     * Create a {@link DelayedCacheStore}.
+     *
+     * @param cacheName      the name of the cache
+     * @param latencyMillis  the latency of each operation
+     */
+    public DelayedCacheStore(String cacheName, long latencyMillis) {
+        this.table = DATABASE.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+        this.latencyMillis = latencyMillis;
+    }
+
+    /**
+     * Create the cache store for a cache, using the latency set by the
+     * {@link #PROP_LATENCY} system property, wrapped in a {@link VirtualThreadCacheStore}
+     * if the {@link #PROP_PARALLEL} system property is {@code true}.
+     *
+     * @param cacheName  the name of the cache
+     *
+     * @return the cache store for the cache
+     */
+    public static CacheStore<Object, Object> create(String cacheName) {
+        CacheStore<Object, Object> store = new DelayedCacheStore(cacheName, Long.getLong(PROP_LATENCY, 5L));
+        return Boolean.getBoolean(PROP_PARALLEL) ? new VirtualThreadCacheStore<>(store) : store;
+    }
+
+    @Override
+    public Object load(Object key) {
+        delay();
+        Object value = table.get(key);
+        return value == null ? "value-" + key : value;
+    }
+
+    @Override
+    public void store(Object key, Object value) {
+        delay();
+        table.put(key, value);
+    }
+
+    @Override
+    public void erase(Object key) {
+        delay();
+        table.remove(key);
+    }
+
+    private void delay() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted in the cache store", e);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 18/10/2026, 10:30, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.store;
+
+import com.tangosol.net.cache.CacheStore;
+import com.tangosol.util.Disposable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A {@link CacheStore} that runs the entries of the bulk operations of
+ * another {@link CacheStore} concurrently, each on its own virtual thread.
+ * <p>
+ * When the underlying store blocks on I/O for each entry, a {@code loadAll}
+ * or {@code storeAll} of a whole partition then takes about as long as a
+ * single entry, and the waiting virtual threads do not pin platform threads.
+ * Single entry operations are passed straight through.
+ * <p>
+ * The number of entries in flight across all the bulk operations of the store is
+ * bounded, so that a large bulk operation cannot overwhelm the underlying resource.
+ * The virtual threads belong to the store and are stopped when it is disposed.
+ *
+ * @param <K>  the type of the keys
+ * @param <V>  the type of the values
+ */
+public class VirtualThreadCacheStore<K, V> implements CacheStore<K, V>, Disposable, AutoCloseable {
+
+    /**
+     * The default maximum number of entries in flight.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+    /**
+     * The underlying store.
+     */
+    private final CacheStore<K, V> delegate;
+
+    /**
+     * The executor that runs each entry of a bulk operation on a new virtual thread.
+     */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * The permits for the entries in flight.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Create a {@link VirtualThreadCacheStore} with the {@link #DEFAULT_MAX_CONCURRENCY}.
+     *
+     * @param delegate  the underlying store
+     */
+    public VirtualThreadCacheStore(CacheStore<K, V> delegate) {
+        this(delegate, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Create a {@link VirtualThreadCacheStore}.
+     *
+     * @param delegate        the underlying store
+     * @param maxConcurrency  the maximum number of entries in flight
+     */
+    public VirtualThreadCacheStore(CacheStore<K, V> delegate, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1");
+        }
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    @Override
+    public V load(K key) {
+        return delegate.load(key);
+    }
+
+    @Override
+    public Map<K, V> loadAll(Collection<? extends K> keys) {
+        Map<K, Future<V>> futures = new HashMap<>();
+        for (K key : keys) {
+            futures.put(key, submit(() -> delegate.load(key)));
+        }
+        Map<K, V> result = new HashMap<>();
+        for (Map.Entry<K, Future<V>> entry : futures.entrySet()) {
+            V value = await(entry.getValue());
+            if (value != null) {
+                result.put(entry.getKey(), value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void store(K key, V value) {
+        delegate.store(key, value);
+    }
+
+    @Override
+    public void storeAll(Map<? extends K, ? extends V> entries) {
+        Map<K, Future<?>> futures = new HashMap<>();
+        for (Map.Entry<? extends K, ? extends V> entry : entries.entrySet()) {
+            K key = entry.getKey();
+            V value = entry.getValue();
+            futures.put(key, submit(() -> {
+                delegate.store(key, value);
+                return null;
+            }));
+        }
+        completeAll(futures, entries.keySet());
+    }
+
+    @Override
+    public void erase(K key) {
+        delegate.erase(key);
+    }
+
+    @Override
+    public void eraseAll(Collection<? extends K> keys) {
+        Map<K, Future<?>> futures = new HashMap<>();
+        for (K key : keys) {
+            futures.put(key, submit(() -> {
+                delegate.erase(key);
+                return null;
+            }));
+        }
+        completeAll(futures, keys);
+    }
+
+    /**
+     * Stop the virtual threads of the store. Bulk operations fail once the store
+     * has been disposed.
+     */
+    @Override
+    public void dispose() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void close() {
+        dispose();
+    }
+
+    /**
+     * Submit an operation on an entry once a permit is available.
+     *
+     * @param operation  the operation
+     * @param <T>        the result type of the operation
+     *
+     * @return the future result of the operation
+     */
+    private <T> Future<T> submit(Callable<T> operation) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting to run a cache store operation", e);
+        }
+        try {
+            return executor.submit(() -> {
+                try {
+                    return operation.call();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for all the operations of a bulk store or erase to complete.
+     * <p>
+     * If any operation fails the keys of the operations that succeeded are
+     * removed from the collection passed to the bulk operation, as required
+     * by the {@link CacheStore} contract, and the first failure is thrown.
+     *
+     * @param futures  the operations by key
+     * @param keys     the keys passed to the bulk operation
+     */
+    private void completeAll(Map<K, Future<?>> futures, Collection<?> keys) {
+        List<K> succeeded = new ArrayList<>();
+        RuntimeException failure = null;
+        for (Map.Entry<K, Future<?>> entry : futures.entrySet()) {
+            try {
+                await(entry.getValue());
+                succeeded.add(entry.getKey());
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            try {
+                keys.removeAll(succeeded);
+            } catch (UnsupportedOperationException e) {
+                // the collection is read-only, so the whole operation is retried
+            }
+            throw failure;
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a cache store operation", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Cache store operation failed", cause);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 18/10/2026, 10:30, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.workers;
+
+import com.oracle.coherence.common.base.Logger;
+
+/**
+ * The kind of threads the distributed services of a {@code Server} use to
+ * run requests such as entry processors and cache store operations.
+ * <p>
+ * The mode is set using the {@code coherence.native.workers} system property,
+ * either {@code platform} (the default) or {@code virtual}. With virtual
+ * workers a request that blocks, for example a cache store waiting for a
+ * database, unmounts its carrier thread instead of pinning a platform thread,
+ * so a service can have many more requests in flight than it has cores.
+ * <p>
+ * The size of each worker pool is still bounded by the {@code thread-count-min}
+ * and {@code thread-count-max} settings of the service in the cache configuration.
+ */
+public enum WorkerMode {
+
+    /**
+     * Run requests on platform threads.
+     */
+    PLATFORM,
+
+    /**
+     * Run requests on virtual threads.
+     */
+    VIRTUAL;
+
+    /**
+     * The prefix of the structured log line written with the worker mode.
+     */
+    public static final String LOG_PREFIX = "NativeWorkers:";
+
+    /**
+     * The system property to set the worker mode.
+     */
+    public static final String PROP_MODE = "coherence.native.workers";
+
+    /**
+     * The Coherence system property that enables virtual threads for service workers.
+     */
+    public static final String PROP_VIRTUAL_THREADS = "coherence.virtualthreads.enabled";
+
+    /**
+     * Returns the worker mode set using the {@link #PROP_MODE} system property.
+     *
+     * @return the worker mode
+     *
+     * @throws IllegalArgumentException if the property is not a valid mode
+     */
+    public static WorkerMode current() {
+        return WorkerMode.valueOf(System.getProperty(PROP_MODE, PLATFORM.name()).trim().toUpperCase());
+    }
+
+    /**
+     * Configure Coherence to use the current worker mode and log it.
+     * <p>
+     * This must be called before any Coherence service starts. Coherence is only
+     * configured when the mode is set using the {@link #PROP_MODE} system property,
+     * otherwise its own default is used, and an explicit {@link #PROP_VIRTUAL_THREADS}
+     * setting is always left unchanged.
+     *
+     * @return the worker mode
+     */
+    public static WorkerMode configure() {
+        WorkerMode mode = current();
+        if (System.getProperty(PROP_MODE) != null && System.getProperty(PROP_VIRTUAL_THREADS) == null) {
+            System.setProperty(PROP_VIRTUAL_THREADS, String.valueOf(mode == VIRTUAL));
+        }
+        Logger.info(LOG_PREFIX + " mode=" + mode.name().toLowerCase()
+                + " virtualThreads=" + System.getProperty(PROP_VIRTUAL_THREADS, "default"));
+        return mode;
+    }
+}
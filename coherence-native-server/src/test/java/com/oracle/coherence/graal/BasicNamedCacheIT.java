@@ -7,39 +7,41 @@
 package com.oracle.coherence.graal;
 
 import com.oracle.bedrock.options.Timeout;
-import com.oracle.bedrock.runtime.LocalPlatform;
 import com.oracle.bedrock.runtime.java.ClassPath;
-import com.oracle.bedrock.runtime.java.options.ClassName;
-import com.oracle.bedrock.runtime.options.Arguments;
-import com.oracle.bedrock.runtime.options.DisplayName;
 import com.oracle.bedrock.testsupport.deferred.Eventually;
 import com.oracle.bedrock.testsupport.junit.TestLogsExtension;
 import com.oracle.coherence.graal.model.java.Country;
 
 import com.oracle.coherence.graal.model.pof.Address;
 import com.oracle.coherence.graal.model.pof.Customer;
-import com.oracle.coherence.graal.testing.NativeApplication;
+import com.oracle.coherence.graal.model.pof.CustomerLambdas;
+import com.oracle.coherence.graal.model.pof.CustomerPofExtractors;
+import com.oracle.coherence.graal.listener.BatchingMapListener;
+import com.oracle.coherence.graal.query.QueryExplainer;
+import com.oracle.coherence.graal.query.StreamingQuery;
+import com.oracle.coherence.graal.testing.NativeCluster;
+import com.oracle.coherence.graal.testing.NativeClusterExtension;
 
 import com.tangosol.internal.util.invoke.Lambdas;
-import com.tangosol.net.Cluster;
 import com.tangosol.net.Coherence;
 import com.tangosol.net.NamedCache;
-import com.tangosol.net.PartitionedService;
-import com.tangosol.net.Service;
 import com.tangosol.net.Session;
 
 import com.tangosol.util.Aggregators;
 import com.tangosol.util.Extractors;
+import com.tangosol.util.Filter;
 import com.tangosol.util.Filters;
+import com.tangosol.util.MapEvent;
 import com.tangosol.util.MapListener;
 import com.tangosol.util.Processors;
+import com.tangosol.util.QueryRecord;
 import com.tangosol.util.ValueExtractor;
 import com.tangosol.util.ValueUpdater;
 import com.tangosol.util.aggregator.DoubleSum;
 import com.tangosol.util.aggregator.GroupAggregator;
 import com.tangosol.util.function.Remote;
 import com.tangosol.util.listener.SimpleMapListener;
-import org.junit.jupiter.api.AfterAll;
+import com.tangosol.util.processor.ConditionalPut;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -48,9 +50,11 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 
 public class BasicNamedCacheIT {
 
@@ -69,19 +73,20 @@ public class BasicNamedCacheIT {
     static final String CLUSTER_NAME = "BasicNamedCacheIT";
 
     /**
-     * The Coherence instance started in this test JVM.
-     */
-    static Coherence coherence;
-
-    /**
-     * A Coherence server started by Bedrock.
+     * The cluster of two Coherence servers started by Bedrock, joined by this test JVM.
      */
-    static NativeApplication server1;
+    @RegisterExtension
+    static NativeClusterExtension cluster = new NativeClusterExtension(() -> NativeCluster.builder(CLUSTER_NAME)
+            .mainClass(Server.class)
+            .classPath(ClassPath.automatic().excluding(ClassPath.ofClass(BasicNamedCacheIT.class)))
+            .members(2)
+            .systemProperty("coherence.lambdas", "static")
+            .console(testLogs));
 
     /**
-     * A Coherence server started by Bedrock.
+     * The Coherence instance started in this test JVM.
      */
-    static NativeApplication server2;
+    static Coherence coherence;
 
     /**
      * A random generator to create random cache names.
@@ -95,70 +100,8 @@ public class BasicNamedCacheIT {
     final Map<String, NamedCache<?, ?>> caches = new HashMap<>();
 
     @BeforeAll
-    static void startCoherence() throws Exception {
-        String lambdas = "static";
-//        String lambdas = "dynamic";
-
-        System.setProperty("coherence.cluster", CLUSTER_NAME);
-        System.setProperty("coherence.wka", "127.0.0.1");
-        System.setProperty("coherence.localhost", "127.0.0.1");
-        System.setProperty("coherence.distributed.localstorage", "false");
-        System.setProperty("coherence.lambdas", lambdas);
-
-        // Start Coherence in this test JVM
-        coherence = Coherence.clusterMember().start().get(5, TimeUnit.MINUTES);
-
-        // Spawn two cluster members that will join the test JVM
-        LocalPlatform platform = LocalPlatform.get();
-
-        ClassPath cp = ClassPath.automatic().excluding(ClassPath.ofClass(BasicNamedCacheIT.class));
-
-        server1 = platform.launch(NativeApplication.class,
-                Arguments.of("-Djava.net.preferIPv4Stack=true",
-                        "-Dcoherence.lambdas=" + lambdas,
-                        "-Dcoherence.cluster=" + CLUSTER_NAME,
-                        "-Dcoherence.localhost=127.0.0.1",
-                        "-Dcoherence.wka=127.0.0.1"),
-                ClassName.of(Server.class),
-                cp,
-                DisplayName.of("server-1"),
-                testLogs);
-
-        server2 = platform.launch(NativeApplication.class,
-                Arguments.of("-Djava.net.preferIPv4Stack=true",
-                        "-Dcoherence.lambdas=" + lambdas,
-                        "-Dcoherence.cluster=" + CLUSTER_NAME,
-                        "-Dcoherence.localhost=127.0.0.1",
-                        "-Dcoherence.wka=127.0.0.1"),
-                ClassName.of(Server.class),
-                cp,
-                DisplayName.of("server-2"),
-                testLogs);
-
-        Cluster cluster = coherence.getCluster();
-        Eventually.assertDeferred(() -> cluster.getMemberSet().size(), is(3), Timeout.of(5, TimeUnit.MINUTES));
-
-        Enumeration<String> serviceNames = cluster.getServiceNames();
-        while (serviceNames.hasMoreElements()) {
-            String name = serviceNames.nextElement();
-            Service service = cluster.getService(name);
-            if (service instanceof PartitionedService) {
-                Eventually.assertDeferred(() -> ((PartitionedService) service).getOwnershipEnabledMembers().size(),
-                        is(2),
-                        Timeout.of(5, TimeUnit.MINUTES));
-            }
-        }
-    }
-
-    @AfterAll
-    static void shutdown() {
-        if (server1 != null) {
-            server1.close();
-        }
-        if (server2 != null) {
-            server2.close();
-        }
-        Coherence.closeAll();
+    static void startCoherence() {
+        coherence = cluster.getCluster().getCoherence();
     }
 
     @AfterEach
@@ -197,7 +140,6 @@ public class BasicNamedCacheIT {
 
         // add map listener
         final AtomicInteger insertCounter = new AtomicInteger();
-
         MapListener<Integer, Customer> listener = new SimpleMapListener<Integer, Customer>()
                 .addInsertHandler((e-> insertCounter.incrementAndGet()));
         customers.addMapListener(listener);
@@ -218,22 +160,182 @@ public class BasicNamedCacheIT {
         Eventually.assertDeferred(insertCounter::get, is(maxCustomers), Timeout.of(1, TimeUnit.MINUTES));
 
         // aggregate
-        // These do not work with static lambdas:
-        // Aggregators.sum(Customer::getBalance)
         DoubleSum<Customer> aggregator = new DoubleSum<>(ValueExtractor.of(Customer::getBalance));
         Map<String, Double> balanceByType = customers.aggregate(
                 GroupAggregator.createInstance(ValueExtractor.of(Customer::getCustomerType), aggregator));
         assertThat(balanceByType.isEmpty(), is(false));
 
-        // entry processor to update all balances for GOLD customers to 0
-        // This does not work with static lambdas:
-//        customers.invokeAll(Filters.equal(ValueExtractor.of(Customer::getCustomerType), GOLD), Processors.update(Customer::setBalance, 0.0d));
+        // method references are not remotable with static lambdas, so use the generated extractors and updaters
+        Double total = customers.aggregate(Aggregators.doubleSum(CustomerLambdas.balance()));
+        assertThat(total, is(notNullValue()));
+
+        // the queries below must be evaluated using the index instead of scanning every entry
+        Filter<Customer> goldFilter = Filters.equal(ValueExtractor.of(Customer::getCustomerType), GOLD);
+        Filter<Customer> silverFilter = Filters.equal(ValueExtractor.of(Customer::getCustomerType), SILVER);
+        assertThat(QueryExplainer.unindexed(QueryExplainer.explain(customers, goldFilter)), is(empty()));
+        assertThat(QueryExplainer.unindexed(QueryExplainer.explain(customers, silverFilter)), is(empty()));
+
+        // entry processor to update all balances for GOLD customers to 0 in a single pass on the servers
+        customers.invokeAll(goldFilter, Processors.update(CustomerLambdas.balanceUpdater(), 0.0d));
+        Double goldBalance = customers.aggregate(goldFilter, Aggregators.doubleSum(CustomerLambdas.balance()));
+        assertThat(goldBalance, is(0.0d));
 
         // return values
-        assertThat(customers.values(Filters.equal(ValueExtractor.of(Customer::getCustomerType), GOLD)).size(), not(0));
+        assertThat(customers.values(goldFilter).size(), not(0));
 
         // stream
-        assertThat(customers.stream(Filters.equal(ValueExtractor.of(Customer::getCustomerType), SILVER)).findFirst(), is(notNullValue()));
+        assertThat(customers.stream(silverFilter).findFirst(), is(notNullValue()));
+
+        // return values, streamed in chunks of partitions instead of in a single response
+        StreamingQuery<Integer, Customer> goldQuery = StreamingQuery
+                .builder(customers, goldFilter)
+                .build();
+        try (Stream<Customer> gold = goldQuery.values()) {
+            assertThat(gold.count(), not(0L));
+        }
+        assertThat(goldQuery.getChunkCount() > 1, is(true));
+
+        // streaming query, only the first chunks are requested before the first value is returned
+        try (Stream<Customer> silver = StreamingQuery
+                .builder(customers, silverFilter)
+                .build()
+                .values()) {
+            assertThat(silver.findFirst(), is(notNullValue()));
+        }
+    }
+
+    @Test
+    public void shouldBatchMapEvents() {
+        final int maxCustomers = 10_000;
+
+        NamedCache<Integer, Customer> customers = coherence.getSession().getCache("pof-batched-customers");
+
+        // add a map listener that receives the inserts in batches instead of one at a time
+        final AtomicInteger insertCounter = new AtomicInteger();
+        final AtomicInteger batchCounter = new AtomicInteger();
+
+        BatchingMapListener<Integer, Customer> listener = BatchingMapListener.<Integer, Customer>builder(batch -> {
+                    batchCounter.incrementAndGet();
+                    batch.stream().filter(e -> e.getId() == MapEvent.ENTRY_INSERTED).forEach(e -> insertCounter.incrementAndGet());
+                })
+                .maxBatchSize(1000)
+                .build();
+        customers.addMapListener(listener);
+
+        Map<Integer, Customer> buffer = new HashMap<>();
+        for (int i = 1; i <= maxCustomers; i++) {
+            buffer.put(i, new Customer(i, "name-" + i, i, getRandomAddress(), getRandomAddress(), getRandomCustomerType()));
+            if (i % 100 == 0) {
+                customers.putAll(buffer);
+                buffer.clear();
+            }
+        }
+
+        Eventually.assertDeferred(insertCounter::get, is(maxCustomers), Timeout.of(1, TimeUnit.MINUTES));
+        assertThat(batchCounter.get() < maxCustomers, is(true));
+        customers.removeMapListener(listener);
+        listener.close();
+        customers.destroy();
+    }
+
+    @Test
+    public void shouldUseGeneratedExtractorIndex() {
+        final int maxCustomers = 1_000;
+
+        NamedCache<Integer, Customer> customers = coherence.getSession().getCache("pof-lambda-customers");
+        // a generated extractor is not equal to the method reference, so it needs its own index
+        customers.addIndex(CustomerLambdas.customerType());
+
+        Map<Integer, Customer> buffer = new HashMap<>();
+        for (int i = 1; i <= maxCustomers; i++) {
+            buffer.put(i, new Customer(i, "name-" + i, i, getRandomAddress(), getRandomAddress(), TYPES[i % TYPES.length]));
+        }
+        customers.putAll(buffer);
+
+        Filter<Customer> gold = Filters.equal(CustomerLambdas.customerType(), GOLD);
+        assertThat(QueryExplainer.unindexed(QueryExplainer.explain(customers, gold)), is(empty()));
+        assertThat(customers.keySet(gold).size(), is(maxCustomers / TYPES.length));
+    }
+
+    @Test
+    public void shouldExtractFromPof() {
+        final int maxCustomers = 1_000;
+
+        NamedCache<Integer, Customer> customers = coherence.getSession().getCache("pof-extractor-customers");
+        customers.addIndex(CustomerPofExtractors.customerType());
+
+        Map<Integer, Customer> buffer = new HashMap<>();
+        for (int i = 1; i <= maxCustomers; i++) {
+            Address address = new Address("Address line 1", "address line 2", "city-" + (i % 10),
+                    "state", "zip", "country");
+            buffer.put(i, new Customer(i, "name-" + i, i, address, getRandomAddress(), TYPES[i % TYPES.length]));
+        }
+        customers.putAll(buffer);
+
+        // the POF extractors must give the same results as deserializing the customers
+        Map<String, Double> expected = customers.aggregate(GroupAggregator.createInstance(
+                ValueExtractor.of(Customer::getCustomerType), new DoubleSum<>(ValueExtractor.of(Customer::getBalance))));
+        Map<String, Double> actual = customers.aggregate(GroupAggregator.createInstance(
+                CustomerPofExtractors.customerType(), new DoubleSum<>(CustomerPofExtractors.balance())));
+        assertThat(actual, is(expected));
+
+        assertThat(customers.keySet(Filters.equal(CustomerPofExtractors.customerType(), GOLD)).size(),
+                is(customers.keySet(Filters.equal(ValueExtractor.of(Customer::getCustomerType), GOLD)).size()));
+
+        // nested properties are read without deserializing the address
+        assertThat(customers.keySet(Filters.equal(CustomerPofExtractors.homeAddressCity(), "city-1")).size(),
+                is(maxCustomers / 10));
+    }
+
+    @Test
+    public void shouldExplainCompositeAddressQuery() {
+        final int maxCustomers = 1_000;
+
+        NamedCache<Integer, Customer> customers = coherence.getSession().getCache("pof-query-customers");
+        Map<Integer, Customer> buffer = new HashMap<>();
+        for (int i = 1; i <= maxCustomers; i++) {
+            Address address = new Address("Address line 1", "address line 2", "city-" + (i % 10),
+                    "state-" + (i % 4), "zip", "country");
+            buffer.put(i, new Customer(i, "name-" + i, i, address, getRandomAddress(), TYPES[i % TYPES.length]));
+        }
+        customers.putAll(buffer);
+
+        Filter<Customer> filter = Filters.equal(CustomerPofExtractors.homeAddressCity(), "city-1")
+                .and(Filters.equal(CustomerPofExtractors.homeAddressState(), "state-1"));
+
+        // only the city is indexed, so the plan must show that the state is evaluated by scanning
+        customers.addIndex(CustomerPofExtractors.homeAddressCity());
+        QueryRecord plan = QueryExplainer.explain(customers, filter);
+        assertThat(QueryExplainer.unindexed(plan).size(), is(1));
+        assertThat(QueryExplainer.unindexed(plan).get(0), containsString("state"));
+
+        customers.addIndex(CustomerPofExtractors.homeAddressState(), true, null);
+        assertThat(QueryExplainer.isIndexed(customers, filter), is(true));
+
+        // city-1 has the ids ending in 1, of which every other one has state-1
+        int expected = maxCustomers / 20;
+        assertThat(QueryExplainer.values(customers, filter).size(), is(expected));
+        assertThat(QueryExplainer.stream(customers, filter).count(), is((long) expected));
+
+        QueryRecord trace = QueryExplainer.trace(customers, filter);
+        assertThat(trace.getResults().isEmpty(), is(false));
+    }
+
+    @Test
+    public void shouldUseNearCache() {
+        NamedCache<Integer, Country> countries = coherence.getSession().getCache("near-countries");
+        for (int i = 1; i <= 200; i++) {
+            countries.put(i, new Country("C" + i, "Country-" + i, i));
+        }
+
+        // repeated reads are served from the front map
+        for (int i = 0; i < 10; i++) {
+            assertThat(countries.get(1).name(), is("Country-1"));
+        }
+
+        // an update made on the servers invalidates the front map
+        countries.invoke(1, new ConditionalPut<>(Filters.always(), new Country("C1", "Updated-1", 1)));
+        Eventually.assertDeferred(() -> countries.get(1).name(), is("Updated-1"));
     }
 
     private Address getRandomAddress() {
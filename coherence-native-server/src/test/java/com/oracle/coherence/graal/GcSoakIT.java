@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 18/10/2026, 10:14, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal;
+
+import com.oracle.bedrock.options.Timeout;
+import com.oracle.bedrock.runtime.java.ClassPath;
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import com.oracle.bedrock.testsupport.junit.TestLogsExtension;
+import com.oracle.coherence.graal.memory.MemorySettings;
+import com.oracle.coherence.graal.memory.PauseDetector;
+import com.oracle.coherence.graal.testing.NativeCluster;
+import com.oracle.coherence.graal.testing.NativeClusterExtension;
+
+import com.tangosol.net.NamedCache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * A soak test that drives sustained put and remove churn against two {@link Server}
+ * members and reports the pause percentiles measured by each member's {@link PauseDetector}.
+ * <p>
+ * The test only runs, and only starts its cluster, when the {@code coherence.soak.duration.seconds}
+ * system property is set. The {@code gc-variants} profile runs it against each garbage collector
+ * variant of the native image.
+ */
+@EnabledIfSystemProperty(named = "coherence.soak.duration.seconds", matches = "[1-9][0-9]*")
+public class GcSoakIT {
+
+    @RegisterExtension
+    static TestLogsExtension testLogs = new TestLogsExtension(GcSoakIT.class);
+
+    /**
+     * The duration of the soak, the test is skipped if this is not set.
+     */
+    static final long SOAK_SECONDS = Long.getLong("coherence.soak.duration.seconds", 0L);
+
+    /**
+     * The name of the variant under test, used to name the report.
+     */
+    static final String VARIANT = System.getProperty("coherence.soak.variant", "default");
+
+    /**
+     * The directory to write the report to.
+     */
+    static final String REPORT_DIR = System.getProperty("coherence.soak.report.dir", "target/gc-soak");
+
+    /**
+     * The number of client threads driving the churn.
+     */
+    static final int THREADS = Integer.getInteger("coherence.soak.threads", 8);
+
+    /**
+     * The number of keys, which is the maximum number of live entries.
+     */
+    static final int KEY_COUNT = Integer.getInteger("coherence.soak.keys", 100_000);
+
+    /**
+     * The size of each cache value.
+     */
+    static final int VALUE_SIZE = Integer.getInteger("coherence.soak.value.size", 1024);
+
+    /**
+     * The pattern to parse the pause detector log lines.
+     */
+    static final Pattern PAUSES = Pattern.compile(Pattern.quote(PauseDetector.LOG_PREFIX)
+            + " count=(\\d+) p50Millis=(\\d+) p99Millis=(\\d+) p999Millis=(\\d+) maxMillis=(\\d+)");
+
+    /**
+     * The number of seconds between the pause reports of each member.
+     */
+    static final int REPORT_SECONDS = 5;
+
+    /**
+     * The last pause detector line logged by each member.
+     */
+    static final Map<String, String> pauses = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link System#nanoTime()} at which each member logged its last pause detector line.
+     */
+    static final Map<String, Long> pauseNanos = new ConcurrentHashMap<>();
+
+    /**
+     * The memory settings line logged by each member.
+     */
+    static final Map<String, String> memory = new ConcurrentHashMap<>();
+
+    /**
+     * The cluster of two Coherence servers reporting their pauses, joined by this test JVM.
+     */
+    @RegisterExtension
+    static NativeClusterExtension cluster = new NativeClusterExtension(() -> NativeCluster.builder("GcSoakIT-" + VARIANT)
+            .mainClass(Server.class)
+            .classPath(ClassPath.automatic())
+            .members(2)
+            .systemProperty(PauseDetector.PROP_ENABLED, "true")
+            .systemProperty(PauseDetector.PROP_REPORT, String.valueOf(REPORT_SECONDS))
+            .console(name -> testLogs.builder()
+                    .addStdErrListener(s -> s.contains(PauseDetector.LOG_PREFIX), s -> {
+                        pauses.put(name, s);
+                        pauseNanos.put(name, System.nanoTime());
+                    })
+                    .addStdErrListener(s -> s.contains(MemorySettings.LOG_PREFIX), s -> memory.put(name, s))
+                    .build(name)));
+
+    @Test
+    void shouldReportPausePercentilesUnderChurn() throws Exception {
+        NamedCache<Integer, byte[]> cache = cluster.getCluster().getCoherence().getSession().getCache("soak");
+
+        long operations = churn(cache);
+        long churnEnded = System.nanoTime();
+
+        // wait for a report from each member that covers the whole soak
+        Eventually.assertDeferred(() -> pauseNanos.values().stream().filter(nanos -> nanos - churnEnded > 0).count(),
+                is(2L),
+                Timeout.of(REPORT_SECONDS * 3, TimeUnit.SECONDS));
+
+        StringBuilder report = new StringBuilder();
+        report.append("variant=").append(VARIANT)
+                .append(" durationSeconds=").append(SOAK_SECONDS)
+                .append(" operations=").append(operations)
+                .append(System.lineSeparator());
+        for (int i = 1; i <= 2; i++) {
+            String name = "server-" + i;
+            report.append(name).append(' ').append(memory.getOrDefault(name, "")).append(System.lineSeparator());
+            report.append(name).append(' ').append(pauses.getOrDefault(name, "")).append(System.lineSeparator());
+        }
+        writeReport(report.toString());
+
+        assertThat(pauses.size(), is(2));
+        for (String line : pauses.values()) {
+            Matcher matcher = PAUSES.matcher(line);
+            assertThat(line, matcher.find(), is(true));
+        }
+    }
+
+    /**
+     * Put and remove random keys from multiple threads for the duration of the soak.
+     *
+     * @param cache  the cache to use
+     *
+     * @return the number of operations performed
+     */
+    private long churn(NamedCache<Integer, byte[]> cache) throws Exception {
+        LongAdder operations = new LongAdder();
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(SOAK_SECONDS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() - end < 0) {
+                        int key = random.nextInt(KEY_COUNT);
+                        if (random.nextBoolean()) {
+                            byte[] value = new byte[VALUE_SIZE];
+                            random.nextBytes(value);
+                            cache.put(key, value);
+                        } else {
+                            cache.remove(key);
+                        }
+                        operations.increment();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return operations.sum();
+    }
+
+    private void writeReport(String report) throws IOException {
+        Path dir = Path.of(REPORT_DIR);
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("gc-soak-" + VARIANT + ".txt"), report);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 18/10/2026, 10:25, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal;
+
+import com.oracle.bedrock.options.Timeout;
+import com.oracle.bedrock.runtime.java.ClassPath;
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import com.oracle.bedrock.testsupport.junit.TestLogsExtension;
+import com.oracle.coherence.graal.metrics.CacheMetrics;
+import com.oracle.coherence.graal.metrics.MetricsEndpoint;
+import com.oracle.coherence.graal.testing.NativeCluster;
+import com.oracle.coherence.graal.testing.NativeClusterExtension;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.Filters;
+import com.tangosol.util.processor.ConditionalPut;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests the cache latency metrics published by the {@link MetricsEndpoint}
+ * of a {@link Server}.
+ */
+public class MetricsEndpointIT {
+
+    @RegisterExtension
+    static TestLogsExtension testLogs = new TestLogsExtension(MetricsEndpointIT.class);
+
+    /**
+     * The Coherence cluster name to use.
+     */
+    static final String CLUSTER_NAME = "MetricsEndpointIT";
+
+    /**
+     * The port of the server metrics endpoint.
+     */
+    static final int METRICS_PORT = freePort();
+
+    /**
+     * The cluster of a Coherence server started by Bedrock, with its metrics
+     * endpoint enabled, joined by this test JVM.
+     */
+    @RegisterExtension
+    static NativeClusterExtension cluster = new NativeClusterExtension(() -> NativeCluster.builder(CLUSTER_NAME)
+            .mainClass(Server.class)
+            .classPath(ClassPath.automatic().excluding(ClassPath.ofClass(MetricsEndpointIT.class)))
+            .members(1)
+            .systemProperty("coherence.lambdas", "static")
+            .systemProperty(MetricsEndpoint.PROP_ENABLED, "true")
+            .systemProperty(MetricsEndpoint.PROP_ADDRESS, "127.0.0.1")
+            .systemProperty(MetricsEndpoint.PROP_PORT, String.valueOf(METRICS_PORT))
+            .console(testLogs));
+
+    /**
+     * The Coherence instance started in this test JVM.
+     */
+    static Coherence coherence;
+
+    @BeforeAll
+    static void startCoherence() {
+        coherence = cluster.getCluster().getCoherence();
+    }
+
+    @Test
+    void shouldPublishCacheLatencies() throws Exception {
+        NamedCache<String, String> cache = coherence.getSession().getCache("metrics-test");
+        for (int i = 0; i < 100; i++) {
+            cache.put("key-" + i, "value-" + i);
+            cache.get("key-" + i);
+            cache.invoke("key-" + i, CacheMetrics.timed("metrics-test", new ConditionalPut<>(Filters.always(), "updated-" + i)));
+        }
+        cache.remove("key-0");
+
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + METRICS_PORT + MetricsEndpoint.PATH))
+                .GET()
+                .build();
+
+        Eventually.assertDeferred(() -> client.send(request, HttpResponse.BodyHandlers.ofString()).body(),
+                containsString("coherence_native_cache_latency_seconds_count{cache=\"metrics-test\",operation=\"invoke\"}"),
+                Timeout.of(1, TimeUnit.MINUTES));
+
+        String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        assertThat(body, containsString("# TYPE coherence_native_cache_latency_seconds summary"));
+        assertThat(body, containsString("{cache=\"metrics-test\",operation=\"get\",quantile=\"0.99\"}"));
+        assertThat(body, containsString("{cache=\"metrics-test\",operation=\"put\",quantile=\"0.99\"}"));
+        assertThat(body, containsString("coherence_native_cache_latency_seconds_count{cache=\"metrics-test\",operation=\"remove\"}"));
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
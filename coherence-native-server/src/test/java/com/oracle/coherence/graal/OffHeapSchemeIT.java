@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 18/10/2026, 10:12, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal;
+
+import com.oracle.bedrock.runtime.java.ClassPath;
+import com.oracle.bedrock.testsupport.junit.TestLogsExtension;
+import com.oracle.coherence.graal.model.java.Order;
+import com.oracle.coherence.graal.model.pof.Address;
+import com.oracle.coherence.graal.model.pof.Customer;
+import com.oracle.coherence.graal.testing.NativeCluster;
+import com.oracle.coherence.graal.testing.NativeClusterExtension;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.Filters;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.aggregator.DoubleSum;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests the caches mapped to the off-heap {@code ramjournal-scheme} and
+ * the memory-mapped {@code flashjournal-scheme} backing maps.
+ */
+public class OffHeapSchemeIT {
+
+    @RegisterExtension
+    static TestLogsExtension testLogs = new TestLogsExtension(OffHeapSchemeIT.class);
+
+    /**
+     * The Coherence cluster name to use.
+     */
+    static final String CLUSTER_NAME = "OffHeapSchemeIT";
+
+    /**
+     * The number of customers to load into each cache.
+     */
+    static final int CUSTOMER_COUNT = 100_000;
+
+    /**
+     * The cluster of two Coherence servers started by Bedrock, joined by this test JVM.
+     */
+    @RegisterExtension
+    static NativeClusterExtension cluster = new NativeClusterExtension(() -> NativeCluster.builder(CLUSTER_NAME)
+            .mainClass(Server.class)
+            .classPath(ClassPath.automatic().excluding(ClassPath.ofClass(OffHeapSchemeIT.class)))
+            .members(2)
+            .systemProperty("coherence.lambdas", "static")
+            .console(testLogs));
+
+    /**
+     * The Coherence instance started in this test JVM.
+     */
+    static Coherence coherence;
+
+    @BeforeAll
+    static void startCoherence() {
+        coherence = cluster.getCluster().getCoherence();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"offheap-customers", "flash-customers"})
+    void shouldStoreCustomers(String cacheName) {
+        NamedCache<Integer, Customer> customers = coherence.getSession().getCache(cacheName);
+        customers.truncate();
+        customers.addIndex(ValueExtractor.of(Customer::getCustomerType));
+
+        Map<Integer, Customer> buffer = new HashMap<>();
+        for (int i = 1; i <= CUSTOMER_COUNT; i++) {
+            Address address = new Address("line 1", "line 2", "city-" + i, "state", "zip-" + i, "country");
+            buffer.put(i, new Customer(i, "name-" + i, i, address, address, i % 2 == 0 ? "GOLD" : "SILVER"));
+            if (buffer.size() == 1000) {
+                customers.putAll(buffer);
+                buffer.clear();
+            }
+        }
+        customers.putAll(buffer);
+
+        assertThat(customers.size(), is(CUSTOMER_COUNT));
+        assertThat(customers.get(CUSTOMER_COUNT).getName(), is("name-" + CUSTOMER_COUNT));
+        assertThat(customers.keySet(Filters.equal(ValueExtractor.of(Customer::getCustomerType), "GOLD")).size(),
+                is(CUSTOMER_COUNT / 2));
+
+        double expected = (double) CUSTOMER_COUNT * (CUSTOMER_COUNT + 1) / 2;
+        Double balance = customers.aggregate(new DoubleSum<>(ValueExtractor.of(Customer::getBalance)));
+        assertThat(balance, is(expected));
+
+        customers.remove(1);
+        assertThat(customers.containsKey(1), is(false));
+        assertThat(customers.size(), is(CUSTOMER_COUNT - 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"offheap-orders", "flash-orders"})
+    void shouldStoreGeneratedPofTypes(String cacheName) {
+        NamedCache<Integer, Order> orders = coherence.getSession().getCache(cacheName);
+        Order order = new Order(1, "customer-1", 100.0d);
+        orders.put(1, order);
+        assertThat(orders.get(1), is(notNullValue()));
+        assertThat(orders.get(1), is(order));
+    }
+}
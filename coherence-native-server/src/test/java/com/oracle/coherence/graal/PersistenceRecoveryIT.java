@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 18/10/2026, 10:46, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal;
+
+import com.oracle.bedrock.options.Timeout;
+import com.oracle.bedrock.runtime.java.ClassPath;
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import com.oracle.bedrock.testsupport.junit.TestLogsExtension;
+import com.oracle.coherence.common.base.Logger;
+import com.oracle.coherence.graal.bulk.BulkLoader;
+import com.oracle.coherence.graal.model.pof.Address;
+import com.oracle.coherence.graal.model.pof.Customer;
+import com.oracle.coherence.graal.persistence.RecoveryMode;
+import com.oracle.coherence.graal.persistence.Snapshots;
+import com.oracle.coherence.graal.testing.NativeCluster;
+
+import com.tangosol.net.NamedCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests that the {@code persistent-*} caches recover their data after every
+ * storage member of the cluster is killed and restarted, and measures how long
+ * the recovery takes in each {@link RecoveryMode}.
+ * <p>
+ * The amount of data loaded is set in megabytes of serialized entries using the
+ * {@code coherence.persistence.test.megabytes} system property, so that the time
+ * to recover several gigabytes can be measured outside a normal build.
+ */
+public class PersistenceRecoveryIT {
+
+    @RegisterExtension
+    static TestLogsExtension testLogs = new TestLogsExtension(PersistenceRecoveryIT.class);
+
+    /**
+     * The Coherence cluster name to use.
+     */
+    static final String CLUSTER_NAME = "PersistenceRecoveryIT";
+
+    /**
+     * The name of the persistent service.
+     */
+    static final String SERVICE_NAME = "DistributedCachePersistent";
+
+    /**
+     * The megabytes of serialized customers to load before the restart.
+     */
+    static final long MEGABYTES = Long.getLong("coherence.persistence.test.megabytes", 64L);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sequential", "mapped", "parallel"})
+    void shouldRecoverCustomersAfterRestart(String mode) throws Exception {
+        Path dir = persistenceDirectory(mode);
+        NativeCluster.Builder builder = cluster(mode, dir);
+        try {
+            int count;
+            long bytes;
+            try (NativeCluster cluster = builder.start()) {
+                NamedCache<Integer, Customer> customers = cluster.getCoherence().getSession()
+                        .getCache("persistent-customers");
+                try (BulkLoader<Integer, Customer> loader = BulkLoader.builder(customers).build()) {
+                    int id = 0;
+                    while (id == 0 || id * loader.getEntryBytes() < MEGABYTES * 1024 * 1024) {
+                        id++;
+                        loader.put(id, customer(id));
+                    }
+                    loader.flush();
+                    count = id;
+                    bytes = (long) (id * loader.getEntryBytes());
+                }
+                assertThat(customers.size(), is(count));
+            }
+
+            long start = System.nanoTime();
+            try (NativeCluster cluster = builder.start()) {
+                long readyNanos = System.nanoTime() - start;
+                NamedCache<Integer, Customer> customers = cluster.getCoherence().getSession()
+                        .getCache("persistent-customers");
+                Eventually.assertDeferred(customers::size, is(count), Timeout.of(10, TimeUnit.MINUTES));
+                long recoveredNanos = System.nanoTime() - start;
+
+                Logger.info(RecoveryMode.LOG_PREFIX + " recovery=" + mode
+                        + " entries=" + count
+                        + " bytes=" + bytes
+                        + " readyMillis=" + TimeUnit.NANOSECONDS.toMillis(readyNanos)
+                        + " recoveredMillis=" + TimeUnit.NANOSECONDS.toMillis(recoveredNanos));
+
+                assertThat(customers.get(count).getName(), is("name-" + count));
+            }
+        } finally {
+            delete(dir);
+        }
+    }
+
+    @Test
+    void shouldRecoverSnapshot() throws Exception {
+        final int count = 1_000;
+        Path dir = persistenceDirectory("snapshot");
+        try (NativeCluster cluster = cluster("parallel", dir).start()) {
+            NamedCache<Integer, Customer> customers = cluster.getCoherence().getSession()
+                    .getCache("persistent-snapshot-customers");
+            for (int i = 1; i <= count; i++) {
+                customers.put(i, customer(i));
+            }
+
+            Snapshots snapshots = Snapshots.of(cluster.getCoherence().getCluster(), SERVICE_NAME);
+            snapshots.create("snapshot-1");
+            assertThat(snapshots.list(), hasItem("snapshot-1"));
+
+            customers.truncate();
+            assertThat(customers.size(), is(0));
+
+            snapshots.recover("snapshot-1");
+            assertThat(customers.size(), is(count));
+            assertThat(customers.get(count).getName(), is("name-" + count));
+
+            snapshots.remove("snapshot-1");
+            assertThat(snapshots.list(), not(hasItem("snapshot-1")));
+        } finally {
+            delete(dir);
+        }
+    }
+
+    /**
+     * Create the builder of a two member cluster that uses a recovery mode.
+     *
+     * @param mode  the recovery mode of the members
+     * @param dir   the persistence base directory of the members
+     *
+     * @return the builder of the cluster
+     */
+    private NativeCluster.Builder cluster(String mode, Path dir) {
+        return NativeCluster.builder(CLUSTER_NAME + "-" + mode)
+                .mainClass(Server.class)
+                .classPath(ClassPath.automatic().excluding(ClassPath.ofClass(PersistenceRecoveryIT.class)))
+                .members(2)
+                .memberPrefix(mode + "-")
+                .systemProperty("coherence.lambdas", "static")
+                .systemProperty(RecoveryMode.PROP_ENABLED, "true")
+                .systemProperty(RecoveryMode.PROP_MODE, mode)
+                .systemProperty(RecoveryMode.PROP_DIR, dir.toString())
+                .console(testLogs);
+    }
+
+    /**
+     * Returns an empty persistence directory for a test, under the build's
+     * {@code target} directory so that a test never writes to the default
+     * persistence directory or outside the build.
+     *
+     * @param name  the name of the directory
+     *
+     * @return the persistence directory
+     *
+     * @throws IOException if the directory cannot be created
+     */
+    private static Path persistenceDirectory(String name) throws IOException {
+        Path dir = new File(new File("target", "persistence"), CLUSTER_NAME + "-" + name).toPath().toAbsolutePath();
+        delete(dir);
+        return Files.createDirectories(dir);
+    }
+
+    private static void delete(Path dir) throws IOException {
+        if (Files.exists(dir)) {
+            try (Stream<Path> paths = Files.walk(dir)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    private static Customer customer(int id) {
+        Address address = new Address("line 1", "line 2", "city-" + id, "state", "zip-" + id, "country");
+        return new Customer(id, "name-" + id, id, address, address, id % 2 == 0 ? "GOLD" : "SILVER");
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 18/10/2026, 11:06, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal;
+
+import com.oracle.bedrock.runtime.ApplicationConsole;
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.ClassPath;
+import com.oracle.bedrock.runtime.java.options.ClassName;
+import com.oracle.bedrock.runtime.options.Arguments;
+import com.oracle.bedrock.runtime.options.Console;
+import com.oracle.bedrock.runtime.options.DisplayName;
+import com.oracle.bedrock.testsupport.junit.TestLogsExtension;
+import com.oracle.coherence.graal.config.PrebuiltConfiguration;
+import com.oracle.coherence.graal.testing.NativeApplication;
+import com.tangosol.io.pof.ConfigurablePofContext;
+import com.tangosol.run.xml.XmlHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Verifies that a server, which is a native image when the tests run with
+ * {@code -Dcoherence.native.tests=true}, uses the same cache configuration and
+ * POF type registry as Coherence builds at runtime on the JVM.
+ * <p>
+ * The server logs a summary of the configuration it uses, with a hash of the cache
+ * configuration and the type identifier and serializer of each POF user type, which
+ * is compared with the summary of a configuration built in the test JVM.
+ */
+public class PrebuiltConfigurationIT {
+
+    @RegisterExtension
+    static TestLogsExtension testLogs = new TestLogsExtension(PrebuiltConfigurationIT.class);
+
+    /**
+     * The pattern to parse the structured configuration log line.
+     */
+    static final Pattern CONFIG_LINE = Pattern.compile(Pattern.quote(PrebuiltConfiguration.LOG_PREFIX)
+            + " prebuilt=(\\S+) (.*)$");
+
+    @Test
+    void shouldUseSameConfigurationAsJvm() throws Exception {
+        CompletableFuture<Matcher> line = new CompletableFuture<>();
+        ApplicationConsole console = testLogs.builder()
+                .addStdErrListener(s -> s.contains(PrebuiltConfiguration.LOG_PREFIX), s -> {
+                    Matcher matcher = CONFIG_LINE.matcher(s.trim());
+                    if (matcher.find()) {
+                        line.complete(matcher);
+                    }
+                })
+                .build("server");
+
+        try (NativeApplication ignored = LocalPlatform.get().launch(NativeApplication.class,
+                Arguments.of("-Djava.net.preferIPv4Stack=true",
+                        "-Dcoherence.lambdas=static",
+                        "-Dcoherence.cluster=PrebuiltConfigurationIT",
+                        "-Dcoherence.localhost=127.0.0.1",
+                        "-Dcoherence.wka=127.0.0.1"),
+                ClassName.of(Server.class),
+                ClassPath.automatic(),
+                DisplayName.of("server"),
+                Console.of(console))) {
+            Matcher matcher = line.get(5, TimeUnit.MINUTES);
+
+            String expected = PrebuiltConfiguration.describe(
+                    XmlHelper.loadFileOrResource(PrebuiltConfiguration.CACHE_CONFIG_URI, "cache configuration",
+                            getClass().getClassLoader()),
+                    new ConfigurablePofContext());
+
+            assertThat(matcher.group(1), is(String.valueOf(Boolean.getBoolean("coherence.native.tests"))));
+            assertThat(matcher.group(2), is(expected));
+        }
+    }
+}
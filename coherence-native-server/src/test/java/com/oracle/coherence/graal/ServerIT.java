@@ -13,19 +13,62 @@ import com.oracle.bedrock.runtime.java.options.ClassName;
 import com.oracle.bedrock.runtime.options.Arguments;
 import com.oracle.bedrock.runtime.options.Console;
 import com.oracle.bedrock.runtime.options.DisplayName;
+import com.oracle.bedrock.testsupport.deferred.Eventually;
 import com.oracle.bedrock.testsupport.junit.TestLogsExtension;
+import com.oracle.coherence.graal.startup.StartupTimeline;
 import com.oracle.coherence.graal.testing.NativeApplication;
+import com.oracle.coherence.graal.testing.NativeCluster;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class ServerIT {
 
+    /**
+     * The number of times to launch the server when measuring startup time.
+     */
+    static final int STARTUP_LAUNCHES = Integer.getInteger("coherence.startup.launches", 3);
+
+    /**
+     * The maximum number of milliseconds from process start to partition ownership.
+     */
+    static final long STARTUP_BUDGET_MILLIS = Long.getLong("coherence.startup.budget.millis", 60_000L);
+
+    /**
+     * The pattern to parse the structured startup timeline log lines.
+     */
+    static final Pattern STARTUP_PHASE = Pattern.compile(Pattern.quote(StartupTimeline.LOG_PREFIX)
+            + " phase=(\\S+) service=(\\S*) elapsedMillis=(\\d+)");
+
+    /**
+     * The names of the partitioned services started by the server's cache configuration.
+     */
+    static final Set<String> PARTITIONED_SERVICES = partitionedServices();
+
     @Test
     void shouldStartSimpleClusterMember() throws Exception {
         CountDownLatch latch = new CountDownLatch(1);
@@ -90,6 +133,98 @@ public class ServerIT {
         }
     }
 
+    @Test
+    void shouldStartWithinBudget() throws Exception {
+        List<Long> readyTimes = new ArrayList<>();
+        try (ApplicationConsole summary = testLogs.builder().build("startup-times")) {
+            PrintWriter out = summary.getOutputWriter();
+            for (int launch = 1; launch <= STARTUP_LAUNCHES; launch++) {
+                Map<String, Long> phases = new ConcurrentHashMap<>();
+
+                NativeCluster.Builder builder = NativeCluster.builder("native-image-startup-" + launch)
+                        .mainClass(Server.class)
+                        .memberPrefix("startup-" + launch + "-")
+                        .systemProperty("coherence.lambdas", "static")
+                        .timeout(Duration.ofMillis(STARTUP_BUDGET_MILLIS * 2))
+                        .console(name -> testLogs.builder()
+                                .addStdErrListener(s -> s.contains(StartupTimeline.LOG_PREFIX), s -> {
+                                    Matcher matcher = STARTUP_PHASE.matcher(s);
+                                    if (matcher.find()) {
+                                        String key = matcher.group(2).isEmpty() ? matcher.group(1) : matcher.group(1) + "/" + matcher.group(2);
+                                        phases.put(key, Long.parseLong(matcher.group(3)));
+                                    }
+                                })
+                                .build(name));
+
+                try (NativeCluster cluster = builder.start()) {
+                    // one ownership phase for each partitioned service started by the cache configuration
+                    for (String service : PARTITIONED_SERVICES) {
+                        String key = StartupTimeline.PHASE_PARTITION_OWNERSHIP + "/" + service;
+                        Eventually.assertDeferred(() -> phases.containsKey(key), is(true));
+                    }
+
+                    // the first request phase is only recorded once the server has served a request
+                    assertThat(phases.containsKey(StartupTimeline.PHASE_FIRST_REQUEST), is(false));
+                    cluster.getCoherence().getSession().getCache("startup").put("key-1", "value-1");
+                    Eventually.assertDeferred(() -> phases.containsKey(StartupTimeline.PHASE_FIRST_REQUEST), is(true));
+                }
+
+                long joined = phases.get(StartupTimeline.PHASE_CLUSTER_JOIN);
+                long ready = phases.entrySet().stream()
+                        .filter(e -> e.getKey().startsWith(StartupTimeline.PHASE_PARTITION_OWNERSHIP))
+                        .mapToLong(Map.Entry::getValue)
+                        .max()
+                        .orElseThrow();
+                assertThat(joined, is(lessThanOrEqualTo(ready)));
+                assertThat(ready, is(lessThanOrEqualTo(phases.get(StartupTimeline.PHASE_FIRST_REQUEST))));
+
+                out.println("Startup launch " + launch + " ready in " + ready + " ms " + phases);
+                readyTimes.add(ready);
+            }
+
+            Collections.sort(readyTimes);
+            out.println("Startup times over " + STARTUP_LAUNCHES + " launches: min=" + readyTimes.get(0)
+                    + " ms median=" + readyTimes.get(readyTimes.size() / 2)
+                    + " ms max=" + readyTimes.get(readyTimes.size() - 1) + " ms budget=" + STARTUP_BUDGET_MILLIS + " ms");
+        }
+
+        assertThat(readyTimes.get(readyTimes.size() / 2), is(lessThanOrEqualTo(STARTUP_BUDGET_MILLIS)));
+    }
+
+    /**
+     * Returns the names of the autostarted distributed services in the server's cache configuration,
+     * so that the startup test waits for all of them to own partitions.
+     *
+     * @return the names of the partitioned services
+     */
+    static Set<String> partitionedServices() {
+        try (InputStream in = ServerIT.class.getResourceAsStream("/coherence-cache-config.xml")) {
+            Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(in);
+            Set<String> services = new TreeSet<>();
+            NodeList schemes = document.getElementsByTagName("distributed-scheme");
+            for (int i = 0; i < schemes.getLength(); i++) {
+                Element scheme = (Element) schemes.item(i);
+                String service = childText(scheme, "service-name");
+                // a scheme without a service name, such as the back scheme of a near cache, refers to another scheme
+                if (service != null && !"false".equals(childText(scheme, "autostart"))) {
+                    services.add(service);
+                }
+            }
+            return services;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to read the cache configuration", e);
+        }
+    }
+
+    private static String childText(Element element, String name) {
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element && child.getNodeName().equals(name)) {
+                return child.getTextContent().trim();
+            }
+        }
+        return null;
+    }
+
     @RegisterExtension
     static TestLogsExtension testLogs = new TestLogsExtension(ServerIT.class);
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 18/10/2026, 10:07, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.config;
+
+import com.oracle.coherence.graal.model.java.Country;
+import com.oracle.coherence.graal.model.java.Order;
+import com.oracle.coherence.graal.model.java.OrderLine;
+import com.oracle.coherence.graal.model.pof.Address;
+import com.oracle.coherence.graal.model.pof.Customer;
+import com.tangosol.io.pof.ConfigurablePofContext;
+import com.tangosol.run.xml.XmlElement;
+import com.tangosol.run.xml.XmlHelper;
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.anyOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Verifies that the {@link PrebuiltConfiguration} matches the configuration
+ * that Coherence builds at runtime on the JVM. {@code PrebuiltConfigurationIT}
+ * verifies that a native server uses the same configuration.
+ */
+public class PrebuiltConfigurationTest {
+
+    @Test
+    void shouldMatchRuntimeCacheConfig() {
+        XmlElement runtime = XmlHelper.loadFileOrResource(PrebuiltConfiguration.CACHE_CONFIG_URI,
+                "cache configuration", getClass().getClassLoader());
+
+        assertThat(PrebuiltConfiguration.cacheConfig(), is(runtime));
+    }
+
+    @Test
+    void shouldMatchRuntimePofTypeRegistry() {
+        ConfigurablePofContext prebuilt = PrebuiltConfiguration.pofContext();
+        ConfigurablePofContext runtime = new ConfigurablePofContext();
+
+        assertThat(prebuilt.getUserTypeIdentifier(Customer.class), is(runtime.getUserTypeIdentifier(Customer.class)));
+        assertThat(prebuilt.getUserTypeIdentifier(Address.class), is(runtime.getUserTypeIdentifier(Address.class)));
+        assertThat(prebuilt.getClass(prebuilt.getUserTypeIdentifier(Customer.class)), is(sameInstance(Customer.class)));
+        assertThat(prebuilt.getClass(prebuilt.getUserTypeIdentifier(Address.class)), is(sameInstance(Address.class)));
+    }
+
+    @Test
+    void shouldSerializeTheSameAsRuntimePofContext() {
+        ConfigurablePofContext prebuilt = PrebuiltConfiguration.pofContext();
+        ConfigurablePofContext runtime = new ConfigurablePofContext();
+
+        Address home = new Address("1 Main Street", "", "Boston", "MA", "02116", "US");
+        Address work = new Address("500 Oracle Parkway", "", "Redwood Shores", "CA", "94065", "US");
+        Customer customer = new Customer(1, "customer-1", 100.0d, home, work, "GOLD");
+
+        Binary prebuiltBinary = ExternalizableHelper.toBinary(customer, prebuilt);
+        Binary runtimeBinary = ExternalizableHelper.toBinary(customer, runtime);
+
+        assertThat(prebuiltBinary, is(runtimeBinary));
+        assertThat(ExternalizableHelper.fromBinary(prebuiltBinary, runtime), is(customer));
+        assertThat(ExternalizableHelper.fromBinary(runtimeBinary, prebuilt), is(customer));
+    }
+
+    @Test
+    void shouldRegisterGeneratedPofSerializers() {
+        ConfigurablePofContext prebuilt = PrebuiltConfiguration.pofContext();
+
+        assertThat(prebuilt.getUserTypeIdentifier(Order.class), is(1010));
+        assertThat(prebuilt.getUserTypeIdentifier(OrderLine.class), is(1011));
+        assertThat(prebuilt.getUserTypeIdentifier(Country.class), is(1012));
+
+        Order order = new Order(1, "customer-1", 100.0d);
+        OrderLine line = new OrderLine(1, 2, "product-1", 3, 10.0d);
+        Country country = new Country("GB", "United Kingdom", 69_000_000L);
+
+        assertThat(ExternalizableHelper.fromBinary(ExternalizableHelper.toBinary(order, prebuilt), prebuilt), is(order));
+        assertThat(ExternalizableHelper.fromBinary(ExternalizableHelper.toBinary(line, prebuilt), prebuilt), is(line));
+        assertThat(ExternalizableHelper.fromBinary(ExternalizableHelper.toBinary(country, prebuilt), prebuilt), is(country));
+    }
+
+    @Test
+    void shouldInitializeOnlyTheClassesOfPrebuiltObjects() {
+        Map<String, Class<?>> classes = PrebuiltConfigurationFeature.reachableClasses(
+                PrebuiltConfiguration.cacheConfig(), PrebuiltConfiguration.pofContext());
+
+        assertThat(classes.containsKey(ConfigurablePofContext.class.getName()), is(true));
+        assertThat(classes.containsKey(PrebuiltConfiguration.cacheConfig().getClass().getName()), is(true));
+        assertThat(classes.containsKey(Customer.class.getName()), is(false));
+        for (String name : classes.keySet()) {
+            assertThat(name, anyOf(startsWith("com.tangosol."), startsWith("com.oracle.coherence.")));
+        }
+    }
+
+    @Test
+    void shouldUseSamePofContextInstance() {
+        assertThat(PrebuiltConfiguration.pofContext(), is(sameInstance(PrebuiltConfiguration.pofContext())));
+    }
+}
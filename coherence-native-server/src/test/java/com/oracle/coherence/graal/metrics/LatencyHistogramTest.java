@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 18/10/2026, 10:25, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void shouldMapValuesToBuckets() {
+        for (long value = 0; value < LatencyHistogram.MAX_VALUE; value = value * 3 / 2 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat(index, is(lessThan(LatencyHistogram.BUCKET_COUNT)));
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            assertThat(upper, is(greaterThanOrEqualTo(value)));
+            assertThat(LatencyHistogram.bucketIndex(upper), is(index));
+            if (upper < LatencyHistogram.MAX_VALUE) {
+                assertThat(LatencyHistogram.bucketIndex(upper + 1), is(index + 1));
+            }
+        }
+        assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.MAX_VALUE), is(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    void shouldCalculatePercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertThat(histogram.getTotalCount(), is(1000L));
+        assertThat(histogram.getTotalNanos(), is(500_500_000L));
+        assertThat(histogram.getMaxNanos(), is(1_000_000L));
+        assertThat((double) histogram.getValueAtPercentile(50.0d), is(closeTo(500_000d, 500_000d * 0.07d)));
+        assertThat((double) histogram.getValueAtPercentile(99.0d), is(closeTo(990_000d, 990_000d * 0.07d)));
+        assertThat(histogram.getValueAtPercentile(100.0d), is(1_000_000L));
+    }
+
+    @Test
+    void shouldClampValuesOutsideTrackableRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+        assertThat(histogram.getValueAtPercentile(50.0d), is(0L));
+        assertThat(histogram.getMaxNanos(), is(LatencyHistogram.MAX_VALUE));
+    }
+
+    @Test
+    void shouldWritePrometheusSummary() {
+        CacheMetrics metrics = CacheMetrics.get();
+        metrics.clear();
+        metrics.histogram("test-\"cache\"", CacheOperation.GET).record(2_000_000L);
+
+        StringBuilder builder = new StringBuilder();
+        metrics.writePrometheus(builder);
+        String text = builder.toString();
+
+        assertThat(text, containsString("# TYPE " + CacheMetrics.METRIC_NAME + " summary"));
+        assertThat(text, containsString(CacheMetrics.METRIC_NAME
+                + "_count{cache=\"test-\\\"cache\\\"\",operation=\"get\"} 1"));
+        assertThat(text, containsString("operation=\"get\",quantile=\"0.99\"} 0.002"));
+        metrics.clear();
+    }
+}
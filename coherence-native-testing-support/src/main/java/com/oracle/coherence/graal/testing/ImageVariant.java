@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 18/10/2026, 10:35, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.testing;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+
+import java.util.Objects;
+
+/**
+ * An {@link Option} to select the variant of the native image a
+ * {@link NativeApplication} runs.
+ * <p>
+ * A variant is an image built next to the base image with a {@code -<variant>}
+ * suffix, for example the {@code pgo} variant of {@code coherence-native-server}
+ * is {@code coherence-native-server-pgo}. If the option is not set, the variant
+ * is taken from the {@value #PROPERTY} system property, and if that is not set
+ * the base image is used.
+ */
+public class ImageVariant implements Option {
+
+    /**
+     * The system property that sets the default variant.
+     */
+    public static final String PROPERTY = "coherence.native.image.variant";
+
+    /**
+     * The variant that selects the base image.
+     */
+    private static final ImageVariant BASE = new ImageVariant("");
+
+    /**
+     * The name of the variant, empty for the base image.
+     */
+    private final String name;
+
+    private ImageVariant(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the variant with the specified name.
+     *
+     * @param name  the name of the variant, {@code null} or blank for the base image
+     *
+     * @return the variant with the specified name
+     */
+    public static ImageVariant of(String name) {
+        return name == null || name.isBlank() ? BASE : new ImageVariant(name.trim());
+    }
+
+    /**
+     * Returns the variant that selects the base image.
+     *
+     * @return the variant that selects the base image
+     */
+    public static ImageVariant base() {
+        return BASE;
+    }
+
+    /**
+     * Returns the variant set by the {@value #PROPERTY} system property,
+     * used when the option is not set.
+     *
+     * @return the variant set by the {@value #PROPERTY} system property
+     */
+    @OptionsByType.Default
+    public static ImageVariant fromSystemProperty() {
+        return of(System.getProperty(PROPERTY));
+    }
+
+    /**
+     * Returns the name of the variant.
+     *
+     * @return the name of the variant, empty for the base image
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns {@code true} if this variant selects the base image.
+     *
+     * @return {@code true} if this variant selects the base image
+     */
+    public boolean isBase() {
+        return name.isEmpty();
+    }
+
+    /**
+     * Returns the path of this variant of an image.
+     *
+     * @param image  the path of the base image
+     *
+     * @return the path of this variant of the image
+     */
+    public String apply(String image) {
+        return isBase() ? image : image + "-" + name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ImageVariant other && name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(name);
+    }
+
+    @Override
+    public String toString() {
+        return isBase() ? "ImageVariant(base)" : "ImageVariant(" + name + ")";
+    }
+}
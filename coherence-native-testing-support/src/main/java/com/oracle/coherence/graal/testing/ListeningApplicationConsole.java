@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 18/10/2026, 10:34, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.testing;
+
+import com.oracle.bedrock.runtime.ApplicationConsole;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * An {@link ApplicationConsole} that passes each complete line an application
+ * writes to its standard output or standard error to a listener, as well as
+ * to another {@link ApplicationConsole}.
+ * <p>
+ * This lets a test react to an application logging a line, for example that
+ * it has started, as soon as the line is written instead of polling.
+ */
+public class ListeningApplicationConsole implements ApplicationConsole {
+
+    /**
+     * The console the output is also written to.
+     */
+    private final ApplicationConsole delegate;
+
+    /**
+     * The writer for the standard output.
+     */
+    private final PrintWriter outputWriter;
+
+    /**
+     * The writer for the standard error.
+     */
+    private final PrintWriter errorWriter;
+
+    /**
+     * Create a {@link ListeningApplicationConsole}.
+     *
+     * @param delegate  the console the output is also written to
+     * @param listener  the listener to pass each line to
+     */
+    public ListeningApplicationConsole(ApplicationConsole delegate, Consumer<String> listener) {
+        this.delegate = delegate;
+        this.outputWriter = new PrintWriter(new LineWriter(delegate.getOutputWriter(), listener), true);
+        this.errorWriter = new PrintWriter(new LineWriter(delegate.getErrorWriter(), listener), true);
+    }
+
+    @Override
+    public PrintWriter getOutputWriter() {
+        return outputWriter;
+    }
+
+    @Override
+    public PrintWriter getErrorWriter() {
+        return errorWriter;
+    }
+
+    @Override
+    public Reader getInputReader() {
+        return delegate.getInputReader();
+    }
+
+    @Override
+    public boolean isDiagnosticsEnabled() {
+        return delegate.isDiagnosticsEnabled();
+    }
+
+    @Override
+    public void close() {
+        outputWriter.flush();
+        errorWriter.flush();
+        delegate.close();
+    }
+
+    /**
+     * A {@link Writer} that collects characters into lines for a listener
+     * and also writes them to another {@link Writer}.
+     */
+    private static class LineWriter extends Writer {
+
+        private final Writer delegate;
+
+        private final Consumer<String> listener;
+
+        private final StringBuilder line = new StringBuilder();
+
+        LineWriter(Writer delegate, Consumer<String> listener) {
+            this.delegate = delegate;
+            this.listener = listener;
+        }
+
+        @Override
+        public synchronized void write(char[] chars, int offset, int length) throws IOException {
+            if (delegate != null) {
+                delegate.write(chars, offset, length);
+            }
+            for (int i = offset; i < offset + length; i++) {
+                char c = chars[i];
+                if (c == '\n') {
+                    listener.accept(line.toString());
+                    line.setLength(0);
+                } else if (c != '\r') {
+                    line.append(c);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (delegate != null) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -15,17 +15,13 @@ import com.oracle.bedrock.runtime.java.ClassPath;
 import com.oracle.bedrock.runtime.java.options.ClassName;
 import com.oracle.bedrock.runtime.options.ApplicationClosingBehavior;
 import com.oracle.bedrock.runtime.options.Argument;
+import com.oracle.bedrock.runtime.options.DisplayName;
 import com.oracle.bedrock.runtime.options.Executable;
-import com.oracle.bedrock.testsupport.MavenProjectFileUtils;
 
 import java.io.File;
 import java.net.URL;
-import java.nio.file.DirectoryStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.function.Predicate;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -167,12 +163,20 @@ public interface NativeApplication
      */
     OptionsByType getOptions();
 
+    /**
+     * Obtains the {@link ProcessResourceSampler} sampling the resources used by
+     * the {@link NativeApplication}, when it was launched with an enabled
+     * {@link ResourceSampling} option.
+     *
+     * @return the {@link ProcessResourceSampler}, or {@code null} if the
+     * resources are not sampled
+     */
+    ProcessResourceSampler getResourceSampler();
+
     /**
      * The {@link com.oracle.bedrock.runtime.MetaClass} for generic {@link NativeApplication}s.
      */
     class MetaClass implements com.oracle.bedrock.runtime.MetaClass<NativeApplication> {
-        private static final Pattern VERSION_PATTERN = Pattern.compile("(.*)-\\d+\\.\\d+\\.\\d+(-SNAPSHOT)?(\\.jar)$");
-
         /**
          * Constructs a {@link MetaClass} for a {@link NativeApplication}.
          */
@@ -192,53 +196,27 @@ public interface NativeApplication
             ClassName className = options.get(ClassName.class);
 
             if (isNativeTest) {
+                ImageVariant variant = options.get(ImageVariant.class);
                 if (nativeImage == null || nativeImage.isBlank()) {
-                    // no native image set, so try to work it out from the class name
-                    Class<?> clz;
-                    try {
-                        clz = Class.forName(className.getName());
-
-                        File buildFolder = MavenProjectFileUtils.locateBuildFolder(clz);
-
-                        if (buildFolder == null) {
-                            throw new IllegalStateException("Unable to locate build folder for " + clz);
-                        }
-
-                        if (!buildFolder.exists()) {
-                            throw new IllegalStateException("Non-existent build folder for " + clz);
-                        }
-
-                        if (!buildFolder.isDirectory()) {
-                            throw new IllegalStateException("Build folder " + buildFolder + " is not a directory");
-                        }
-
-
-                        try (DirectoryStream<Path> stream = Files.newDirectoryStream(buildFolder.toPath())) {
-                            for (Path path : stream) {
-                                File file = path.toFile();
-                                String fileName = file.getAbsolutePath();
-                                if (fileName.endsWith(".jar")) {
-                                    String stripped = stripVersion(fileName);
-                                    File imageFile = new File(stripped);
-                                    if (imageFile.exists() && imageFile.isFile()) {
-                                        nativeImage = imageFile.getAbsolutePath();
-                                        break;
-                                    }
-                                }
-                            }
-                        }
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-
-                    if (nativeImage == null) {
-                        throw new RuntimeException("Could not find native image from class  " + clz);
-                    }
+                    // no native image set, so work it out from the class name
+                    nativeImage = NativeImages.resolve(className.getName(), variant).getAbsolutePath();
+                } else {
+                    nativeImage = variant.apply(nativeImage);
                 }
 
                 options.add(Executable.named(nativeImage));
                 options.remove(ClassName.class);
                 options.remove(ClassPath.class);
+
+                String pgoDir = System.getProperty("coherence.native.pgo.dir");
+                if (pgoDir != null && !pgoDir.isBlank()) {
+                    // the image is PGO instrumented, so give each process its own profile file
+                    DisplayName displayName = options.get(DisplayName.class);
+                    String name = displayName == null ? String.valueOf(System.nanoTime()) : displayName.resolve(options);
+                    File profile = new File(pgoDir, name + ".iprof");
+                    profile.getParentFile().mkdirs();
+                    options.add(Argument.of("-XX:ProfilesDumpFile=" + profile.getAbsolutePath()));
+                }
             } else {
                 options.add(Executable.named("java"));
 
@@ -265,14 +243,5 @@ public interface NativeApplication
         @Override
         public void onLaunched(Platform platform, NativeApplication application, OptionsByType options) {
         }
-
-        private String stripVersion(String jar) {
-            Matcher matcher = VERSION_PATTERN.matcher(jar);
-            if (matcher.matches()) {
-                return matcher.group(1);
-            }
-            throw new IllegalArgumentException("Cannot strip version from jar name " + jar);
-        }
-
     }
 }
@@ -0,0 +1,513 @@
+/*
+ * Copyright (c) 18/10/2026, 10:34, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.testing;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.options.Timeout;
+import com.oracle.bedrock.runtime.ApplicationConsole;
+import com.oracle.bedrock.runtime.ApplicationConsoleBuilder;
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.console.NullApplicationConsole;
+import com.oracle.bedrock.runtime.java.ClassPath;
+import com.oracle.bedrock.runtime.java.options.ClassName;
+import com.oracle.bedrock.runtime.options.Arguments;
+import com.oracle.bedrock.runtime.options.Console;
+import com.oracle.bedrock.runtime.options.DisplayName;
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+
+import com.tangosol.net.Cluster;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.PartitionedService;
+import com.tangosol.net.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * A Coherence cluster of {@link NativeApplication} members launched by Bedrock,
+ * joined by a storage disabled member running in the test JVM.
+ * <p>
+ * The members and the local member are all started at the same time. Instead of
+ * polling the cluster membership, a member is ready when it writes the ready line,
+ * by default the {@value #DEFAULT_READY_LINE} line logged by {@code Coherence.main},
+ * to its console. Once every member is ready the cluster is only checked once more
+ * to confirm that every member owns partitions of each partitioned service.
+ * <p>
+ * The local member is a process-wide singleton that is configured with the system
+ * properties of the cluster, so only one cluster with a local member can run in a
+ * JVM at a time. The system properties are restored when the cluster is closed.
+ * <pre>
+ * try (NativeCluster cluster = NativeCluster.builder("my-cluster")
+ *         .mainClass(Server.class)
+ *         .members(2)
+ *         .start()) {
+ *     NamedCache&lt;String, String&gt; cache = cluster.getCoherence().getSession().getCache("test");
+ * }
+ * </pre>
+ */
+public class NativeCluster implements AutoCloseable {
+
+    /**
+     * The default line that shows that a member has started.
+     */
+    public static final String DEFAULT_READY_LINE = "Started Coherence server";
+
+    /**
+     * The name of the cluster that the local member in this JVM has joined.
+     */
+    private static final AtomicReference<String> LOCAL_CLUSTER = new AtomicReference<>();
+
+    /**
+     * The name of the cluster.
+     */
+    private final String name;
+
+    /**
+     * The cluster members started by Bedrock.
+     */
+    private final List<NativeApplication> members;
+
+    /**
+     * The Coherence instance running in the test JVM.
+     */
+    private final Coherence coherence;
+
+    /**
+     * The previous values of the system properties set for the local member,
+     * or {@code null} if there is no local member.
+     */
+    private final Map<String, String> previousProperties;
+
+    private NativeCluster(String name, List<NativeApplication> members, Coherence coherence,
+                          Map<String, String> previousProperties) {
+        this.name = name;
+        this.members = members;
+        this.coherence = coherence;
+        this.previousProperties = previousProperties;
+    }
+
+    /**
+     * Create a {@link Builder} for a cluster.
+     *
+     * @param name  the name of the cluster
+     *
+     * @return a {@link Builder} for the cluster
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Returns the name of the cluster.
+     *
+     * @return the name of the cluster
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the cluster members started by Bedrock.
+     *
+     * @return the cluster members started by Bedrock
+     */
+    public List<NativeApplication> getMembers() {
+        return members;
+    }
+
+    /**
+     * Returns the Coherence instance running in the test JVM.
+     *
+     * @return the Coherence instance running in the test JVM
+     */
+    public Coherence getCoherence() {
+        return coherence;
+    }
+
+    @Override
+    public void close() {
+        for (NativeApplication member : members) {
+            member.close();
+        }
+        if (coherence != null) {
+            coherence.close();
+        }
+        if (previousProperties != null) {
+            restoreProperties(previousProperties);
+            LOCAL_CLUSTER.compareAndSet(name, null);
+        }
+    }
+
+    /**
+     * Set the system properties of the local member.
+     *
+     * @param properties  the system properties to set
+     *
+     * @return the previous values of the system properties, with a {@code null}
+     *         value for the properties that were not set
+     */
+    private static Map<String, String> setProperties(Map<String, String> properties) {
+        Map<String, String> previous = new LinkedHashMap<>();
+        properties.forEach((key, value) -> previous.put(key, System.setProperty(key, value)));
+        return previous;
+    }
+
+    /**
+     * Restore the system properties changed for the local member.
+     *
+     * @param previous  the previous values of the system properties
+     */
+    private static void restoreProperties(Map<String, String> previous) {
+        previous.forEach((key, value) -> {
+            if (value == null) {
+                System.clearProperty(key);
+            } else {
+                System.setProperty(key, value);
+            }
+        });
+    }
+
+    /**
+     * A builder of a {@link NativeCluster}.
+     */
+    public static class Builder {
+
+        /**
+         * The name of the cluster.
+         */
+        private final String name;
+
+        /**
+         * The system properties of the members and the test JVM member.
+         */
+        private final Map<String, String> properties = new LinkedHashMap<>();
+
+        /**
+         * The main class of the members.
+         */
+        private Class<?> mainClass;
+
+        /**
+         * The class path of the members.
+         */
+        private ClassPath classPath = ClassPath.automatic();
+
+        /**
+         * The number of members.
+         */
+        private int memberCount = 1;
+
+        /**
+         * The prefix of the display names of the members.
+         */
+        private String memberPrefix = "server-";
+
+        /**
+         * The line that shows that a member has started.
+         */
+        private String readyLine = DEFAULT_READY_LINE;
+
+        /**
+         * The variant of the native image the members run.
+         */
+        private ImageVariant variant;
+
+        /**
+         * The builder of the console of each member.
+         */
+        private ApplicationConsoleBuilder consoleBuilder;
+
+        /**
+         * How long to wait for the cluster to start.
+         */
+        private Duration timeout = Duration.ofMinutes(5);
+
+        /**
+         * {@code true} to start a storage disabled member in the test JVM.
+         */
+        private boolean localMember = true;
+
+        private Builder(String name) {
+            this.name = name;
+            properties.put("coherence.cluster", name);
+            properties.put("coherence.localhost", "127.0.0.1");
+            properties.put("coherence.wka", "127.0.0.1");
+        }
+
+        /**
+         * Returns the name of the cluster.
+         *
+         * @return the name of the cluster
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Set the main class of the members.
+         *
+         * @param mainClass  the main class of the members
+         *
+         * @return this {@link Builder}
+         */
+        public Builder mainClass(Class<?> mainClass) {
+            this.mainClass = mainClass;
+            return this;
+        }
+
+        /**
+         * Set the class path of the members.
+         *
+         * @param classPath  the class path of the members
+         *
+         * @return this {@link Builder}
+         */
+        public Builder classPath(ClassPath classPath) {
+            this.classPath = classPath;
+            return this;
+        }
+
+        /**
+         * Set the number of members.
+         *
+         * @param memberCount  the number of members
+         *
+         * @return this {@link Builder}
+         */
+        public Builder members(int memberCount) {
+            this.memberCount = memberCount;
+            return this;
+        }
+
+        /**
+         * Set the prefix of the display names of the members, which are
+         * numbered from one.
+         *
+         * @param memberPrefix  the prefix of the display names of the members
+         *
+         * @return this {@link Builder}
+         */
+        public Builder memberPrefix(String memberPrefix) {
+            this.memberPrefix = memberPrefix;
+            return this;
+        }
+
+        /**
+         * Set a system property of the members and the test JVM member.
+         *
+         * @param name   the name of the property
+         * @param value  the value of the property
+         *
+         * @return this {@link Builder}
+         */
+        public Builder systemProperty(String name, String value) {
+            properties.put(name, value);
+            return this;
+        }
+
+        /**
+         * Set the variant of the native image the members run when running
+         * native tests, by default the {@link ImageVariant#PROPERTY} variant.
+         *
+         * @param variant  the variant of the native image the members run
+         *
+         * @return this {@link Builder}
+         */
+        public Builder variant(ImageVariant variant) {
+            this.variant = variant;
+            return this;
+        }
+
+        /**
+         * Set the line that shows that a member has started.
+         *
+         * @param readyLine  the text of the line that shows that a member has started
+         *
+         * @return this {@link Builder}
+         */
+        public Builder readyWhen(String readyLine) {
+            this.readyLine = readyLine;
+            return this;
+        }
+
+        /**
+         * Set the builder of the console of each member, for example a
+         * {@code TestLogsExtension}.
+         *
+         * @param consoleBuilder  the builder of the console of each member
+         *
+         * @return this {@link Builder}
+         */
+        public Builder console(ApplicationConsoleBuilder consoleBuilder) {
+            this.consoleBuilder = consoleBuilder;
+            return this;
+        }
+
+        /**
+         * Set how long to wait for the cluster to start.
+         *
+         * @param timeout  how long to wait for the cluster to start
+         *
+         * @return this {@link Builder}
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Set whether to start a storage disabled member in the test JVM.
+         *
+         * @param localMember  {@code true} to start a storage disabled member in the test JVM
+         *
+         * @return this {@link Builder}
+         */
+        public Builder localMember(boolean localMember) {
+            this.localMember = localMember;
+            return this;
+        }
+
+        /**
+         * Start the cluster and wait for every member to be ready.
+         *
+         * @return the started {@link NativeCluster}
+         *
+         * @throws Exception if the cluster does not start within the timeout
+         */
+        public NativeCluster start() throws Exception {
+            if (mainClass == null) {
+                throw new IllegalStateException("The main class of the members must be set");
+            }
+
+            List<String> args = new ArrayList<>();
+            args.add("-Djava.net.preferIPv4Stack=true");
+            properties.forEach((key, value) -> args.add("-D" + key + "=" + value));
+
+            CountDownLatch ready = new CountDownLatch(memberCount);
+            ExecutorService executor = Executors.newFixedThreadPool(memberCount + 1);
+            List<CompletableFuture<NativeApplication>> launches = new ArrayList<>();
+            CompletableFuture<Coherence> local = null;
+            Map<String, String> previousProperties = null;
+            List<NativeApplication> members = new ArrayList<>();
+            long deadline = System.nanoTime() + timeout.toNanos();
+            try {
+                if (localMember) {
+                    if (!LOCAL_CLUSTER.compareAndSet(null, name)) {
+                        throw new IllegalStateException("Cannot start cluster " + name
+                                + " with a local member, this JVM is already a member of cluster " + LOCAL_CLUSTER.get());
+                    }
+                    Map<String, String> localProperties = new LinkedHashMap<>(properties);
+                    localProperties.put("coherence.distributed.localstorage", "false");
+                    previousProperties = setProperties(localProperties);
+                    local = CompletableFuture.supplyAsync(() -> Coherence.clusterMember().start().join(), executor);
+                }
+
+                for (int i = 1; i <= memberCount; i++) {
+                    String displayName = memberPrefix + i;
+                    List<Option> options = new ArrayList<>(List.of(Arguments.of(args.toArray()),
+                            ClassName.of(mainClass),
+                            classPath,
+                            DisplayName.of(displayName),
+                            Console.of(readyConsole(displayName, ready))));
+                    if (variant != null) {
+                        options.add(variant);
+                    }
+                    launches.add(CompletableFuture.supplyAsync(() -> LocalPlatform.get()
+                            .launch(NativeApplication.class, options.toArray(Option[]::new)), executor));
+                }
+
+                for (CompletableFuture<NativeApplication> launch : launches) {
+                    members.add(launch.get(remaining(deadline), TimeUnit.NANOSECONDS));
+                }
+                if (!ready.await(remaining(deadline), TimeUnit.NANOSECONDS)) {
+                    throw new TimeoutException("Only " + (memberCount - ready.getCount()) + " of " + memberCount
+                            + " members of cluster " + name + " logged '" + readyLine + "' within " + timeout);
+                }
+
+                Coherence coherence = null;
+                if (local != null) {
+                    coherence = local.get(remaining(deadline), TimeUnit.NANOSECONDS);
+                    awaitOwnership(coherence.getCluster(), remaining(deadline));
+                }
+                return new NativeCluster(name, members, coherence, previousProperties);
+            } catch (Exception e) {
+                for (CompletableFuture<NativeApplication> launch : launches) {
+                    launch.thenAccept(NativeApplication::close);
+                }
+                if (local != null) {
+                    local.thenAccept(Coherence::close);
+                }
+                if (previousProperties != null) {
+                    restoreProperties(previousProperties);
+                    LOCAL_CLUSTER.compareAndSet(name, null);
+                }
+                throw e;
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        /**
+         * Create the console of a member, which counts down the ready latch when
+         * the member writes the ready line.
+         *
+         * @param displayName  the display name of the member
+         * @param ready        the ready latch
+         *
+         * @return the console of the member
+         */
+        private ApplicationConsole readyConsole(String displayName, CountDownLatch ready) {
+            ApplicationConsole delegate = consoleBuilder == null
+                    ? new NullApplicationConsole()
+                    : consoleBuilder.build(displayName);
+            AtomicBoolean seen = new AtomicBoolean();
+            return new ListeningApplicationConsole(delegate, line -> {
+                if (line.contains(readyLine) && seen.compareAndSet(false, true)) {
+                    ready.countDown();
+                }
+            });
+        }
+
+        /**
+         * Confirm that every member is an ownership enabled member of each
+         * partitioned service. The members have already started their services,
+         * so this normally succeeds on the first check.
+         *
+         * @param cluster        the cluster
+         * @param timeoutNanos   how long to wait
+         */
+        private void awaitOwnership(Cluster cluster, long timeoutNanos) {
+            Enumeration<String> serviceNames = cluster.getServiceNames();
+            while (serviceNames.hasMoreElements()) {
+                Service service = cluster.getService(serviceNames.nextElement());
+                if (service instanceof PartitionedService partitionedService) {
+                    Eventually.assertDeferred(() -> partitionedService.getOwnershipEnabledMembers().size(),
+                            is(memberCount),
+                            Timeout.of(Math.max(timeoutNanos, 0), TimeUnit.NANOSECONDS));
+                }
+            }
+        }
+
+        private static long remaining(long deadline) {
+            return Math.max(deadline - System.nanoTime(), 0);
+        }
+    }
+}
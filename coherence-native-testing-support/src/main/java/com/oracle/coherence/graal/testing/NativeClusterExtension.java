@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 18/10/2026, 10:34, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.testing;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.function.Supplier;
+
+/**
+ * A JUnit extension that starts a {@link NativeCluster} before the tests of
+ * a class and stops it afterward.
+ * <p>
+ * A shared cluster is started by the first test class that uses it and is kept
+ * warm for the other test classes in the same JVM that share a cluster with the
+ * same name. It is stopped when all the tests have run.
+ * <p>
+ * The test JVM can only be a member of one cluster at a time, so there can only be
+ * one shared cluster per JVM, and while it is running the other test classes can
+ * only start clusters without a local member.
+ * <pre>
+ * &#64;RegisterExtension
+ * static NativeClusterExtension cluster = new NativeClusterExtension(() -&gt;
+ *         NativeCluster.builder("my-cluster").mainClass(Server.class).members(2))
+ *         .shared();
+ * </pre>
+ */
+public class NativeClusterExtension implements BeforeAllCallback, AfterAllCallback {
+
+    /**
+     * The namespace of the shared clusters in the root extension context store.
+     */
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(NativeClusterExtension.class);
+
+    /**
+     * The key of the shared cluster in the root extension context store.
+     */
+    private static final String SHARED_KEY = "shared-cluster";
+
+    /**
+     * The supplier of the builder of the cluster.
+     */
+    private final Supplier<NativeCluster.Builder> builder;
+
+    /**
+     * {@code true} if the cluster is shared with other test classes.
+     */
+    private boolean shared;
+
+    /**
+     * The started cluster.
+     */
+    private NativeCluster cluster;
+
+    /**
+     * Create a {@link NativeClusterExtension}.
+     *
+     * @param builder  the supplier of the builder of the cluster, which is only
+     *                 called if the cluster has to be started
+     */
+    public NativeClusterExtension(Supplier<NativeCluster.Builder> builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Share the cluster with the other test classes that use a cluster with the same name.
+     * Only one cluster can be shared per JVM, a test class that shares a cluster with a
+     * different name fails.
+     *
+     * @return this {@link NativeClusterExtension}
+     */
+    public NativeClusterExtension shared() {
+        this.shared = true;
+        return this;
+    }
+
+    /**
+     * Returns the started cluster.
+     *
+     * @return the started cluster
+     */
+    public NativeCluster getCluster() {
+        if (cluster == null) {
+            throw new IllegalStateException("The cluster has not been started");
+        }
+        return cluster;
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) throws Exception {
+        NativeCluster.Builder clusterBuilder = builder.get();
+        if (shared) {
+            ExtensionContext.Store store = context.getRoot().getStore(NAMESPACE);
+            NativeCluster sharedCluster = store.getOrComputeIfAbsent(SHARED_KEY,
+                    key -> new SharedCluster(start(clusterBuilder)), SharedCluster.class).cluster;
+            if (!sharedCluster.getName().equals(clusterBuilder.getName())) {
+                throw new IllegalStateException("Cannot share cluster " + clusterBuilder.getName()
+                        + ", cluster " + sharedCluster.getName() + " is already shared in this JVM");
+            }
+            cluster = sharedCluster;
+        } else {
+            cluster = clusterBuilder.start();
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        if (!shared && cluster != null) {
+            cluster.close();
+        }
+        cluster = null;
+    }
+
+    private static NativeCluster start(NativeCluster.Builder builder) {
+        try {
+            return builder.start();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to start cluster " + builder.getName(), e);
+        }
+    }
+
+    /**
+     * A shared cluster, closed by JUnit when the root extension context is closed.
+     *
+     * @param cluster  the shared cluster
+     */
+    private record SharedCluster(NativeCluster cluster) implements ExtensionContext.Store.CloseableResource {
+
+        @Override
+        public void close() {
+            cluster.close();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 18/10/2026, 10:35, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.testing;
+
+import com.oracle.bedrock.testsupport.MavenProjectFileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Locates the native images built for a main class.
+ * <p>
+ * The native image of a main class is found in the Maven build folder of the
+ * class, named after the project jar with the version removed. The images built
+ * next to it with a {@code -<variant>} suffix, such as the PGO and GC variants,
+ * are its {@link ImageVariant variants}.
+ * <p>
+ * Each build folder is only scanned once, the first time one of its classes is
+ * resolved, and the resolved images are cached by class name for the rest of
+ * the test run, so launching a large cluster does not repeat the class loading
+ * and directory scans for every member.
+ */
+public final class NativeImages {
+
+    /**
+     * The pattern of a versioned jar file name.
+     */
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(.*)-\\d+\\.\\d+\\.\\d+(-SNAPSHOT)?(\\.jar)$");
+
+    /**
+     * The images of each main class, keyed by class name.
+     */
+    private static final Map<String, Images> BY_CLASS = new ConcurrentHashMap<>();
+
+    /**
+     * The images in each build folder, keyed by folder.
+     */
+    private static final Map<File, Images> BY_FOLDER = new ConcurrentHashMap<>();
+
+    private NativeImages() {
+    }
+
+    /**
+     * Resolve a variant of the native image of a main class.
+     *
+     * @param className  the name of the main class
+     * @param variant    the variant of the image
+     *
+     * @return the native image file
+     *
+     * @throws IllegalStateException if the image cannot be found
+     */
+    public static File resolve(String className, ImageVariant variant) {
+        Images images = images(className);
+        File image = images.variants().get(variant.getName());
+        if (image == null) {
+            throw new IllegalStateException("Could not find the " + variant + " native image of " + className
+                    + " in " + images.folder() + ", the available variants are " + images.variants().keySet());
+        }
+        return image;
+    }
+
+    /**
+     * Returns the native images of a main class, keyed by variant name.
+     * The base image has an empty variant name.
+     *
+     * @param className  the name of the main class
+     *
+     * @return the native images of the main class
+     */
+    public static Map<String, File> variants(String className) {
+        return images(className).variants();
+    }
+
+    /**
+     * Clear the cached images, so that images built during the test run are found.
+     */
+    public static void clear() {
+        BY_CLASS.clear();
+        BY_FOLDER.clear();
+    }
+
+    private static Images images(String className) {
+        return BY_CLASS.computeIfAbsent(className, name -> {
+            File buildFolder = locateBuildFolder(name);
+            return BY_FOLDER.computeIfAbsent(buildFolder, NativeImages::scan);
+        });
+    }
+
+    private static File locateBuildFolder(String className) {
+        Class<?> clz;
+        try {
+            clz = Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to load class " + className, e);
+        }
+
+        File buildFolder = MavenProjectFileUtils.locateBuildFolder(clz);
+        if (buildFolder == null) {
+            throw new IllegalStateException("Unable to locate build folder for " + clz);
+        }
+        if (!buildFolder.exists()) {
+            throw new IllegalStateException("Non-existent build folder for " + clz);
+        }
+        if (!buildFolder.isDirectory()) {
+            throw new IllegalStateException("Build folder " + buildFolder + " is not a directory");
+        }
+        return buildFolder;
+    }
+
+    /**
+     * Scan a build folder for the images named after its jar files.
+     *
+     * @param buildFolder  the build folder
+     *
+     * @return the images in the build folder
+     */
+    private static Images scan(File buildFolder) {
+        List<String> baseNames = new ArrayList<>();
+        List<File> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(buildFolder.toPath())) {
+            for (Path path : stream) {
+                File file = path.toFile();
+                String fileName = file.getName();
+                if (fileName.endsWith(".jar")) {
+                    Matcher matcher = VERSION_PATTERN.matcher(fileName);
+                    if (matcher.matches()) {
+                        baseNames.add(matcher.group(1));
+                    }
+                } else if (file.isFile() && file.canExecute()) {
+                    files.add(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan build folder " + buildFolder, e);
+        }
+
+        for (String baseName : baseNames) {
+            Map<String, File> variants = new TreeMap<>();
+            for (File file : files) {
+                String fileName = file.getName();
+                if (fileName.endsWith(".exe")) {
+                    fileName = fileName.substring(0, fileName.length() - 4);
+                }
+                if (fileName.equals(baseName)) {
+                    variants.put("", file.getAbsoluteFile());
+                } else if (fileName.startsWith(baseName + "-") && fileName.indexOf('.') < 0) {
+                    variants.put(fileName.substring(baseName.length() + 1), file.getAbsoluteFile());
+                }
+            }
+            if (!variants.isEmpty()) {
+                return new Images(buildFolder, Collections.unmodifiableMap(variants));
+            }
+        }
+        throw new IllegalStateException("Could not find a native image in " + buildFolder);
+    }
+
+    /**
+     * The native images in a build folder.
+     *
+     * @param folder    the build folder
+     * @param variants  the images keyed by variant name
+     */
+    private record Images(File folder, Map<String, File> variants) {
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 18/10/2026, 10:37, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.testing;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically samples the resources used by a process, its resident set size,
+ * CPU time, thread count and open file descriptors, so that a test can check
+ * the footprint of the processes it launched.
+ * <p>
+ * A sampler is started for a {@link NativeApplication} when it is launched with
+ * an enabled {@link ResourceSampling} option, and is closed with the application.
+ * <p>
+ * The samples are written to a file named after the cluster, the process and its
+ * id, so that tests that launch members with the same names, or restart members,
+ * do not overwrite each other's samples.
+ */
+public class ProcessResourceSampler implements AutoCloseable {
+
+    /**
+     * The scheduler that takes the samples of all processes.
+     */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ProcessResourceSampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The Coherence system property that sets the cluster name.
+     */
+    static final String PROP_CLUSTER = "coherence.cluster";
+
+    /**
+     * The name of the sampled process.
+     */
+    private final String name;
+
+    /**
+     * The name of the cluster the process belongs to, or {@code null}.
+     */
+    private final String cluster;
+
+    /**
+     * The id of the sampled process.
+     */
+    private final long pid;
+
+    /**
+     * The sampling configuration.
+     */
+    private final ResourceSampling sampling;
+
+    /**
+     * The samples taken so far.
+     */
+    private final List<ResourceSample> samples = new ArrayList<>();
+
+    /**
+     * The scheduled sampling task.
+     */
+    private volatile ScheduledFuture<?> future;
+
+    /**
+     * {@code true} once the sampler has been closed.
+     */
+    private boolean closed;
+
+    private ProcessResourceSampler(String name, String cluster, long pid, ResourceSampling sampling) {
+        this.name = name;
+        this.cluster = cluster;
+        this.pid = pid;
+        this.sampling = sampling;
+    }
+
+    /**
+     * Start sampling a process.
+     *
+     * @param name      the name of the process
+     * @param pid       the id of the process
+     * @param sampling  the sampling configuration, which must be enabled
+     *
+     * @return the started sampler
+     */
+    public static ProcessResourceSampler start(String name, long pid, ResourceSampling sampling) {
+        return start(name, null, pid, sampling);
+    }
+
+    /**
+     * Start sampling a process.
+     *
+     * @param name      the name of the process
+     * @param cluster   the name of the cluster the process belongs to, or {@code null}
+     * @param pid       the id of the process
+     * @param sampling  the sampling configuration, which must be enabled
+     *
+     * @return the started sampler
+     */
+    public static ProcessResourceSampler start(String name, String cluster, long pid, ResourceSampling sampling) {
+        if (!sampling.isEnabled()) {
+            throw new IllegalArgumentException("Resource sampling is not enabled");
+        }
+        ProcessResourceSampler sampler = new ProcessResourceSampler(name, cluster, pid, sampling);
+        long interval = sampling.getInterval().toMillis();
+        sampler.future = SCHEDULER.scheduleAtFixedRate(sampler::sample, 0, interval, TimeUnit.MILLISECONDS);
+        return sampler;
+    }
+
+    /**
+     * Returns the name of the sampled process.
+     *
+     * @return the name of the sampled process
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the samples taken so far, oldest first.
+     *
+     * @return the samples taken so far
+     */
+    public synchronized List<ResourceSample> getSamples() {
+        return List.copyOf(samples);
+    }
+
+    /**
+     * Returns the peak resident set size of the process.
+     *
+     * @return the peak resident set size of the process in bytes, or {@code -1} if it is unknown
+     */
+    public synchronized long getPeakRssBytes() {
+        return samples.stream().mapToLong(ResourceSample::rssBytes).max().orElse(-1L);
+    }
+
+    /**
+     * Returns the most CPU time used by the process.
+     *
+     * @return the CPU time used by the process in nanoseconds, or {@code -1} if it is unknown
+     */
+    public synchronized long getCpuTimeNanos() {
+        return samples.stream().mapToLong(ResourceSample::cpuTimeNanos).max().orElse(-1L);
+    }
+
+    /**
+     * Returns the peak number of threads of the process.
+     *
+     * @return the peak number of threads of the process, or {@code -1} if it is unknown
+     */
+    public synchronized int getPeakThreadCount() {
+        return samples.stream().mapToInt(ResourceSample::threadCount).max().orElse(-1);
+    }
+
+    /**
+     * Assert that the resident set size of the process never exceeded a ceiling.
+     *
+     * @param bytes  the maximum resident set size in bytes
+     *
+     * @throws AssertionError if the peak resident set size exceeded the ceiling
+     */
+    public void assertRssBelow(long bytes) {
+        long peak = getPeakRssBytes();
+        if (peak > bytes) {
+            throw new AssertionError("The peak RSS of " + name + " was " + toMegabytes(peak)
+                    + "MB, which exceeds the ceiling of " + toMegabytes(bytes) + "MB");
+        }
+    }
+
+    /**
+     * Returns the name of the CSV file the samples are written to, made of the
+     * cluster name, the process name and the process id.
+     *
+     * @return the name of the CSV file
+     */
+    public String getFileName() {
+        String prefix = cluster == null || cluster.isBlank() ? "" : cluster + "-";
+        return (prefix + name + "-" + pid).replaceAll("[^A-Za-z0-9._-]", "_") + "-resources.csv";
+    }
+
+    /**
+     * Write the samples as a CSV file named after the cluster and the process.
+     *
+     * @param directory  the directory to write the file to
+     *
+     * @return the file written
+     */
+    public File writeCsv(File directory) {
+        File file = new File(directory, getFileName());
+        directory.mkdirs();
+        try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8)) {
+            writer.println(ResourceSample.CSV_HEADER);
+            for (ResourceSample sample : getSamples()) {
+                writer.println(sample.toCsv());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the resource samples of " + name + " to " + file, e);
+        }
+        return file;
+    }
+
+    /**
+     * Stop sampling, write the samples to the configured directory and check
+     * the configured resident set size ceiling.
+     *
+     * @throws AssertionError if the peak resident set size exceeded the configured ceiling
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        future.cancel(false);
+        if (sampling.getDirectory() != null) {
+            writeCsv(sampling.getDirectory());
+        }
+        if (sampling.getRssCeilingBytes() > 0) {
+            assertRssBelow(sampling.getRssCeilingBytes());
+        }
+    }
+
+    /**
+     * Take a sample, stopping when the process has exited.
+     */
+    private void sample() {
+        if (ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false)) {
+            ResourceSample sample = ResourceSample.read(pid);
+            synchronized (this) {
+                samples.add(sample);
+            }
+        } else if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    private static long toMegabytes(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+}
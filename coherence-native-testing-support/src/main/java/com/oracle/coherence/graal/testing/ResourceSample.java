@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 18/10/2026, 10:37, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.testing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+/**
+ * A sample of the resources used by a process, read from {@code /proc/<pid>}.
+ * <p>
+ * Any value that cannot be determined, for example when not running on Linux,
+ * is {@code -1}.
+ *
+ * @param timestampMillis  the time the sample was taken, in milliseconds since the epoch
+ * @param rssBytes         the resident set size of the process in bytes
+ * @param cpuTimeNanos     the total CPU time used by the process in nanoseconds
+ * @param threadCount      the number of threads of the process
+ * @param openFileCount    the number of open file descriptors of the process
+ */
+public record ResourceSample(long timestampMillis, long rssBytes, long cpuTimeNanos, int threadCount, int openFileCount) {
+
+    /**
+     * The header of the CSV format of a sample.
+     */
+    public static final String CSV_HEADER = "timestamp_millis,rss_bytes,cpu_time_nanos,threads,open_files";
+
+    /**
+     * Read a sample of the resources used by a process.
+     *
+     * @param pid  the process id
+     *
+     * @return a sample of the resources used by the process
+     */
+    public static ResourceSample read(long pid) {
+        long timestamp = System.currentTimeMillis();
+        long rss = -1;
+        int threads = -1;
+        int files = -1;
+        long cpu = -1;
+
+        if (pid >= 0) {
+            Path proc = Path.of("/proc", String.valueOf(pid));
+            Path status = proc.resolve("status");
+            if (Files.isReadable(status)) {
+                try {
+                    for (String line : Files.readAllLines(status)) {
+                        if (line.startsWith("VmRSS:")) {
+                            rss = Long.parseLong(line.substring(6).trim().split("\\s+")[0]) * 1024L;
+                        } else if (line.startsWith("Threads:")) {
+                            threads = Integer.parseInt(line.substring(8).trim());
+                        }
+                    }
+                } catch (IOException | NumberFormatException e) {
+                    // the process may have exited, leave the values unknown
+                }
+            }
+
+            Path fd = proc.resolve("fd");
+            if (Files.isReadable(fd)) {
+                try (Stream<Path> stream = Files.list(fd)) {
+                    files = (int) stream.count();
+                } catch (IOException e) {
+                    // the process may have exited, leave the value unknown
+                }
+            }
+
+            cpu = ProcessHandle.of(pid)
+                    .flatMap(handle -> handle.info().totalCpuDuration())
+                    .map(Duration::toNanos)
+                    .orElse(-1L);
+        }
+        return new ResourceSample(timestamp, rss, cpu, threads, files);
+    }
+
+    /**
+     * Returns this sample in the CSV format described by {@link #CSV_HEADER}.
+     *
+     * @return this sample in the CSV format
+     */
+    public String toCsv() {
+        return timestampMillis + "," + rssBytes + "," + cpuTimeNanos + "," + threadCount + "," + openFileCount;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 18/10/2026, 10:37, Oracle and/or its affiliates.
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.graal.testing;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+
+import java.io.File;
+import java.time.Duration;
+
+/**
+ * An {@link Option} to sample the resources used by a launched
+ * {@link NativeApplication} with a {@link ProcessResourceSampler}.
+ * <p>
+ * If the option is not set, it is configured from system properties:
+ * <ul>
+ *     <li>{@value #PROP_INTERVAL} - the sampling interval in milliseconds, sampling is
+ *     enabled if this or the {@value #PROP_DIR} property is set, default {@code 1000}</li>
+ *     <li>{@value #PROP_DIR} - the directory each application's samples are written
+ *     to as a CSV file when the application is closed</li>
+ *     <li>{@value #PROP_RSS_CEILING} - the maximum resident set size of an application
+ *     in megabytes, checked when the application is closed</li>
+ * </ul>
+ */
+public class ResourceSampling implements Option {
+
+    /**
+     * The system property to set the sampling interval in milliseconds.
+     */
+    public static final String PROP_INTERVAL = "coherence.native.sampling.interval";
+
+    /**
+     * The system property to set the directory the samples are written to.
+     */
+    public static final String PROP_DIR = "coherence.native.sampling.dir";
+
+    /**
+     * The system property to set the maximum resident set size in megabytes.
+     */
+    public static final String PROP_RSS_CEILING = "coherence.native.sampling.rss.ceiling";
+
+    /**
+     * The default sampling interval.
+     */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * The option that disables sampling.
+     */
+    private static final ResourceSampling DISABLED = new ResourceSampling(null, null, -1);
+
+    /**
+     * The sampling interval, {@code null} if sampling is disabled.
+     */
+    private final Duration interval;
+
+    /**
+     * The directory the samples are written to, or {@code null}.
+     */
+    private final File directory;
+
+    /**
+     * The maximum resident set size in bytes, or {@code -1} if there is no maximum.
+     */
+    private final long rssCeilingBytes;
+
+    private ResourceSampling(Duration interval, File directory, long rssCeilingBytes) {
+        this.interval = interval;
+        this.directory = directory;
+        this.rssCeilingBytes = rssCeilingBytes;
+    }
+
+    /**
+     * Returns an option that disables sampling.
+     *
+     * @return an option that disables sampling
+     */
+    public static ResourceSampling disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns an option that samples the resources used by an application at the specified interval.
+     *
+     * @param interval  the sampling interval
+     *
+     * @return an option that samples the resources used by an application
+     */
+    public static ResourceSampling every(Duration interval) {
+        return new ResourceSampling(interval, null, -1);
+    }
+
+    /**
+     * Returns the option configured by the system properties, used when the option is not set.
+     *
+     * @return the option configured by the system properties
+     */
+    @OptionsByType.Default
+    public static ResourceSampling fromSystemProperties() {
+        String interval = System.getProperty(PROP_INTERVAL);
+        String dir = System.getProperty(PROP_DIR);
+        String ceiling = System.getProperty(PROP_RSS_CEILING);
+        if (isBlank(interval) && isBlank(dir)) {
+            return DISABLED;
+        }
+        return new ResourceSampling(isBlank(interval) ? DEFAULT_INTERVAL : Duration.ofMillis(Long.parseLong(interval.trim())),
+                isBlank(dir) ? null : new File(dir),
+                isBlank(ceiling) ? -1 : Long.parseLong(ceiling.trim()) * 1024L * 1024L);
+    }
+
+    /**
+     * Returns a copy of this option that writes the samples of each application
+     * to a CSV file in the specified directory when the application is closed.
+     *
+     * @param directory  the directory to write the samples to
+     *
+     * @return a copy of this option that writes the samples to the directory
+     */
+    public ResourceSampling toDirectory(File directory) {
+        return new ResourceSampling(interval == null ? DEFAULT_INTERVAL : interval, directory, rssCeilingBytes);
+    }
+
+    /**
+     * Returns a copy of this option that fails with an {@link AssertionError}
+     * when an application is closed if its resident set size exceeded the ceiling.
+     *
+     * @param bytes  the maximum resident set size in bytes
+     *
+     * @return a copy of this option with the resident set size ceiling
+     */
+    public ResourceSampling withRssCeiling(long bytes) {
+        return new ResourceSampling(interval == null ? DEFAULT_INTERVAL : interval, directory, bytes);
+    }
+
+    /**
+     * Returns {@code true} if sampling is enabled.
+     *
+     * @return {@code true} if sampling is enabled
+     */
+    public boolean isEnabled() {
+        return interval != null;
+    }
+
+    /**
+     * Returns the sampling interval.
+     *
+     * @return the sampling interval, {@code null} if sampling is disabled
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * Returns the directory the samples are written to.
+     *
+     * @return the directory the samples are written to, or {@code null}
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the maximum resident set size.
+     *
+     * @return the maximum resident set size in bytes, or {@code -1} if there is no maximum
+     */
+    public long getRssCeilingBytes() {
+        return rssCeilingBytes;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -7,11 +7,13 @@
 package com.oracle.coherence.graal.testing;
 
 
+import com.oracle.bedrock.Option;
 import com.oracle.bedrock.OptionsByType;
 import com.oracle.bedrock.runtime.AbstractApplication;
 import com.oracle.bedrock.runtime.ApplicationProcess;
 import com.oracle.bedrock.runtime.Platform;
 import com.oracle.bedrock.runtime.SimpleApplication;
+import com.oracle.bedrock.runtime.options.Arguments;
 
 /**
  * A {@link SimpleNativeApplication} is a simple implementation
@@ -21,6 +23,11 @@ public class SimpleNativeApplication
         extends AbstractApplication<ApplicationProcess>
         implements NativeApplication {
 
+    /**
+     * The sampler of the resources used by the application, or {@code null}.
+     */
+    private final ProcessResourceSampler sampler;
+
     /**
      * Constructs a {@link SimpleApplication}
      *
@@ -30,5 +37,46 @@ public class SimpleNativeApplication
      */
     public SimpleNativeApplication(Platform platform, ApplicationProcess process, OptionsByType options) {
         super(platform, process, options);
+        ResourceSampling sampling = options.get(ResourceSampling.class);
+        this.sampler = sampling != null && sampling.isEnabled()
+                ? ProcessResourceSampler.start(getName(), clusterName(platform, options), process.getId(), sampling)
+                : null;
+    }
+
+    /**
+     * Returns the cluster name set by the {@code coherence.cluster} launch argument.
+     *
+     * @param platform the {@link Platform} on which the application was launched
+     * @param options  the {@link OptionsByType} used to launch the application
+     *
+     * @return the cluster name, or {@code null} if it is not set
+     */
+    private static String clusterName(Platform platform, OptionsByType options) {
+        String prefix = "-D" + ProcessResourceSampler.PROP_CLUSTER + "=";
+        Arguments arguments = options.get(Arguments.class);
+        if (arguments != null) {
+            for (String argument : arguments.resolve(platform, options)) {
+                if (argument.startsWith(prefix)) {
+                    return argument.substring(prefix.length());
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public ProcessResourceSampler getResourceSampler() {
+        return sampler;
+    }
+
+    @Override
+    public void close(Option... options) {
+        try {
+            super.close(options);
+        } finally {
+            if (sampler != null) {
+                sampler.close();
+            }
+        }
     }
 }